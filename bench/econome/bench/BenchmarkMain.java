@@ -0,0 +1,55 @@
+package econome.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the EconoMe benchmarks with allocation profiling.
+ * <p>
+ * {@code bench/pom.xml} compiles the benchmarks together with the
+ * application's classes and {@code jmh-core}, running
+ * {@code jmh-generator-annprocess} as the annotation processor, and packages
+ * them into one jar that starts here. They run on the class path, outside
+ * the application module:
+ * </p>
+ * <pre>
+ * mvn -f bench/pom.xml -B package
+ * java -jar bench/target/benchmarks.jar [JMH options]
+ * </pre>
+ * <p>
+ * Any standard JMH option can be passed, e.g. a benchmark name pattern
+ * ({@code Codec}) or {@code -p tasks=1000} to run one dataset size. The GC
+ * profiler is always attached, so each result includes the bytes allocated
+ * per operation ({@code gc.alloc.rate.norm}) and the number of collections.
+ * </p>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Pass command-line options through to JMH.</li>
+ *   <li>Attach the GC profiler to every run.</li>
+ * </ul>
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    } // End of constructor BenchmarkMain
+
+    /**
+     * Runs the selected benchmarks.
+     *
+     * @param args JMH command-line options
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    } // End of method main
+
+} // End of class BenchmarkMain
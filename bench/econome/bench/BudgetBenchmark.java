@@ -0,0 +1,142 @@
+package econome.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import econome.logic.BudgetManager;
+import econome.logic.Projector;
+import econome.logic.SavingsScheduler;
+import econome.model.Money;
+import econome.model.Profile;
+import econome.model.Wants;
+
+/**
+ * Measures the budget and projection calculations behind the dashboard.
+ * <p>
+ * {@link BudgetManager}'s allocations depend only on the profile header, so
+ * they are measured alongside the task totals the dashboard reads next to
+ * them. {@link Projector} is measured across every Want of the profile, once
+ * through the {@link Wants} handles, once on plain cents, and once with the
+ * batch {@link Projector#projectOpenWants(Profile)}, which shows the cost of
+ * the object path. {@link SavingsScheduler} is measured sharing the savings
+ * across all open Wants by deadline and by cost.
+ * </p>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Time the Needs, Wants, and Savings allocation calculations.</li>
+ *   <li>Time goal projections for profiles of 10 to 100k tasks.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BudgetBenchmark {
+
+    // --- Parameters -----------------------------------------------------------
+
+    /** Total Needs and Wants in the profile. */
+    @Param({"10", "1000", "100000"})
+    public int tasks;
+
+
+    // --- State ----------------------------------------------------------------
+
+    private final BudgetManager budgetManager = new BudgetManager();
+    private final Projector projector = new Projector();
+    private final SavingsScheduler scheduler = new SavingsScheduler();
+    private Profile profile;
+    private List<Wants> wants;
+    private long[] wantCents;
+    private long contributionCents;
+
+
+    @Setup
+    public void setUp() {
+        DatasetGenerator generator = new DatasetGenerator();
+        generator.setTasksPerProfile(tasks);
+        generator.setPercentageRatio(1.0);
+        profile = generator.createProfile("Budget", 0);
+        wants = profile.getWantsList();
+        wantCents = new long[wants.size()];
+        for (int i = 0; i < wantCents.length; i++) {
+            wantCents[i] = wants.get(i).getCostCents();
+        }
+        contributionCents = budgetManager.calculateProjectedSavingsCents(profile);
+    } // End of method setUp
+
+
+    // --- Benchmarks -----------------------------------------------------------
+
+    /** The three allocations shown on the Plan screen. */
+    @Benchmark
+    public void allocations(Blackhole blackhole) {
+        blackhole.consume(budgetManager.calculateNeedsCents(profile));
+        blackhole.consume(budgetManager.calculateWantsCents(profile));
+        blackhole.consume(budgetManager.calculateProjectedSavingsCents(profile));
+    } // End of method allocations
+
+    /** The outstanding and completed totals shown next to the allocations. */
+    @Benchmark
+    public void taskTotals(Blackhole blackhole) {
+        blackhole.consume(profile.getOutstandingNeedsCents());
+        blackhole.consume(profile.getOutstandingWantsCents());
+        blackhole.consume(profile.getCompletedNeedsCents());
+        blackhole.consume(profile.getOpenWantsCount());
+    } // End of method taskTotals
+
+    /** Projects every Want through the public {@code Wants}/{@code Profile} overload. */
+    @Benchmark
+    public long projectAllWants() {
+        double contribution = Money.toAmount(contributionCents);
+        long months = 0;
+        for (Wants want : wants) {
+            months += projector.estimateGoalCompletionMonths(want, profile, contribution);
+        }
+        return months;
+    } // End of method projectAllWants
+
+    /** Projects every Want from a plain array of costs. */
+    @Benchmark
+    public long projectAllWantsCents() {
+        long savings = profile.getSavingsBalanceCents();
+        long months = 0;
+        for (long cents : wantCents) {
+            months += projector.estimateGoalCompletionMonths(cents, savings, contributionCents);
+        }
+        return months;
+    } // End of method projectAllWantsCents
+
+    /** Projects every open Want with the batch API. */
+    @Benchmark
+    public Projector.ProjectionTable projectOpenWantsBatch() {
+        return projector.projectOpenWants(profile);
+    } // End of method projectOpenWantsBatch
+
+    /** Schedules every open Want, earliest deadline first. */
+    @Benchmark
+    public SavingsScheduler.Schedule scheduleByDeadline() {
+        return scheduler.schedule(profile, SavingsScheduler.Policy.EARLIEST_DEADLINE_FIRST);
+    } // End of method scheduleByDeadline
+
+    /** Schedules every open Want, sharing savings in proportion to cost. */
+    @Benchmark
+    public SavingsScheduler.Schedule scheduleProportional() {
+        return scheduler.schedule(profile, SavingsScheduler.Policy.PROPORTIONAL);
+    } // End of method scheduleProportional
+
+} // End of class BudgetBenchmark
@@ -0,0 +1,130 @@
+package econome.bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import econome.logic.ProfileCodec;
+import econome.model.Profile;
+
+/**
+ * Measures encoding and decoding of the storage formats in memory.
+ * <p>
+ * The manifest holds every profile header and is rewritten whenever the
+ * profile list changes; a shard holds one profile's tasks and is rewritten
+ * when its journal is compacted. Streams are in memory here, so the results
+ * show the codec's own cost; {@link RepositoryBenchmark} adds the disk.
+ * </p>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Time manifest writes and reads for 1 to 10k profiles.</li>
+ *   <li>Time shard writes and reads for 10 to 100k tasks.</li>
+ *   <li>Print the encoded size of each dataset.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    // --- States ---------------------------------------------------------------
+
+    /** Profile headers for the manifest benchmarks. */
+    @State(Scope.Benchmark)
+    public static class ManifestData {
+
+        /** Number of profiles listed in the manifest. */
+        @Param({"1", "100", "10000"})
+        public int profiles;
+
+        List<Profile> list;
+        final Map<Profile, Integer> shardIds = new IdentityHashMap<>();
+        byte[] encoded;
+
+        @Setup
+        public void setUp() throws IOException {
+            DatasetGenerator generator = new DatasetGenerator();
+            generator.setProfileCount(profiles);
+            generator.setTasksPerProfile(0);
+            list = generator.createProfiles();
+            for (int i = 0; i < list.size(); i++) {
+                shardIds.put(list.get(i), i + 1);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ProfileCodec.writeManifest(out, profiles + 1, list, shardIds::get);
+            encoded = out.toByteArray();
+            System.out.println("[CodecBenchmark] Manifest of " + profiles + " profiles: " + encoded.length + " bytes");
+        }
+    } // End of class ManifestData
+
+    /** One profile's tasks for the shard benchmarks. */
+    @State(Scope.Benchmark)
+    public static class ShardData {
+
+        /** Total Needs and Wants in the shard. */
+        @Param({"10", "1000", "100000"})
+        public int tasks;
+
+        Profile profile;
+        byte[] encoded;
+
+        @Setup
+        public void setUp() throws IOException {
+            DatasetGenerator generator = new DatasetGenerator();
+            generator.setTasksPerProfile(tasks);
+            profile = generator.createProfile("Shard", 0);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ProfileCodec.writeShard(out, profile.getNeedColumns(), profile.getWantColumns(), 0L);
+            encoded = out.toByteArray();
+            System.out.println("[CodecBenchmark] Shard of " + tasks + " tasks: " + encoded.length + " bytes");
+        }
+    } // End of class ShardData
+
+
+    // --- Manifest -------------------------------------------------------------
+
+    @Benchmark
+    public byte[] writeManifest(ManifestData data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.encoded.length);
+        ProfileCodec.writeManifest(out, data.profiles + 1, data.list, data.shardIds::get);
+        return out.toByteArray();
+    } // End of method writeManifest
+
+    @Benchmark
+    public ProfileCodec.Manifest readManifest(ManifestData data) throws IOException {
+        return ProfileCodec.readManifest(new ByteArrayInputStream(data.encoded));
+    } // End of method readManifest
+
+
+    // --- Shards ---------------------------------------------------------------
+
+    @Benchmark
+    public byte[] writeShard(ShardData data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.encoded.length);
+        ProfileCodec.writeShard(out, data.profile.getNeedColumns(), data.profile.getWantColumns(), 0L);
+        return out.toByteArray();
+    } // End of method writeShard
+
+    @Benchmark
+    public ProfileCodec.Shard readShard(ShardData data) throws IOException {
+        return ProfileCodec.readShard(new ByteArrayInputStream(data.encoded));
+    } // End of method readShard
+
+} // End of class CodecBenchmark
@@ -0,0 +1,301 @@
+package econome.bench;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import econome.logic.AutosaveScheduler;
+import econome.logic.ProfileManager;
+import econome.model.Money;
+import econome.model.Needs;
+import econome.model.Profile;
+import econome.model.TaskColumns;
+import econome.model.Wants;
+
+/**
+ * Creates synthetic EconoMe profiles that resemble real user data.
+ * <p>
+ * Every profile gets its own random stream derived from the seed and its
+ * index, so the same settings always produce the same profiles, and one
+ * profile can be recreated without generating the ones before it. Tasks are
+ * appended straight to {@link TaskColumns} and installed with
+ * {@link Profile#restoreTasks(TaskColumns, TaskColumns)}, so creating a
+ * profile never journals or touches the disk; {@link #writeTo(ProfileManager)}
+ * then stores the profiles through the real {@link ProfileManager}.
+ * </p>
+ * <p>
+ * Run from the command line to fill a data directory, for example:
+ * </p>
+ * <pre>
+ * java -Deconome.data.dir=/tmp/econome -cp ... econome.bench.DatasetGenerator \
+ *      profiles=1000 needs=200 wants=50 completed=0.4 dueSpread=730
+ * </pre>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Generate profiles with configurable Needs and Wants counts.</li>
+ *   <li>Spread due dates, costs, completion, and allocation modes like real data.</li>
+ *   <li>Store generated profiles through {@link ProfileManager}.</li>
+ * </ul>
+ */
+public final class DatasetGenerator {
+
+    // --- Constants ------------------------------------------------------------
+
+    /** Seed used unless another one is set. */
+    public static final long DEFAULT_SEED = 0xEC0_20E5L;
+
+    /** Command-line settings accepted by {@link #main(String[])}. */
+    private static final Set<String> SETTINGS = Set.of(
+            "profiles", "needs", "wants", "dueSpread", "undated", "completed", "percentage", "seed");
+
+    /** Descriptions are drawn from a small vocabulary, as in real profiles. */
+    private static final String[] NEED_NAMES = {
+        "Rent", "Groceries", "Water Bill", "Electric Bill", "Phone", "Insurance", "Gas", "Tuition"
+    };
+    private static final String[] WANT_NAMES = {
+        "Laptop", "Concert", "Vacation", "Headphones", "Bike", "Camera", "Games", "Dinner Out"
+    };
+
+    /** Mixes the profile index into the seed so that neighbouring profiles differ. */
+    private static final long INDEX_MIX = 0x9E37_79B9_7F4A_7C15L;
+
+
+    // --- Settings -------------------------------------------------------------
+    private int profileCount = 100;
+    private int needsPerProfile = 50;
+    private int wantsPerProfile = 50;
+    private int dueSpreadDays = 365;      // Due dates fall within this many days of today
+    private double undatedRatio = 0.1;    // Share of tasks without a due date
+    private double completedRatio = 0.3;  // Share of tasks already complete
+    private double percentageRatio = 0.8; // Share of profiles allocating by percentage
+    private long seed = DEFAULT_SEED;
+
+
+    // --- Settings Accessors ---------------------------------------------------
+
+    /** @param profileCount number of profiles {@link #createProfiles()} creates */
+    public void setProfileCount(int profileCount) { this.profileCount = requireNonNegative(profileCount); }
+
+    /** @param needsPerProfile number of Needs in each profile */
+    public void setNeedsPerProfile(int needsPerProfile) { this.needsPerProfile = requireNonNegative(needsPerProfile); }
+
+    /** @param wantsPerProfile number of Wants in each profile */
+    public void setWantsPerProfile(int wantsPerProfile) { this.wantsPerProfile = requireNonNegative(wantsPerProfile); }
+
+    /**
+     * Splits a total number of tasks evenly between Needs and Wants.
+     *
+     * @param tasks total Needs and Wants in each profile
+     */
+    public void setTasksPerProfile(int tasks) {
+        requireNonNegative(tasks);
+        this.needsPerProfile = tasks - tasks / 2;
+        this.wantsPerProfile = tasks / 2;
+    } // End of method setTasksPerProfile
+
+    /** @param dueSpreadDays due dates fall up to this many days before or after today */
+    public void setDueSpreadDays(int dueSpreadDays) { this.dueSpreadDays = requireNonNegative(dueSpreadDays); }
+
+    /** @param undatedRatio share of tasks, 0 to 1, without a due date */
+    public void setUndatedRatio(double undatedRatio) { this.undatedRatio = requireRatio(undatedRatio); }
+
+    /** @param completedRatio share of tasks, 0 to 1, that are already complete */
+    public void setCompletedRatio(double completedRatio) { this.completedRatio = requireRatio(completedRatio); }
+
+    /** @param percentageRatio share of profiles, 0 to 1, that allocate by percentage rather than fixed amounts */
+    public void setPercentageRatio(double percentageRatio) { this.percentageRatio = requireRatio(percentageRatio); }
+
+    /** @param seed seed of all generated values */
+    public void setSeed(long seed) { this.seed = seed; }
+
+
+    // -------------------------------------------------------------------------
+    // GENERATION
+    // -------------------------------------------------------------------------
+
+    /**
+     * Creates the profile at an index, named {@code "Profile <index>"}.
+     *
+     * @param index the profile's position in the dataset
+     * @return the populated profile, not yet stored
+     */
+    public Profile createProfile(int index) {
+        return createProfile("Profile " + index, index);
+    } // End of method createProfile
+
+    /**
+     * Creates the profile at an index under a custom name.
+     *
+     * @param name  the profile name
+     * @param index the profile's position in the dataset, which selects its values
+     * @return the populated profile, not yet stored
+     */
+    public Profile createProfile(String name, int index) {
+        SplittableRandom random = new SplittableRandom(seed + index * INDEX_MIX);
+        Profile profile = new Profile(name, 1_000 + random.nextInt(9_000), random.nextInt(5_000));
+
+        // --- Allocations: a plausible split, as percentages or as amounts ---
+        double needs = 40 + random.nextInt(21);
+        double wants = 15 + random.nextInt(21);
+        double savings = 100 - needs - wants;
+        if (random.nextDouble() < percentageRatio) {
+            profile.restoreAllocations(needs, wants, savings, true);
+        } else {
+            double income = profile.getIncome();
+            profile.restoreAllocations(income * needs / 100, income * wants / 100, income * savings / 100, false);
+        }
+
+        // --- Tasks ---
+        int today = (int) LocalDate.now().toEpochDay();
+        TaskColumns<Needs> needColumns = TaskColumns.forNeeds();
+        TaskColumns<Wants> wantColumns = TaskColumns.forWants();
+        for (int i = 0; i < needsPerProfile; i++) {
+            appendTask(needColumns, NEED_NAMES, 2_000, today, random);
+        }
+        for (int i = 0; i < wantsPerProfile; i++) {
+            appendTask(wantColumns, WANT_NAMES, 5_000, today, random);
+        }
+        profile.restoreTasks(needColumns, wantColumns);
+        return profile;
+    } // End of method createProfile
+
+    /**
+     * Creates every profile of the dataset.
+     *
+     * @return the profiles, in index order
+     */
+    public List<Profile> createProfiles() {
+        List<Profile> profiles = new ArrayList<>(profileCount);
+        for (int i = 0; i < profileCount; i++) {
+            profiles.add(createProfile(i));
+        }
+        return profiles;
+    } // End of method createProfiles
+
+    /**
+     * Creates every profile and stores it through a {@link ProfileManager},
+     * returning once all of them are on disk.
+     *
+     * @param manager the manager to add the profiles to
+     * @return the stored profiles
+     */
+    public List<Profile> writeTo(ProfileManager manager) {
+        List<Profile> profiles = createProfiles();
+        CompletableFuture<?>[] writes = new CompletableFuture<?>[profiles.size()];
+        for (int i = 0; i < writes.length; i++) {
+            writes[i] = manager.addProfile(profiles.get(i));
+        }
+        AutosaveScheduler.getInstance().flushSoon();
+        CompletableFuture.allOf(writes).join();
+        return profiles;
+    } // End of method writeTo
+
+    @Override
+    public String toString() {
+        return String.format("%d profiles × (%d Needs + %d Wants), due ±%d days, %.0f%% undated, "
+                        + "%.0f%% completed, %.0f%% by percentage, seed %d",
+                profileCount, needsPerProfile, wantsPerProfile, dueSpreadDays, undatedRatio * 100,
+                completedRatio * 100, percentageRatio * 100, seed);
+    } // End of method toString
+
+
+    // -------------------------------------------------------------------------
+    // COMMAND LINE
+    // -------------------------------------------------------------------------
+
+    /**
+     * Generates a dataset into the directory given by {@code econome.data.dir}.
+     *
+     * @param args settings as {@code name=value} pairs: {@code profiles},
+     *             {@code needs}, {@code wants}, {@code dueSpread},
+     *             {@code undated}, {@code completed}, {@code percentage},
+     *             {@code seed}
+     */
+    public static void main(String[] args) {
+        DatasetGenerator generator = new DatasetGenerator();
+        generator.configure(parseSettings(args, SETTINGS));
+        System.out.println("Generating " + generator + " into "
+                + System.getProperty("econome.data.dir", "."));
+
+        long start = System.nanoTime();
+        List<Profile> profiles = generator.writeTo(new ProfileManager());
+        System.out.printf("Stored %d profiles in %.1f ms%n", profiles.size(), (System.nanoTime() - start) / 1e6);
+        System.exit(0); // The autosave thread has already written everything
+    } // End of method main
+
+    /**
+     * Applies settings parsed from the command line.
+     *
+     * @param settings values keyed by setting name
+     */
+    void configure(Map<String, String> settings) {
+        settings.forEach((name, value) -> {
+            switch (name) {
+                case "profiles" -> setProfileCount(Integer.parseInt(value));
+                case "needs" -> setNeedsPerProfile(Integer.parseInt(value));
+                case "wants" -> setWantsPerProfile(Integer.parseInt(value));
+                case "dueSpread" -> setDueSpreadDays(Integer.parseInt(value));
+                case "undated" -> setUndatedRatio(Double.parseDouble(value));
+                case "completed" -> setCompletedRatio(Double.parseDouble(value));
+                case "percentage" -> setPercentageRatio(Double.parseDouble(value));
+                case "seed" -> setSeed(Long.parseLong(value));
+                default -> { } // Settings of other tools, e.g. LoadDriver
+            }
+        });
+    } // End of method configure
+
+    /**
+     * Parses {@code name=value} arguments.
+     *
+     * @param args    the command-line arguments
+     * @param allowed the accepted setting names
+     * @return the values keyed by name, in argument order
+     * @throws IllegalArgumentException if an argument is malformed or unknown
+     */
+    static Map<String, String> parseSettings(String[] args, Set<String> allowed) {
+        Map<String, String> settings = new LinkedHashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            String name = equals > 0 ? arg.substring(0, equals) : arg;
+            if (equals <= 0 || !allowed.contains(name)) {
+                throw new IllegalArgumentException("Unknown setting \"" + arg + "\"; expected name=value with name in "
+                        + allowed);
+            }
+            settings.put(name, arg.substring(equals + 1));
+        }
+        return settings;
+    } // End of method parseSettings
+
+
+    // --- Private Helpers ------------------------------------------------------
+
+    /** Appends one task with a random description, cost, due date, and completion. */
+    private void appendTask(TaskColumns<?> columns, String[] names, int maxCost, int today, SplittableRandom random) {
+        String description = names[random.nextInt(names.length)];
+        long cents = Money.ofAmount(5 + random.nextInt(maxCost)) + random.nextInt(100);
+        int epochDay = random.nextDouble() < undatedRatio
+                ? TaskColumns.NO_DATE
+                : today + random.nextInt(-dueSpreadDays, dueSpreadDays + 1);
+        columns.append(description, cents, epochDay, random.nextDouble() < completedRatio);
+    } // End of method appendTask
+
+    private static int requireNonNegative(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Expected a non-negative count, got " + value);
+        }
+        return value;
+    } // End of method requireNonNegative
+
+    private static double requireRatio(double value) {
+        if (!(value >= 0 && value <= 1)) {
+            throw new IllegalArgumentException("Expected a ratio between 0 and 1, got " + value);
+        }
+        return value;
+    } // End of method requireRatio
+
+} // End of class DatasetGenerator
@@ -0,0 +1,330 @@
+package econome.bench;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import econome.logic.AutosaveScheduler;
+import econome.logic.ProfileManager;
+import econome.model.Needs;
+import econome.model.Profile;
+import econome.model.TaskItem;
+import econome.model.Wants;
+
+/**
+ * Replays a mixed workload against stored EconoMe profiles and reports
+ * throughput and latency.
+ * <p>
+ * Operations (add a task, complete one, delete one, change the allocations)
+ * are issued at a fixed target rate on a single thread, the way the UI
+ * mutates profiles on the Event Dispatch Thread. The schedule is open-loop:
+ * each operation's latency is measured from the moment it was due to start,
+ * not from when the driver got around to it, so a slow operation also shows
+ * up in the latency of the operations queued behind it. Service time, the
+ * time spent inside the call, is reported separately.
+ * </p>
+ * <p>
+ * Profiles are read from {@code econome.data.dir}; if it is empty, a dataset
+ * is first generated with {@link DatasetGenerator}, which accepts the same
+ * generator settings here. For example:
+ * </p>
+ * <pre>
+ * java -Deconome.data.dir=/tmp/econome -cp ... econome.bench.LoadDriver \
+ *      rate=500 seconds=60 mix=add:40,complete:30,delete:20,allocate:10
+ * </pre>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Issue add, complete, delete, and allocation changes at a target rate.</li>
+ *   <li>Record the latency of each operation type after a warm-up.</li>
+ *   <li>Report throughput, p50, p99, and the cost of the final flush.</li>
+ * </ul>
+ */
+public final class LoadDriver {
+
+    // --- Constants ------------------------------------------------------------
+
+    /** Settings accepted by {@link #main(String[])}, including the generator's. */
+    private static final Set<String> DRIVER_SETTINGS = Set.of("rate", "seconds", "warmup", "mix", "seed", "profiles",
+            "needs", "wants", "dueSpread", "undated", "completed", "percentage");
+
+    /** Busy-wait this close to an operation's start instead of parking. */
+    private static final long SPIN_NANOS = 200_000L;
+
+    /** Longest wait for the final flush. */
+    private static final long FLUSH_TIMEOUT_SECONDS = 60L;
+
+    /** The operations in the workload. */
+    enum Operation { ADD, COMPLETE, DELETE, ALLOCATE }
+
+
+    // --- Settings -------------------------------------------------------------
+    private int rate = 200;         // Operations per second
+    private int seconds = 30;       // Measured duration
+    private int warmupSeconds = 5;  // Unrecorded duration before measuring
+    private final EnumMap<Operation, Integer> mix = new EnumMap<>(Map.of(
+            Operation.ADD, 40, Operation.COMPLETE, 30, Operation.DELETE, 20, Operation.ALLOCATE, 10));
+    private long seed = DatasetGenerator.DEFAULT_SEED;
+
+    // --- State ----------------------------------------------------------------
+    private final List<Profile> profiles;
+    private final Map<Operation, LatencyRecorder> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LatencyRecorder> serviceTimes = new EnumMap<>(Operation.class);
+    private long measuredNanos;
+    private int counter; // Numbers the descriptions of added tasks
+
+
+    /**
+     * Creates a driver for the given profiles.
+     *
+     * @param profiles the stored profiles to mutate
+     */
+    public LoadDriver(List<Profile> profiles) {
+        if (profiles.isEmpty()) {
+            throw new IllegalArgumentException("The load driver needs at least one profile");
+        }
+        this.profiles = new ArrayList<>(profiles);
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyRecorder());
+            serviceTimes.put(operation, new LatencyRecorder());
+        }
+    } // End of constructor LoadDriver
+
+
+    // -------------------------------------------------------------------------
+    // COMMAND LINE
+    // -------------------------------------------------------------------------
+
+    /**
+     * Loads or generates profiles, runs the workload, and prints the report.
+     *
+     * @param args settings as {@code name=value} pairs: {@code rate},
+     *             {@code seconds}, {@code warmup}, {@code mix} (e.g.
+     *             {@code add:40,complete:30,delete:20,allocate:10}),
+     *             {@code seed}, and the {@link DatasetGenerator} settings
+     */
+    public static void main(String[] args) {
+        Map<String, String> settings = DatasetGenerator.parseSettings(args, DRIVER_SETTINGS);
+        ProfileManager manager = new ProfileManager();
+
+        long start = System.nanoTime();
+        List<Profile> profiles = manager.getProfiles();
+        if (profiles.isEmpty()) {
+            DatasetGenerator generator = new DatasetGenerator();
+            generator.configure(settings);
+            System.out.println("No stored profiles; generating " + generator);
+            profiles = generator.writeTo(manager);
+        }
+        profiles.forEach(Profile::loadTasks);
+        System.out.printf("Loaded %d profiles in %.1f ms%n", profiles.size(), (System.nanoTime() - start) / 1e6);
+
+        LoadDriver driver = new LoadDriver(profiles);
+        driver.configure(settings);
+        driver.run();
+        System.out.print(driver.report());
+        System.exit(0);
+    } // End of method main
+
+    /** Applies the driver's own settings; generator settings are ignored. */
+    private void configure(Map<String, String> settings) {
+        settings.forEach((name, value) -> {
+            switch (name) {
+                case "rate" -> rate = Math.max(1, Integer.parseInt(value));
+                case "seconds" -> seconds = Math.max(1, Integer.parseInt(value));
+                case "warmup" -> warmupSeconds = Math.max(0, Integer.parseInt(value));
+                case "mix" -> parseMix(value);
+                case "seed" -> seed = Long.parseLong(value);
+                default -> { } // Dataset settings, used only when generating
+            }
+        });
+    } // End of method configure
+
+    /** Parses e.g. {@code add:40,complete:30,delete:20,allocate:10}; omitted operations get weight 0. */
+    private void parseMix(String value) {
+        mix.replaceAll((operation, weight) -> 0);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight in mix, got \"" + entry + "\"");
+            }
+            mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), Math.max(0, Integer.parseInt(parts[1].trim())));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("The mix needs at least one operation with a positive weight");
+        }
+    } // End of method parseMix
+
+
+    // -------------------------------------------------------------------------
+    // WORKLOAD
+    // -------------------------------------------------------------------------
+
+    /** Runs the warm-up and the measured period. */
+    public void run() {
+        SplittableRandom random = new SplittableRandom(seed);
+        Operation[] table = weightedTable();
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long warmupCount = (long) warmupSeconds * rate;
+        long total = warmupCount + (long) seconds * rate;
+
+        long start = System.nanoTime();
+        long measuredStart = start + warmupCount * interval;
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * interval;
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                // Park until shortly before the start, then spin: a park can overshoot by ~0.1 ms
+                if (intended - now > SPIN_NANOS) LockSupport.parkNanos(intended - now - SPIN_NANOS);
+                else Thread.onSpinWait();
+            }
+
+            Operation operation = table[random.nextInt(table.length)];
+            perform(operation, random);
+            long end = System.nanoTime();
+
+            if (i >= warmupCount) {
+                latencies.get(operation).record(end - intended);
+                serviceTimes.get(operation).record(end - now);
+            }
+        }
+        measuredNanos = System.nanoTime() - measuredStart;
+    } // End of method run
+
+    /** Performs one operation on a random profile through the public model API. */
+    private void perform(Operation operation, SplittableRandom random) {
+        Profile profile = profiles.get(random.nextInt(profiles.size()));
+        boolean need = random.nextBoolean();
+        switch (operation) {
+            case ADD -> {
+                LocalDate due = LocalDate.now().plusDays(random.nextInt(-30, 366));
+                double cost = 5 + random.nextInt(2_000);
+                if (need) profile.addNeed(new Needs("Load need " + counter++, cost, due));
+                else profile.addWant(new Wants("Load want " + counter++, cost, due));
+            }
+            case COMPLETE -> {
+                if (need) {
+                    Needs item = pickOpen(profile.getNeedsList(), random);
+                    if (item != null) profile.markNeedComplete(item);
+                } else {
+                    Wants item = pickOpen(profile.getWantsList(), random);
+                    if (item != null) profile.markWantComplete(item);
+                }
+            }
+            case DELETE -> {
+                List<? extends TaskItem> list = need ? profile.getNeedsList() : profile.getWantsList();
+                if (list.isEmpty()) return;
+                TaskItem item = list.get(random.nextInt(list.size()));
+                if (item instanceof Needs needItem) profile.removeNeed(needItem);
+                else profile.removeWant((Wants) item);
+            }
+            case ALLOCATE -> {
+                double needs = 40 + random.nextInt(21);
+                double wants = 15 + random.nextInt(21);
+                profile.setAllocations(needs, wants, 100 - needs - wants, true);
+            }
+        }
+    } // End of method perform
+
+    /** @return a random open item, sampling a few rows, or {@code null} if none was found */
+    private static <T extends TaskItem> T pickOpen(List<T> list, SplittableRandom random) {
+        for (int attempt = 0; attempt < 8 && !list.isEmpty(); attempt++) {
+            T item = list.get(random.nextInt(list.size()));
+            if (!item.isComplete()) {
+                return item;
+            }
+        }
+        return null;
+    } // End of method pickOpen
+
+    /** @return the operations repeated by weight, for uniform sampling */
+    private Operation[] weightedTable() {
+        List<Operation> table = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) table.add(operation);
+        });
+        return table.toArray(Operation[]::new);
+    } // End of method weightedTable
+
+
+    // -------------------------------------------------------------------------
+    // REPORT
+    // -------------------------------------------------------------------------
+
+    /**
+     * Flushes pending writes and builds the report of the last run.
+     *
+     * @return a multi-line report of throughput and latencies per operation
+     */
+    public String report() {
+        long flushStart = System.nanoTime();
+        boolean flushed = AutosaveScheduler.getInstance().flush(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        long flushNanos = System.nanoTime() - flushStart;
+
+        StringBuilder out = new StringBuilder();
+        long operations = latencies.values().stream().mapToLong(LatencyRecorder::count).sum();
+        out.append(String.format("Ran %d operations in %.1f s: %.1f ops/s (target %d)%n",
+                operations, measuredNanos / 1e9, operations / (measuredNanos / 1e9), rate));
+        out.append(String.format("%-9s %8s %10s %10s %10s %10s %12s%n",
+                "", "count", "p50 ms", "p99 ms", "max ms", "svc p50", "svc p99"));
+        for (Operation operation : Operation.values()) {
+            LatencyRecorder latency = latencies.get(operation);
+            LatencyRecorder service = serviceTimes.get(operation);
+            if (latency.count() == 0) continue;
+            out.append(String.format("%-9s %8d %10.3f %10.3f %10.3f %10.3f %12.3f%n",
+                    operation.name().toLowerCase(), latency.count(),
+                    latency.percentile(50) / 1e6, latency.percentile(99) / 1e6, latency.max() / 1e6,
+                    service.percentile(50) / 1e6, service.percentile(99) / 1e6));
+        }
+        if (operations == 0) {
+            out.append("(no operations measured)").append(System.lineSeparator());
+        }
+        out.append(String.format("Final flush: %.1f ms%s%n", flushNanos / 1e6, flushed ? "" : " (timed out)"));
+        out.append(AutosaveScheduler.getInstance()).append(System.lineSeparator());
+        return out.toString();
+    } // End of method report
+
+
+    // -------------------------------------------------------------------------
+    // LATENCY RECORDING
+    // -------------------------------------------------------------------------
+
+    /** Keeps every sample so that percentiles are exact. */
+    private static final class LatencyRecorder {
+        private long[] samples = new long[1024];
+        private int count;
+        private boolean sorted = true;
+
+        void record(long nanos) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+            sorted = false;
+        }
+
+        long count() {
+            return count;
+        }
+
+        long percentile(double percentile) {
+            if (count == 0) return 0L;
+            if (!sorted) {
+                Arrays.sort(samples, 0, count);
+                sorted = true;
+            }
+            int rank = (int) Math.ceil(count * percentile / 100.0);
+            return samples[Math.max(0, Math.min(count, rank) - 1)];
+        }
+
+        long max() {
+            return percentile(100);
+        }
+    } // End of class LatencyRecorder
+
+} // End of class LoadDriver
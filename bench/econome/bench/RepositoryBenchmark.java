@@ -0,0 +1,203 @@
+package econome.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import econome.logic.AutosaveScheduler;
+import econome.logic.ProfileManager;
+import econome.logic.ProfileRepository;
+import econome.model.Profile;
+
+/**
+ * Measures saving and loading profiles through the real storage layer,
+ * including the atomic file replacement.
+ * <p>
+ * The shared {@link ProfileRepository} reads its data directory on first
+ * use, so every benchmark runs in its own fork (JMH forks once per
+ * benchmark and parameter combination) against a fresh temporary
+ * directory. The coalescing window of {@link AutosaveScheduler} is set to
+ * zero and each save waits for its write to finish, so a result is the
+ * full cost of getting a change onto disk.
+ * </p>
+ * <p>
+ * {@code ProfileManager.loadProfiles} and {@code saveProfiles} no longer
+ * exist; the benchmarks time what replaced them. Loading is
+ * {@link ProfileRepository#open(File)}, the same startup the shared
+ * instance runs for the first {@link ProfileManager}. Saving the list is
+ * {@link ProfileManager#addProfile} and {@link ProfileManager#deleteProfile},
+ * which each rewrite the manifest where they used to call {@code saveProfiles}.
+ * </p>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Time {@link Profile#saveProfile()} for 10 to 100k tasks.</li>
+ *   <li>Time saving and loading the profile list for 1 to 10k profiles.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    // --- Constants ------------------------------------------------------------
+
+    /** Tasks in each profile of the profile-list benchmarks. */
+    private static final int TASKS_PER_LISTED_PROFILE = 10;
+
+    /** Longest wait for a save to reach disk. */
+    private static final long FLUSH_TIMEOUT_SECONDS = 60L;
+
+    /** Set once this JVM has pointed the storage layer at a directory. */
+    private static boolean dataDirectoryAssigned;
+
+
+    // --- States ---------------------------------------------------------------
+
+    /** One stored profile for the save benchmark. */
+    @State(Scope.Benchmark)
+    public static class SavedProfile {
+
+        /** Total Needs and Wants in the profile. */
+        @Param({"10", "1000", "100000"})
+        public int tasks;
+
+        Profile profile;
+        File directory;
+
+        @Setup
+        public void setUp() {
+            directory = useTemporaryDataDirectory();
+            DatasetGenerator generator = new DatasetGenerator();
+            generator.setTasksPerProfile(tasks);
+            profile = generator.createProfile("Saved", 0);
+            new ProfileManager().addProfile(profile).join();
+        }
+
+        @TearDown
+        public void tearDown() {
+            deleteDataDirectory(directory);
+        }
+    } // End of class SavedProfile
+
+    /** A stored list of profiles for the manifest benchmarks. */
+    @State(Scope.Benchmark)
+    public static class SavedList {
+
+        /** Number of stored profiles. */
+        @Param({"1", "100", "10000"})
+        public int profiles;
+
+        final Profile added = new Profile("Added", 0, 0);
+        ProfileManager manager;
+        File directory;
+
+        @Setup
+        public void setUp() {
+            directory = useTemporaryDataDirectory();
+            manager = new ProfileManager();
+            DatasetGenerator generator = new DatasetGenerator();
+            generator.setProfileCount(profiles);
+            generator.setTasksPerProfile(TASKS_PER_LISTED_PROFILE);
+            generator.writeTo(manager);
+        }
+
+        @TearDown
+        public void tearDown() {
+            deleteDataDirectory(directory);
+        }
+    } // End of class SavedList
+
+
+    // --- Benchmarks -----------------------------------------------------------
+
+    /** Rewrites one profile's tasks and the profile list. */
+    @Benchmark
+    public void saveProfile(SavedProfile state) {
+        state.profile.saveProfile();
+        flush();
+    } // End of method saveProfile
+
+    /**
+     * Adds a profile and deletes it again, rewriting the profile list after
+     * each, as {@code ProfileManager.saveProfiles} did.
+     */
+    @Benchmark
+    public void saveProfileList(SavedList state) {
+        state.manager.addProfile(state.added).join();
+        state.manager.deleteProfile(state.added).join();
+    } // End of method saveProfileList
+
+    /**
+     * Loads the profile list from disk the way the application does at
+     * startup, as {@code ProfileManager.loadProfiles} did: reads the
+     * manifest and registers and indexes every profile. Task shards stay
+     * on disk until a profile is opened.
+     */
+    @Benchmark
+    public List<Profile> loadProfileList(SavedList state) {
+        return ProfileRepository.open(state.directory).getProfiles();
+    } // End of method loadProfileList
+
+
+    // --- Private Helpers ------------------------------------------------------
+
+    /**
+     * Points the storage layer at a new temporary directory. Must run before
+     * the first use of the shared {@link ProfileRepository} in the fork.
+     *
+     * @return the data directory
+     */
+    private static File useTemporaryDataDirectory() {
+        // The shared ProfileRepository reads econome.data.dir once per JVM; a second trial would write elsewhere
+        if (dataDirectoryAssigned) {
+            throw new IllegalStateException("RepositoryBenchmark needs a fresh fork per trial; do not run it with -f 0");
+        }
+        dataDirectoryAssigned = true;
+        try {
+            File directory = Files.createTempDirectory("econome-bench").toFile();
+            System.setProperty("econome.data.dir", directory.getPath());
+            System.setProperty("econome.autosave.windowMs", "0");
+            return directory;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create the benchmark data directory", e);
+        }
+    } // End of method useTemporaryDataDirectory
+
+    /** Deletes a data directory created by {@link #useTemporaryDataDirectory()}, after pending writes. */
+    private static void deleteDataDirectory(File directory) {
+        flush();
+        try (Stream<Path> paths = Files.walk(directory.toPath())) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("⚠️ [RepositoryBenchmark] Could not delete " + directory + ": " + e.getMessage());
+        }
+    } // End of method deleteDataDirectory
+
+    /** Waits until every scheduled write is on disk. */
+    private static void flush() {
+        if (!AutosaveScheduler.getInstance().flush(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Pending writes did not finish");
+        }
+    } // End of method flush
+
+} // End of class RepositoryBenchmark
@@ -0,0 +1,314 @@
+package econome.logic;
+
+import econome.model.Money;
+import econome.model.Profile;
+import econome.model.Wants;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Compares many Needs / Wants / Savings percentage splits for a profile and
+ * keeps the ones worth considering.
+ * <p>
+ * The Settings screen applies one split at a time through
+ * {@link Profile#setAllocations}. This class tries every split on a grid
+ * (every 1% by default) within optional bounds, and works out for each
+ * split the monthly Savings contribution, exactly as {@link BudgetManager}
+ * would, and the resulting schedule of the profile's open Wants as in
+ * {@link SavingsScheduler}.
+ * </p>
+ * <p>
+ * A split <i>dominates</i> another if it gives Needs and Wants at least as
+ * much, and its Wants are late no more often, miss their due dates by no
+ * more in total, and are all funded no later — and it is strictly better in
+ * at least one of these. Only splits that no other split dominates are
+ * returned (the Pareto front). In practice this drops splits that save more
+ * without funding any Want sooner.
+ * </p>
+ * <p>
+ * The Wants' funding thresholds do not depend on the contribution, so they
+ * are computed once; each split then costs one pass over the Wants, with
+ * no schedule built. Splits are evaluated in parallel on the common
+ * fork-join pool. The front is then found in one ordered pass: splits are
+ * sorted by Needs and then Wants share, both descending, so anything that
+ * dominates a split comes before it.
+ * </p>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Enumerate allocation splits on a grid within the given bounds.</li>
+ *   <li>Evaluate each split's effect on the Wants' completion and due dates.</li>
+ *   <li>Prune dominated splits and return the Pareto-optimal ones.</li>
+ * </ul>
+ */
+public class AllocationExplorer {
+
+    /** Grid step used unless set otherwise, in percent. */
+    public static final double DEFAULT_STEP_PERCENT = 1.0;
+
+    /** Basis points in 100%. */
+    private static final long WHOLE = Money.BASIS_POINTS_PER_WHOLE;
+
+    // --- Settings (basis points) ---
+    private long step = Money.ofAmount(DEFAULT_STEP_PERCENT);
+    private long minNeeds = 0;
+    private long maxNeeds = WHOLE;
+    private long minWants = 0;
+    private long maxWants = WHOLE;
+    private long minSavings = 0;
+    private SavingsScheduler.Policy policy = SavingsScheduler.Policy.EARLIEST_DEADLINE_FIRST;
+    private ToDoubleFunction<Wants> priority = want -> 1.0;
+
+
+    // -------------------------------------------------------------------------
+    // SETTINGS
+    // -------------------------------------------------------------------------
+
+    /** @param stepPercent distance between neighbouring splits, in percent (e.g. {@code 1} or {@code 0.5}) */
+    public void setStepPercent(double stepPercent) {
+        long value = toBasisPoints(stepPercent);
+        if (value <= 0) {
+            throw new IllegalArgumentException("Step must be positive, was " + stepPercent);
+        }
+        this.step = value;
+    } // End of method setStepPercent
+
+    /**
+     * @param minPercent smallest Needs share tried, e.g. what the Needs
+     *                   actually cost each month
+     * @param maxPercent largest Needs share tried
+     */
+    public void setNeedsRange(double minPercent, double maxPercent) {
+        long min = toBasisPoints(minPercent);
+        long max = requireRange(min, toBasisPoints(maxPercent), "Needs");
+        this.minNeeds = min;
+        this.maxNeeds = max;
+    } // End of method setNeedsRange
+
+    /**
+     * @param minPercent smallest Wants share tried
+     * @param maxPercent largest Wants share tried
+     */
+    public void setWantsRange(double minPercent, double maxPercent) {
+        long min = toBasisPoints(minPercent);
+        long max = requireRange(min, toBasisPoints(maxPercent), "Wants");
+        this.minWants = min;
+        this.maxWants = max;
+    } // End of method setWantsRange
+
+    /** @param minPercent smallest Savings share tried */
+    public void setMinimumSavingsPercent(double minPercent) {
+        this.minSavings = requireRange(toBasisPoints(minPercent), WHOLE, "Savings");
+    } // End of method setMinimumSavingsPercent
+
+    /** @param policy how Wants share the savings */
+    public void setPolicy(SavingsScheduler.Policy policy) { this.policy = policy; }
+
+    /** @param priority weight of each Want under {@link SavingsScheduler.Policy#PRIORITY_WEIGHTED} */
+    public void setPriority(ToDoubleFunction<Wants> priority) { this.priority = priority; }
+
+
+    // -------------------------------------------------------------------------
+    // RESULTS
+    // -------------------------------------------------------------------------
+
+    /** One allocation split and its effect on the profile's Wants. */
+    public static final class Scenario {
+        private final SavingsScheduler.FundingPlan plan;
+        private final long savingsBalanceCents;
+        private final long needsBasisPoints;
+        private final long wantsBasisPoints;
+        private final long[] shares;  // Needs, Wants, Savings in cents
+        private final int lateCount;
+        private final long totalShortfallCents;
+        private final int finalMonth;
+
+        Scenario(SavingsScheduler.FundingPlan plan, long savingsBalanceCents, long needsBasisPoints,
+                 long wantsBasisPoints, long[] shares, int lateCount, long totalShortfallCents, int finalMonth) {
+            this.plan = plan;
+            this.savingsBalanceCents = savingsBalanceCents;
+            this.needsBasisPoints = needsBasisPoints;
+            this.wantsBasisPoints = wantsBasisPoints;
+            this.shares = shares;
+            this.lateCount = lateCount;
+            this.totalShortfallCents = totalShortfallCents;
+            this.finalMonth = finalMonth;
+        }
+
+        /** @return the Needs share, in percent */
+        public double getNeedsPercent() { return Money.toAmount(needsBasisPoints); }
+
+        /** @return the Wants share, in percent */
+        public double getWantsPercent() { return Money.toAmount(wantsBasisPoints); }
+
+        /** @return the Savings share, in percent */
+        public double getSavingsPercent() { return Money.toAmount(WHOLE - needsBasisPoints - wantsBasisPoints); }
+
+        /** @return the monthly Needs budget, in cents */
+        public long getNeedsCents() { return shares[0]; }
+
+        /** @return the monthly Wants budget, in cents */
+        public long getWantsCents() { return shares[1]; }
+
+        /** @return the monthly Savings contribution, in cents */
+        public long getSavingsCents() { return shares[2]; }
+
+        /** @return how many Wants miss their due date */
+        public int getLateCount() { return lateCount; }
+
+        /** @return the sum of the Wants' shortfalls on their due dates, in cents */
+        public long getTotalShortfallCents() { return totalShortfallCents; }
+
+        /** @return months until every Want is funded, or {@code -1} if never */
+        public int getFinalMonth() { return finalMonth; }
+
+        /** @return each Want's completion date and shortfall under this split */
+        public SavingsScheduler.Schedule getSchedule() {
+            return plan.schedule(savingsBalanceCents, shares[2]);
+        }
+
+        /**
+         * Makes this split the profile's percentage allocation, as the
+         * Settings screen would.
+         *
+         * @param userProfile the profile that was explored
+         */
+        public void applyTo(Profile userProfile) {
+            userProfile.setAllocations(getNeedsPercent(), getWantsPercent(), getSavingsPercent(), true);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.2f/%.2f/%.2f: saves %s, %d late (%s short), all funded in %d months",
+                    getNeedsPercent(), getWantsPercent(), getSavingsPercent(), Money.format(shares[2]),
+                    lateCount, Money.format(totalShortfallCents), finalMonth);
+        }
+    } // End of class Scenario
+
+
+    // -------------------------------------------------------------------------
+    // EXPLORATION
+    // -------------------------------------------------------------------------
+
+    /**
+     * Explores the splits for a profile from today.
+     *
+     * @param userProfile the profile to explore
+     * @return the Pareto-optimal splits, by Needs and then Wants share, both descending
+     */
+    public List<Scenario> explore(Profile userProfile) {
+        return explore(userProfile, LocalDate.now());
+    } // End of method explore
+
+    /**
+     * Explores the splits for a profile from a given date. The profile is
+     * read on the calling thread; the splits are then evaluated in parallel.
+     *
+     * @param userProfile the profile to explore
+     * @param start       the date the current savings balance applies to
+     * @return the Pareto-optimal splits, by Needs and then Wants share, both descending;
+     *         empty if no split fits the bounds
+     */
+    public List<Scenario> explore(Profile userProfile, LocalDate start) {
+        // --- Grid, already in dominance order: Needs, then Wants, descending ---
+        int needsSteps = (int) ((maxNeeds - minNeeds) / step);
+        int wantsSteps = (int) ((maxWants - minWants) / step);
+        if (needsSteps < 0 || wantsSteps < 0) {
+            return List.of();
+        }
+        long[] needsGrid = new long[(needsSteps + 1) * (wantsSteps + 1)];
+        long[] wantsGrid = new long[needsGrid.length];
+        int count = 0;
+        for (int n = needsSteps; n >= 0; n--) {
+            long needs = minNeeds + n * step;
+            for (int w = wantsSteps; w >= 0; w--) {
+                long wants = minWants + w * step;
+                if (WHOLE - needs - wants >= minSavings) {
+                    needsGrid[count] = needs;
+                    wantsGrid[count] = wants;
+                    count++;
+                }
+            }
+        }
+        if (count == 0) {
+            return List.of(); // The minimums add up to more than 100%
+        }
+
+        // --- Evaluate every split ---
+        SavingsScheduler.FundingPlan plan = SavingsScheduler.plan(userProfile, policy, priority, start);
+        long income = userProfile.getIncomeCents();
+        long balance = userProfile.getSavingsBalanceCents();
+        long[][] shares = new long[count][];
+        int[] late = new int[count];
+        long[] shortfall = new long[count];
+        int[] finalMonths = new int[count];
+        IntStream.range(0, count).parallel().forEach(c -> {
+            long[] weights = {needsGrid[c], wantsGrid[c], WHOLE - needsGrid[c] - wantsGrid[c]};
+            long[] split = new long[3];
+            Money.allocate(income, weights, split);
+            shares[c] = split;
+            long contribution = split[2];
+            int lateWants = 0;
+            long missing = 0;
+            for (int i = 0; i < plan.goalCents.length; i++) {
+                long wantShortfall = plan.shortfallCents(i, balance, contribution);
+                if (wantShortfall > 0) {
+                    lateWants++;
+                    missing += wantShortfall;
+                }
+            }
+            late[c] = lateWants;
+            shortfall[c] = missing;
+            int months = SavingsScheduler.FundingPlan.monthsToReach(plan.maxThreshold(), balance, contribution);
+            finalMonths[c] = months < 0 ? Integer.MAX_VALUE : months;
+        });
+
+        // --- Keep the splits no earlier split dominates ---
+        int[] front = new int[count];
+        int frontSize = 0;
+        for (int c = 0; c < count; c++) {
+            boolean dominated = false;
+            for (int f = 0; f < frontSize && !dominated; f++) {
+                int other = front[f];
+                // Earlier splits give Needs at least as much, and differ in Needs or Wants
+                dominated = wantsGrid[other] >= wantsGrid[c] && late[other] <= late[c]
+                        && shortfall[other] <= shortfall[c] && finalMonths[other] <= finalMonths[c];
+            }
+            if (!dominated) {
+                front[frontSize++] = c;
+            }
+        }
+
+        List<Scenario> scenarios = new ArrayList<>(frontSize);
+        for (int f = 0; f < frontSize; f++) {
+            int c = front[f];
+            scenarios.add(new Scenario(plan, balance, needsGrid[c], wantsGrid[c], shares[c], late[c], shortfall[c],
+                    finalMonths[c] == Integer.MAX_VALUE ? -1 : finalMonths[c]));
+        }
+        return scenarios;
+    } // End of method explore
+
+
+    // --- Private Helpers ---
+
+    private static long toBasisPoints(double percent) {
+        long value = Money.ofAmount(percent);
+        if (value < 0 || value > WHOLE) {
+            throw new IllegalArgumentException("Percentage must be 0 to 100, was " + percent);
+        }
+        return value;
+    } // End of method toBasisPoints
+
+    private static long requireRange(long min, long max, String name) {
+        if (min > max) {
+            throw new IllegalArgumentException(name + " range is empty: " + Money.toAmount(min)
+                    + "% to " + Money.toAmount(max) + "%");
+        }
+        return max;
+    } // End of method requireRange
+
+} // End of class AllocationExplorer
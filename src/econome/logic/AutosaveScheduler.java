@@ -0,0 +1,244 @@
+package econome.logic;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Write-behind scheduler that batches disk writes for the EconoMe application.
+ * <p>
+ * Storage code does not write to disk while the user is clicking. Instead it
+ * schedules a write under a key (a profile's journal, its task shard, the
+ * manifest). Writes requested within a short window are coalesced: a key that
+ * is already pending is written only once, using the most recently scheduled
+ * write. Pending writes are drained on a single background thread, so they
+ * never run on the Event Dispatch Thread and always run in order.
+ * </p>
+ * <p>
+ * Every scheduled write returns a future that completes once the data is on
+ * disk (or the write failed). Failures are also passed to the failure
+ * listener, which {@link PersistenceService} uses to inform the user.
+ * </p>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Coalesce repeated writes to the same file within {@link #COALESCE_WINDOW_MS}.</li>
+ *   <li>Perform pending writes off the Event Dispatch Thread.</li>
+ *   <li>Flush pending writes when a window closes and at JVM shutdown.</li>
+ *   <li>Count requested, performed, and coalesced writes.</li>
+ * </ul>
+ */
+public final class AutosaveScheduler {
+
+    // --- Constants ------------------------------------------------------------
+
+    /** Delay between the first pending write and the drain ({@code econome.autosave.windowMs}). */
+    private static final long COALESCE_WINDOW_MS = Long.getLong("econome.autosave.windowMs", 250L);
+
+    /** Longest time the shutdown flush waits for pending writes. */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+    /** Whether write counters are printed at shutdown ({@code econome.autosave.stats}). */
+    private static final boolean PRINT_STATS = Boolean.getBoolean("econome.autosave.stats");
+
+
+    // --- Singleton ------------------------------------------------------------
+
+    /** Lazily creates the scheduler the first time it is requested. */
+    private static final class Holder {
+        private static final AutosaveScheduler INSTANCE = new AutosaveScheduler();
+    }
+
+    /** @return the scheduler shared by the whole process */
+    public static AutosaveScheduler getInstance() {
+        return Holder.INSTANCE;
+    } // End of method getInstance
+
+
+    // --- Fields ---------------------------------------------------------------
+
+    /** Background thread that performs every write. */
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "econome-autosave");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** A write waiting for the next drain, with the future shared by every request it absorbed. */
+    private static final class PendingWrite {
+        private Runnable write;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private PendingWrite(Runnable write) {
+            this.write = write;
+        }
+    } // End of class PendingWrite
+
+    /** Writes waiting for the next drain, in the order their keys were first scheduled. */
+    private final Map<Object, PendingWrite> pending = new LinkedHashMap<>();
+
+    /** Notified (on the background thread) of every failed write. */
+    private volatile Consumer<RuntimeException> failureListener =
+            e -> System.err.println("⚠️ [AutosaveScheduler] Background write failed: " + e.getMessage());
+
+    /** The scheduled drain, or {@code null} if none is scheduled. */
+    private ScheduledFuture<?> scheduledDrain;
+
+    // --- Counters ---
+    private final AtomicLong requestedWrites = new AtomicLong();
+    private final AtomicLong performedWrites = new AtomicLong();
+    private final AtomicLong coalescedWrites = new AtomicLong();
+    private final AtomicLong failedWrites = new AtomicLong();
+
+
+    // --- Constructors ---------------------------------------------------------
+
+    private AutosaveScheduler() {
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flushOnShutdown, "econome-autosave-shutdown"));
+    } // End of constructor AutosaveScheduler
+
+
+    // --- Public Methods -------------------------------------------------------
+
+    /**
+     * Schedules a write. If a write with the same key is already pending, it
+     * is replaced by this one and counted as coalesced.
+     *
+     * @param key   identifies the file being written (e.g. a journal or shard)
+     * @param write the write to perform on the background thread; it reports
+     *              failure by throwing (e.g. {@link java.io.UncheckedIOException})
+     * @return a future completed once this write, or the write that replaced it, has run
+     */
+    public synchronized CompletableFuture<Void> schedule(Object key, Runnable write) {
+        requestedWrites.incrementAndGet();
+        PendingWrite existing = pending.get(key);
+        if (existing != null) {
+            existing.write = write;
+            coalescedWrites.incrementAndGet();
+        } else {
+            existing = new PendingWrite(write);
+            pending.put(key, existing);
+        }
+        if (scheduledDrain == null) {
+            scheduledDrain = executor.schedule(this::drain, COALESCE_WINDOW_MS, TimeUnit.MILLISECONDS);
+        }
+        return existing.done;
+    } // End of method schedule
+
+
+    /**
+     * Registers the action notified of failed writes, replacing the default
+     * that logs to {@code System.err}. It runs on the background thread.
+     *
+     * @param failureListener receives the exception thrown by each failed write
+     */
+    public void setFailureListener(Consumer<RuntimeException> failureListener) {
+        this.failureListener = failureListener;
+    } // End of method setFailureListener
+
+
+    /**
+     * Starts writing all pending changes immediately, without waiting for the
+     * coalescing window or for the writes to finish. Safe to call on the
+     * Event Dispatch Thread (e.g. when a window closes).
+     */
+    public synchronized void flushSoon() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        if (scheduledDrain != null) {
+            scheduledDrain.cancel(false);
+        }
+        scheduledDrain = executor.schedule(this::drain, 0L, TimeUnit.MILLISECONDS);
+    } // End of method flushSoon
+
+
+    /**
+     * Writes all pending changes and waits until they are on disk.
+     *
+     * @param timeout longest time to wait
+     * @param unit    unit of {@code timeout}
+     * @return {@code true} if every pending write finished in time
+     */
+    public boolean flush(long timeout, TimeUnit unit) {
+        try {
+            executor.submit(this::drain).get(timeout, unit);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            System.err.println("⚠️ [AutosaveScheduler] Flush did not complete: " + e);
+            return false;
+        }
+    } // End of method flush
+
+
+    // --- Counters -------------------------------------------------------------
+
+    /** @return how many writes have been scheduled */
+    public long getRequestedWrites() { return requestedWrites.get(); }
+
+    /** @return how many writes have actually been performed */
+    public long getPerformedWrites() { return performedWrites.get(); }
+
+    /** @return how many scheduled writes were merged into a later write of the same file */
+    public long getCoalescedWrites() { return coalescedWrites.get(); }
+
+    /** @return how many performed writes threw an exception */
+    public long getFailedWrites() { return failedWrites.get(); }
+
+    /**
+     * Returns a one-line summary of the write counters.
+     *
+     * @return a formatted string including requested, performed, coalesced, and failed writes
+     */
+    @Override
+    public String toString() {
+        return "Autosave: " + getRequestedWrites() + " requested, " + getPerformedWrites() + " written, "
+                + getCoalescedWrites() + " coalesced, " + getFailedWrites() + " failed";
+    } // End of method toString
+
+
+    // --- Private Helpers ------------------------------------------------------
+
+    /** Performs every pending write on the background thread. */
+    private void drain() {
+        PendingWrite[] writes;
+        synchronized (this) {
+            scheduledDrain = null;
+            writes = pending.values().toArray(new PendingWrite[0]);
+            pending.clear();
+        }
+
+        for (PendingWrite pendingWrite : writes) {
+            try {
+                pendingWrite.write.run();
+                performedWrites.incrementAndGet();
+                pendingWrite.done.complete(null);
+            } catch (RuntimeException e) {
+                failedWrites.incrementAndGet();
+                pendingWrite.done.completeExceptionally(e);
+                failureListener.accept(e);
+            }
+        } // End of loop
+    } // End of method drain
+
+
+    /** Writes everything still pending before the JVM exits. */
+    private void flushOnShutdown() {
+        flush(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        if (PRINT_STATS) {
+            System.out.println(this);
+        }
+    } // End of method flushOnShutdown
+
+} // End of class AutosaveScheduler
@@ -1,5 +1,6 @@
 package econome.logic;
 
+import econome.model.Money;
 import econome.model.Profile;
 
 /**
@@ -9,6 +10,11 @@ import econome.model.Profile;
  * divided across their Needs, Wants, and Savings categories based on
  * either percentage-based or fixed-value allocations.
  * </p>
+ * <p>
+ * Amounts are calculated in cents with {@link Money}. Percentage allocations
+ * are split by largest remainder, so when they add up to 100% the three
+ * amounts add up to the income to the cent.
+ * </p>
  *
  * <h3>Responsibilities:</h3>
  * <ul>
@@ -18,6 +24,14 @@ import econome.model.Profile;
  */
 public class BudgetManager {
 
+    // --- Constants ---
+
+    /** Category positions in the weights passed to {@link Money#shareOf}. */
+    private static final int NEEDS = 0;
+    private static final int WANTS = 1;
+    private static final int SAVINGS = 2;
+
+
     // --- Calculation Methods ---
 
     /**
@@ -27,11 +41,16 @@ public class BudgetManager {
      * @return the calculated Needs amount based on allocation type
      */
     public double calculateNeedsAmount(Profile userProfile) {
-        return userProfile.isAllocationByPercentage()
-                ? userProfile.getIncome() * (userProfile.getNeedsAllocation() / 100.0)
-                : userProfile.getNeedsAllocation();
+        return Money.toAmount(calculateNeedsCents(userProfile));
     } // End of method calculateNeedsAmount
 
+    /** Same as {@link #calculateNeedsAmount(Profile)}, in cents. */
+    public long calculateNeedsCents(Profile userProfile) {
+        return userProfile.isAllocationByPercentage()
+                ? percentageShare(userProfile, NEEDS)
+                : userProfile.getNeedsAllocationHundredths();
+    } // End of method calculateNeedsCents
+
 
     /**
      * Calculates the monetary amount allocated to the user's Wants category.
@@ -40,11 +59,16 @@ public class BudgetManager {
      * @return the calculated Wants amount based on allocation type
      */
     public double calculateWantsAmount(Profile userProfile) {
-        return userProfile.isAllocationByPercentage()
-                ? userProfile.getIncome() * (userProfile.getWantsAllocation() / 100.0)
-                : userProfile.getWantsAllocation();
+        return Money.toAmount(calculateWantsCents(userProfile));
     } // End of method calculateWantsAmount
 
+    /** Same as {@link #calculateWantsAmount(Profile)}, in cents. */
+    public long calculateWantsCents(Profile userProfile) {
+        return userProfile.isAllocationByPercentage()
+                ? percentageShare(userProfile, WANTS)
+                : userProfile.getWantsAllocationHundredths();
+    } // End of method calculateWantsCents
+
 
     /**
      * Calculates the projected amount to be saved this cycle.
@@ -57,11 +81,16 @@ public class BudgetManager {
      * @return the projected savings amount based on allocation type
      */
     public double calculateProjectedSavings(Profile userProfile) {
-        return userProfile.isAllocationByPercentage()
-                ? userProfile.getIncome() * (userProfile.getSavingsAllocation() / 100.0)
-                : userProfile.getSavingsAllocation();
+        return Money.toAmount(calculateProjectedSavingsCents(userProfile));
     } // End of method calculateProjectedSavings
 
+    /** Same as {@link #calculateProjectedSavings(Profile)}, in cents. */
+    public long calculateProjectedSavingsCents(Profile userProfile) {
+        return userProfile.isAllocationByPercentage()
+                ? percentageShare(userProfile, SAVINGS)
+                : userProfile.getSavingsAllocationHundredths();
+    } // End of method calculateProjectedSavingsCents
+
 
     // --- Update Methods ---
 
@@ -76,9 +105,29 @@ public class BudgetManager {
      * @return the amount added to the savings balance
      */
     public double applySavingsToProfile(Profile userProfile) {
-        double savings = calculateProjectedSavings(userProfile);
-        userProfile.setSavingsBalance(userProfile.getSavingsBalance() + savings);
-        return savings;
+        long savings = calculateProjectedSavingsCents(userProfile);
+        userProfile.setSavingsBalanceCents(userProfile.getSavingsBalanceCents() + savings);
+        return Money.toAmount(savings);
     } // End of method applySavingsToProfile
 
+
+    // --- Private Helpers ---
+
+    /**
+     * Calculates one category's share of the income from the profile's
+     * percentage allocations.
+     *
+     * @param userProfile the user's financial profile
+     * @param category    {@link #NEEDS}, {@link #WANTS}, or {@link #SAVINGS}
+     * @return the share in cents
+     */
+    private static long percentageShare(Profile userProfile, int category) {
+        long[] weights = {
+            userProfile.getNeedsAllocationHundredths(),
+            userProfile.getWantsAllocationHundredths(),
+            userProfile.getSavingsAllocationHundredths()
+        };
+        return Money.shareOf(userProfile.getIncomeCents(), weights, category);
+    } // End of method percentageShare
+
 } // End of class BudgetManager
\ No newline at end of file
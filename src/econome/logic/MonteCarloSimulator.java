@@ -0,0 +1,441 @@
+package econome.logic;
+
+import econome.model.Profile;
+import econome.model.TaskColumns;
+import econome.model.Wants;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Estimates the chance of paying for each open Want by its due date when
+ * income and expenses vary from month to month.
+ * <p>
+ * {@link Projector} and {@link SavingsScheduler} assume that the monthly
+ * contribution from {@link BudgetManager#calculateProjectedSavingsCents} is
+ * saved every month. This class instead simulates many possible futures
+ * ("paths"). Each month of a path draws an income factor and a Needs
+ * spending factor around 1, normally distributed with the configured
+ * volatilities, and the month's contribution changes accordingly:
+ * </p>
+ * <ul>
+ *   <li>With percentage allocations the Needs, Wants, and Savings budgets
+ *       scale with the month's income.</li>
+ *   <li>With fixed allocations the Needs and Wants budgets stay the same,
+ *       so any income above or below plan lands in savings.</li>
+ *   <li>Needs spending above its budget comes out of savings; spending
+ *       below it is saved. A month can withdraw from the balance.</li>
+ * </ul>
+ * <p>
+ * Without a {@link #setPolicy policy} each Want is judged on its own against
+ * the whole balance, as {@link Projector} does; with one, Wants share the
+ * savings as in {@link SavingsScheduler}. Either way a Want counts as funded
+ * the first month the balance reaches its threshold.
+ * </p>
+ * <p>
+ * Paths run in parallel on a fork-join pool. The paths are split into a
+ * fixed tree of tasks, and every task gets its random generator with
+ * {@link SplittableRandom#split()}, so the same seed and settings give the
+ * same forecast on any number of threads. Paths are never kept: each task
+ * only counts how many paths funded each Want in each month, and these
+ * histograms are summed on the way up the tree. Probabilities and
+ * percentiles are then read exactly from the counts.
+ * </p>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Simulate savings paths with random income and Needs spending.</li>
+ *   <li>Report the probability of funding each Want by its due date.</li>
+ *   <li>Report percentiles of each Want's completion month.</li>
+ * </ul>
+ */
+public class MonteCarloSimulator {
+
+    // --- Defaults ---
+
+    /** Number of paths simulated unless set otherwise. */
+    public static final int DEFAULT_PATHS = 100_000;
+
+    /** Months simulated unless set otherwise: 50 years. */
+    public static final int DEFAULT_HORIZON_MONTHS = 600;
+
+    /** Seed used unless another one is set. */
+    public static final long DEFAULT_SEED = 0x5EED_EC0L;
+
+    /** Paths are split into this many tasks, independent of the thread count. */
+    private static final int TASKS = 64;
+
+    /** Fewer paths than this are never split further. */
+    private static final int MIN_PATHS_PER_TASK = 1_024;
+
+    /** Supplies the planned monthly contribution. */
+    private final BudgetManager budgetManager = new BudgetManager();
+
+    // --- Settings ---
+    private int paths = DEFAULT_PATHS;
+    private int horizonMonths = DEFAULT_HORIZON_MONTHS;
+    private double incomeVolatility = 0.10;
+    private double expenseVolatility = 0.15;
+    private long seed = DEFAULT_SEED;
+    private SavingsScheduler.Policy policy;
+    private ToDoubleFunction<Wants> priority = want -> 1.0;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+
+    // -------------------------------------------------------------------------
+    // SETTINGS
+    // -------------------------------------------------------------------------
+
+    /** @param paths number of simulated paths */
+    public void setPaths(int paths) { this.paths = requirePositive(paths, "Paths"); }
+
+    /** @param horizonMonths months simulated per path; Wants not funded by then count as never */
+    public void setHorizonMonths(int horizonMonths) { this.horizonMonths = requirePositive(horizonMonths, "Horizon"); }
+
+    /** @param incomeVolatility standard deviation of the monthly income, relative to the planned income */
+    public void setIncomeVolatility(double incomeVolatility) { this.incomeVolatility = requireVolatility(incomeVolatility); }
+
+    /** @param expenseVolatility standard deviation of the monthly Needs spending, relative to its budget */
+    public void setExpenseVolatility(double expenseVolatility) { this.expenseVolatility = requireVolatility(expenseVolatility); }
+
+    /** @param seed seed of all random draws */
+    public void setSeed(long seed) { this.seed = seed; }
+
+    /** @param policy how Wants share the savings, or {@code null} to judge each Want on its own */
+    public void setPolicy(SavingsScheduler.Policy policy) { this.policy = policy; }
+
+    /** @param priority weight of each Want under {@link SavingsScheduler.Policy#PRIORITY_WEIGHTED} */
+    public void setPriority(ToDoubleFunction<Wants> priority) { this.priority = priority; }
+
+    /** @param pool the pool the paths run on; the common pool by default */
+    public void setPool(ForkJoinPool pool) { this.pool = pool; }
+
+
+    // -------------------------------------------------------------------------
+    // RESULTS
+    // -------------------------------------------------------------------------
+
+    /**
+     * The simulated outcome of every open Want of a profile, in the order of
+     * the profile's Wants list.
+     */
+    public static final class Forecast {
+        private final Profile profile;
+        private final LocalDate start;
+        private final int paths;
+        private final int horizonMonths;
+        private final long contributionCents;
+        private final int[] wantRows;
+        private final long[] goalCents;
+        private final int[] epochDays;
+        private final int[] monthsUntilDue;
+        private final int[] funded;  // Paths that funded Want i by month m: [i * (horizon + 1) + m]
+
+        Forecast(Profile profile, LocalDate start, int paths, int horizonMonths, long contributionCents,
+                 int[] wantRows, long[] goalCents, int[] epochDays, int[] monthsUntilDue, int[] funded) {
+            this.profile = profile;
+            this.start = start;
+            this.paths = paths;
+            this.horizonMonths = horizonMonths;
+            this.contributionCents = contributionCents;
+            this.wantRows = wantRows;
+            this.goalCents = goalCents;
+            this.epochDays = epochDays;
+            this.monthsUntilDue = monthsUntilDue;
+            this.funded = funded;
+        }
+
+        /** @return the date the simulation starts from */
+        public LocalDate getStart() { return start; }
+
+        /** @return the number of simulated paths */
+        public int getPaths() { return paths; }
+
+        /** @return the months simulated per path */
+        public int getHorizonMonths() { return horizonMonths; }
+
+        /** @return the planned monthly contribution the paths vary around, in cents */
+        public long getContributionCents() { return contributionCents; }
+
+        /** @return the number of forecast Wants */
+        public int size() { return wantRows.length; }
+
+        /** @return the Want's row in the profile's Wants columns */
+        public int getWantRow(int index) { return wantRows[index]; }
+
+        /** @return the Want, valid while the profile's Wants are unchanged */
+        public Wants getWant(int index) { return profile.getWantsList().get(wantRows[index]); }
+
+        /** @return the Want's cost, in cents */
+        public long getGoalCents(int index) { return goalCents[index]; }
+
+        /** @return the Want's due date, or {@code null} */
+        public LocalDate getDueDate(int index) {
+            int epochDay = epochDays[index];
+            return epochDay == TaskColumns.NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+        }
+
+        /**
+         * @param index  the Want
+         * @param months months from the start
+         * @return the share of paths, 0 to 1, in which the Want is funded within {@code months}
+         */
+        public double getProbabilityWithin(int index, int months) {
+            if (months < 0) return 0;
+            return (double) funded[index * (horizonMonths + 1) + Math.min(months, horizonMonths)] / paths;
+        }
+
+        /** @return the share of paths funding the Want by its due date, or within the horizon if undated */
+        public double getProbabilityByDue(int index) {
+            return getProbabilityWithin(index, monthsUntilDue[index] < 0 ? horizonMonths : monthsUntilDue[index]);
+        }
+
+        /**
+         * Finds the month by which a given share of paths have funded a Want,
+         * e.g. {@code 0.8} for "funded within this many months in 80% of futures".
+         *
+         * @param index      the Want
+         * @param percentile the share of paths, 0 to 1
+         * @return months from the start, or {@code -1} if fewer paths fund it within the horizon
+         */
+        public int getCompletionMonths(int index, double percentile) {
+            long needed = Math.max(1, (long) Math.ceil(percentile * paths));
+            int from = index * (horizonMonths + 1);
+            if (funded[from + horizonMonths] < needed) {
+                return -1;
+            }
+            int low = 0;
+            int high = horizonMonths;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (funded[from + mid] >= needed) high = mid; else low = mid + 1;
+            }
+            return low;
+        }
+
+        /** @return the date by which a share of paths have funded a Want, or {@code null} */
+        public LocalDate getCompletionDate(int index, double percentile) {
+            int months = getCompletionMonths(index, percentile);
+            return months < 0 ? null : start.plusMonths(months);
+        }
+    } // End of class Forecast
+
+
+    // -------------------------------------------------------------------------
+    // SIMULATION
+    // -------------------------------------------------------------------------
+
+    /**
+     * Simulates a profile's open Wants from today.
+     *
+     * @param userProfile the profile whose Wants are forecast
+     * @return the forecast of each open Want
+     */
+    public Forecast simulate(Profile userProfile) {
+        return simulate(userProfile, LocalDate.now());
+    } // End of method simulate
+
+    /**
+     * Simulates a profile's open Wants from a given date. The profile is
+     * read on the calling thread; the paths then run on the pool.
+     *
+     * @param userProfile the profile whose Wants are forecast
+     * @param start       the date the current savings balance applies to
+     * @return the forecast of each open Want
+     */
+    public Forecast simulate(Profile userProfile, LocalDate start) {
+        int[] rows;
+        long[] goalCents;
+        int[] epochDays;
+        long[] thresholds;
+        if (policy != null) {
+            SavingsScheduler.FundingPlan plan = SavingsScheduler.plan(userProfile, policy, priority, start);
+            rows = plan.wantRows;
+            goalCents = plan.goalCents;
+            epochDays = plan.epochDays;
+            thresholds = plan.thresholds;
+        } else {
+            TaskColumns<Wants> wants = userProfile.getWantColumns();
+            int count = wants.countOpen();
+            rows = new int[count];
+            goalCents = new long[count];
+            epochDays = new int[count];
+            wants.copyOpenRows(rows, goalCents, epochDays, 0);
+            thresholds = new long[count];
+            for (int i = 0; i < count; i++) {
+                thresholds[i] = Math.max(0, goalCents[i]);
+            }
+        }
+
+        int count = rows.length;
+        int[] monthsUntilDue = new int[count];
+        for (int i = 0; i < count; i++) {
+            monthsUntilDue[i] = epochDays[i] == TaskColumns.NO_DATE ? -1
+                    : Math.max(0, SavingsScheduler.FundingPlan.monthsBetween(start, epochDays[i]));
+        }
+
+        // Paths pass the thresholds in ascending order, so count hits by rank
+        Integer[] order = IntStream.range(0, count).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.comparingLong((Integer i) -> thresholds[i]));
+        double[] sortedThresholds = new double[count];
+        for (int k = 0; k < count; k++) {
+            sortedThresholds[k] = thresholds[order[k]];
+        }
+
+        long contribution = budgetManager.calculateProjectedSavingsCents(userProfile);
+        long needsBudget = budgetManager.calculateNeedsCents(userProfile);
+        PathModel model = new PathModel(userProfile, contribution, needsBudget, sortedThresholds, horizonMonths,
+                incomeVolatility, expenseVolatility);
+        int leafPaths = Math.max(MIN_PATHS_PER_TASK, Math.ceilDiv(paths, TASKS));
+        int[] hits = pool.invoke(new PathTask(model, paths, leafPaths, new SplittableRandom(seed)));
+
+        // Turn hits per rank and month into cumulative counts per Want
+        int width = horizonMonths + 1;
+        int[] funded = new int[count * width];
+        for (int k = 0; k < count; k++) {
+            int running = 0;
+            int to = order[k] * width;
+            for (int m = 0; m < width; m++) {
+                running += hits[k * width + m];
+                funded[to + m] = running;
+            }
+        }
+        return new Forecast(userProfile, start, paths, horizonMonths, contribution,
+                rows, goalCents, epochDays, monthsUntilDue, funded);
+    } // End of method simulate
+
+
+    // --- Path Model ---
+
+    /** Everything a path needs, copied from the profile so that paths never touch it. */
+    private static final class PathModel {
+        final double savingsCents;
+        final boolean byPercentage;
+        final double incomeCents;
+        final double needsBudgetCents;
+        final double plannedSavingsCents;
+        final double[] sortedThresholds;
+        final int horizonMonths;
+        final double incomeVolatility;
+        final double expenseVolatility;
+
+        PathModel(Profile profile, long contributionCents, long needsBudgetCents, double[] sortedThresholds, int horizonMonths,
+                  double incomeVolatility, double expenseVolatility) {
+            this.savingsCents = profile.getSavingsBalanceCents();
+            this.byPercentage = profile.isAllocationByPercentage();
+            this.incomeCents = profile.getIncomeCents();
+            this.needsBudgetCents = needsBudgetCents;
+            this.plannedSavingsCents = contributionCents;
+            this.sortedThresholds = sortedThresholds;
+            this.horizonMonths = horizonMonths;
+            this.incomeVolatility = incomeVolatility;
+            this.expenseVolatility = expenseVolatility;
+        }
+
+        /**
+         * @param incomeFactor  the month's income relative to plan
+         * @param expenseFactor the month's Needs spending relative to budget
+         * @return the amount saved (or, if negative, withdrawn) in the month, in cents
+         */
+        double contribution(double incomeFactor, double expenseFactor) {
+            if (byPercentage) {
+                return incomeFactor * (plannedSavingsCents - needsBudgetCents * (expenseFactor - 1));
+            }
+            return plannedSavingsCents + incomeCents * (incomeFactor - 1) - needsBudgetCents * (expenseFactor - 1);
+        }
+
+        /**
+         * Simulates paths and records the month each threshold rank is first reached.
+         *
+         * @param paths  number of paths
+         * @param random the generator of this batch of paths
+         * @param hits   receives counts at {@code [rank * (horizon + 1) + month]}
+         */
+        void run(int paths, SplittableRandom random, int[] hits) {
+            int count = sortedThresholds.length;
+            int width = horizonMonths + 1;
+            for (int path = 0; path < paths; path++) {
+                double balance = savingsCents;
+                double highest = balance;
+                int reached = 0;
+                while (reached < count && sortedThresholds[reached] <= highest) {
+                    hits[reached++ * width]++;
+                }
+                // A path stops as soon as every Want is funded
+                for (int month = 1; month <= horizonMonths && reached < count; month++) {
+                    double incomeFactor = incomeVolatility > 0
+                            ? Math.max(0, 1 + incomeVolatility * random.nextGaussian()) : 1;
+                    double expenseFactor = expenseVolatility > 0
+                            ? Math.max(0, 1 + expenseVolatility * random.nextGaussian()) : 1;
+                    balance += contribution(incomeFactor, expenseFactor);
+                    if (balance > highest) {
+                        highest = balance;
+                        while (reached < count && sortedThresholds[reached] <= highest) {
+                            hits[reached++ * width + month]++;
+                        }
+                    }
+                }
+            }
+        }
+    } // End of class PathModel
+
+    /** Splits the paths in halves down to a fixed size and sums the hit counts. */
+    private static final class PathTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        // Tasks never leave the pool, so their state is not serialized
+        private final transient PathModel model;
+        private final int paths;
+        private final int leafPaths;
+        private final transient SplittableRandom random;
+
+        PathTask(PathModel model, int paths, int leafPaths, SplittableRandom random) {
+            this.model = model;
+            this.paths = paths;
+            this.leafPaths = leafPaths;
+            this.random = random;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (paths <= leafPaths) {
+                int[] hits = new int[model.sortedThresholds.length * (model.horizonMonths + 1)];
+                model.run(paths, random, hits);
+                return hits;
+            }
+            int half = paths / 2;
+            PathTask right = new PathTask(model, paths - half, leafPaths, random.split());
+            right.fork();
+            int[] hits = new PathTask(model, half, leafPaths, random).compute();
+            int[] rightHits = right.join();
+            for (int i = 0; i < hits.length; i++) {
+                hits[i] += rightHits[i];
+            }
+            return hits;
+        }
+    } // End of class PathTask
+
+
+    // --- Private Helpers ---
+
+    private static int requirePositive(int value, String name) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive, was " + value);
+        }
+        return value;
+    } // End of method requirePositive
+
+    private static double requireVolatility(double value) {
+        if (!(value >= 0) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Volatility must be zero or more, was " + value);
+        }
+        return value;
+    } // End of method requireVolatility
+
+} // End of class MonteCarloSimulator
@@ -0,0 +1,142 @@
+package econome.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events emitted by the EconoMe persistence layer.
+ * <p>
+ * Each event covers one read or write and records how long it took (the
+ * event's duration), how many bytes it moved, and how many profiles or
+ * tasks it held. The events cost next to nothing unless a recording is
+ * running, e.g. one started with
+ * {@code -XX:StartFlightRecording:filename=econome.jfr}; values that take
+ * work to compute are filled in only when {@link Event#shouldCommit()}
+ * reports that the event will be recorded. All events are in the
+ * "EconoMe / Persistence" category, under names starting with
+ * {@code econome.}.
+ * </p>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Define the events for loading and writing profiles and tasks.</li>
+ *   <li>Define the events for saving a profile and flushing its journal.</li>
+ * </ul>
+ */
+final class PersistenceEvents {
+
+    private PersistenceEvents() {
+    } // End of constructor PersistenceEvents
+
+
+    // --- Profile List (Manifest) ----------------------------------------------
+
+    @Name("econome.ProfilesLoad")
+    @Label("Load Profiles")
+    @Category({"EconoMe", "Persistence"})
+    @Description("Reads the stored profile list (headers only) at startup")
+    @StackTrace(false)
+    static final class ProfilesLoad extends Event {
+        @Label("Profiles")
+        int profiles;
+
+        @Label("Bytes Read")
+        @DataAmount
+        long bytes;
+    } // End of class ProfilesLoad
+
+    @Name("econome.ProfilesWrite")
+    @Label("Save Profiles")
+    @Category({"EconoMe", "Persistence"})
+    @Description("Rewrites the stored profile list after profiles were added, removed, or changed")
+    @StackTrace(false)
+    static final class ProfilesWrite extends Event {
+        @Label("Profiles")
+        int profiles;
+
+        @Label("Bytes Written")
+        @DataAmount
+        long bytes;
+    } // End of class ProfilesWrite
+
+
+    // --- Task Shards ----------------------------------------------------------
+
+    @Name("econome.TasksLoad")
+    @Label("Load Tasks")
+    @Category({"EconoMe", "Persistence"})
+    @Description("Reads a profile's Needs and Wants and replays its journal on first use")
+    @StackTrace(false)
+    static final class TasksLoad extends Event {
+        @Label("Profile")
+        String profile;
+
+        @Label("Needs")
+        int needs;
+
+        @Label("Wants")
+        int wants;
+
+        @Label("Bytes Read")
+        @DataAmount
+        long bytes;
+    } // End of class TasksLoad
+
+    @Name("econome.TasksWrite")
+    @Label("Write Tasks")
+    @Category({"EconoMe", "Persistence"})
+    @Description("Writes a profile's Needs and Wants to its shard, compacting its journal")
+    @StackTrace(false)
+    static final class TasksWrite extends Event {
+        @Label("Profile")
+        String profile;
+
+        @Label("Needs")
+        int needs;
+
+        @Label("Wants")
+        int wants;
+
+        @Label("Bytes Written")
+        @DataAmount
+        long bytes;
+    } // End of class TasksWrite
+
+
+    // --- Saves and Journal ----------------------------------------------------
+
+    @Name("econome.ProfileSave")
+    @Label("Save Profile")
+    @Category({"EconoMe", "Persistence"})
+    @Description("Profile.saveProfile on the calling thread: copying the tasks and scheduling the writes")
+    static final class ProfileSave extends Event {
+        @Label("Profile")
+        String profile;
+
+        @Label("Needs")
+        int needs;
+
+        @Label("Wants")
+        int wants;
+    } // End of class ProfileSave
+
+    @Name("econome.JournalFlush")
+    @Label("Flush Journal")
+    @Category({"EconoMe", "Persistence"})
+    @Description("Appends buffered task changes to a profile's journal")
+    @StackTrace(false)
+    static final class JournalFlush extends Event {
+        @Label("Journal")
+        String journal;
+
+        @Label("Bytes Written")
+        @DataAmount
+        long bytes;
+    } // End of class JournalFlush
+
+} // End of class PersistenceEvents
@@ -0,0 +1,184 @@
+package econome.logic;
+
+import econome.model.Profile;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous front end to profile storage for the EconoMe application.
+ * <p>
+ * Every method returns immediately with a {@link CompletableFuture}. Reads
+ * (the profile list, a profile's task shard) run on virtual threads; writes
+ * update the in-memory profiles right away so the screen can reflect them
+ * optimistically, and reach disk through the {@link AutosaveScheduler}.
+ * Futures complete, and failures are reported, on the callback executor,
+ * which the Swing screens set to the Event Dispatch Thread.
+ * </p>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Keep disk I/O off the thread that calls it.</li>
+ *   <li>Deliver results on the caller's preferred thread.</li>
+ *   <li>Report every failed load or save to a single failure handler.</li>
+ * </ul>
+ */
+public final class PersistenceService {
+
+    // --- Singleton ------------------------------------------------------------
+
+    /** Lazily creates the service the first time it is requested. */
+    private static final class Holder {
+        private static final PersistenceService INSTANCE = new PersistenceService();
+    }
+
+    /** @return the service shared by the whole process */
+    public static PersistenceService getInstance() {
+        return Holder.INSTANCE;
+    } // End of method getInstance
+
+
+    // --- Fields ---------------------------------------------------------------
+
+    /** Runs reads, one virtual thread per task. */
+    private final ExecutorService readExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /** Thread on which futures complete and failures are reported. */
+    private volatile Executor callbackExecutor = Runnable::run;
+
+    /** Informs the user about failed loads and saves. */
+    private volatile Consumer<Throwable> failureHandler =
+            e -> System.err.println("⚠️ [PersistenceService] " + e.getMessage());
+
+
+    // --- Constructors ---------------------------------------------------------
+
+    private PersistenceService() {
+        // Writes triggered by task edits have no caller waiting on them
+        AutosaveScheduler.getInstance().setFailureListener(this::reportFailure);
+    } // End of constructor PersistenceService
+
+
+    // --- Configuration --------------------------------------------------------
+
+    /**
+     * Sets the thread on which futures complete and failures are reported.
+     *
+     * @param callbackExecutor e.g. {@code SwingUtilities::invokeLater}
+     */
+    public void setCallbackExecutor(Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+    } // End of method setCallbackExecutor
+
+    /**
+     * Sets the action that informs the user about a failed load or save.
+     * It runs on the callback executor.
+     *
+     * @param failureHandler receives the cause of each failure
+     */
+    public void setFailureHandler(Consumer<Throwable> failureHandler) {
+        this.failureHandler = failureHandler;
+    } // End of method setFailureHandler
+
+
+    // --- Reads ----------------------------------------------------------------
+
+    /**
+     * Loads the stored profile headers (the manifest) in the background.
+     *
+     * @return a future with a read-only list of profiles
+     */
+    public CompletableFuture<List<Profile>> loadProfiles() {
+        return read(() -> ProfileRepository.getInstance().getProfiles());
+    } // End of method loadProfiles
+
+    /**
+     * Reads a profile's Needs and Wants in the background, if not yet loaded.
+     *
+     * @param profile the profile about to be opened
+     * @return a future with the same profile, its tasks in memory
+     */
+    public CompletableFuture<Profile> loadTasks(Profile profile) {
+        return read(() -> {
+            profile.loadTasks();
+            return profile;
+        });
+    } // End of method loadTasks
+
+
+    // --- Writes ---------------------------------------------------------------
+
+    /**
+     * Adds a profile. It is visible in memory when this method returns.
+     *
+     * @param newProfile the profile to add
+     * @return a future completed once the profile is on disk
+     */
+    public CompletableFuture<Void> addProfile(Profile newProfile) {
+        return deliver(ProfileRepository.getInstance().addProfile(newProfile));
+    } // End of method addProfile
+
+    /**
+     * Deletes a profile. It is gone from memory when this method returns.
+     *
+     * @param profile the profile to delete
+     * @return a future completed once the profile is removed from disk
+     */
+    public CompletableFuture<Void> deleteProfile(Profile profile) {
+        return deliver(ProfileRepository.getInstance().deleteProfile(profile));
+    } // End of method deleteProfile
+
+    /**
+     * Saves the complete state of a profile.
+     *
+     * @param profile the profile to save
+     * @return a future completed once the profile is on disk
+     */
+    public CompletableFuture<Void> saveProfile(Profile profile) {
+        return deliver(ProfileRepository.getInstance().saveProfile(profile));
+    } // End of method saveProfile
+
+
+    // --- Private Helpers ------------------------------------------------------
+
+    /** Runs a read on a virtual thread, reporting failures and delivering the result. */
+    private <T> CompletableFuture<T> read(Supplier<T> task) {
+        CompletableFuture<T> result = CompletableFuture.supplyAsync(task, readExecutor);
+        result.exceptionally(e -> {
+            reportFailure(e);
+            return null;
+        });
+        return deliver(result);
+    } // End of method read
+
+    /**
+     * Re-completes a future on the callback executor. Write failures are not
+     * reported here; the {@link AutosaveScheduler} already reports them.
+     */
+    private <T> CompletableFuture<T> deliver(CompletableFuture<T> source) {
+        CompletableFuture<T> delivered = new CompletableFuture<>();
+        source.whenComplete((value, error) -> callbackExecutor.execute(() -> {
+            if (error != null) {
+                delivered.completeExceptionally(error);
+            } else {
+                delivered.complete(value);
+            }
+        }));
+        return delivered;
+    } // End of method deliver
+
+    /** Passes a failure to the handler on the callback executor. */
+    private void reportFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error;
+        callbackExecutor.execute(() -> failureHandler.accept(cause));
+    } // End of method reportFailure
+
+} // End of class PersistenceService
@@ -0,0 +1,448 @@
+package econome.logic;
+
+import econome.model.Needs;
+import econome.model.Profile;
+import econome.model.TaskColumns;
+import econome.model.TaskItem;
+import econome.model.Wants;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Compact, versioned binary format for {@link Profile}, {@link Needs}, and
+ * {@link Wants}, replacing default Java serialization.
+ * <p>
+ * Money is stored as whole cents, dates as epoch days, and allocations as
+ * hundredths, all written as variable-length integers. Storage is split into
+ * a small manifest holding every profile's header (name, income, savings,
+ * allocations) and one task shard per profile holding its Needs and Wants.
+ * Shards start with a table of every distinct description, so a description
+ * repeated across hundreds of items is stored once and referenced by index.
+ * </p>
+ *
+ * <h3>Manifest Layout ({@code profiles/manifest.dat}):</h3>
+ * <pre>
+ * "ECOM" | varint version | varint next shard id | varint profile count
+ * entry = varint shard id | string name | zigzag income cents | zigzag savings cents
+ *         | byte flags (bit 0: allocation by percentage)
+ *         | zigzag needs, wants, savings allocation (hundredths)
+ * </pre>
+ *
+ * <h3>Shard Layout ({@code profiles/<id>.tasks}):</h3>
+ * <pre>
+ * "ECOT" | varint version | varint journal sequence
+ * varint string count | string* | varint needs count | task* | varint wants count | task*
+ * task = varint description ref | zigzag cost cents
+ *        | byte flags (bit 0: complete, bit 1: has due date) | [zigzag epoch day]
+ * </pre>
+ * <p>
+ * Strings are a varint byte length followed by UTF-8 bytes. The single-file
+ * snapshot ({@code "ECON"}) written before storage was sharded can still be
+ * read for migration.
+ * </p>
+ */
+public final class ProfileCodec {
+
+    // --- Constants ------------------------------------------------------------
+
+    /** Leading bytes of the profile manifest (ASCII "ECOM"). */
+    private static final int MANIFEST_MAGIC = 0x45434F4D;
+
+    /** Leading bytes of a per-profile task shard (ASCII "ECOT"). */
+    private static final int SHARD_MAGIC = 0x45434F54;
+
+    /** Leading bytes of a single-file snapshot from before sharding (ASCII "ECON"). */
+    private static final int SNAPSHOT_MAGIC = 0x45434F4E;
+
+    /** Current format version of manifests and shards. */
+    private static final int FORMAT_VERSION = 1;
+
+    /** Leading bytes of a default Java serialization stream. */
+    private static final int JAVA_SERIALIZATION_MAGIC = 0xACED;
+
+    private static final int FLAG_BY_PERCENTAGE = 1;
+    private static final int FLAG_COMPLETE = 1;
+    private static final int FLAG_HAS_DATE = 1 << 1;
+
+    private ProfileCodec() { }
+
+
+    // --- Decoded Results ------------------------------------------------------
+
+    /** Profile headers decoded from the manifest. Task lists are left empty. */
+    public static final class Manifest {
+        private final int nextShardId;
+        private final List<Profile> profiles;
+        private final int[] shardIds;
+
+        Manifest(int nextShardId, List<Profile> profiles, int[] shardIds) {
+            this.nextShardId = nextShardId;
+            this.profiles = profiles;
+            this.shardIds = shardIds;
+        }
+
+        /** @return the id to assign to the next new shard */
+        public int getNextShardId() { return nextShardId; }
+
+        /** @return the decoded profile headers, in stored order */
+        public List<Profile> getProfiles() { return profiles; }
+
+        /** @return the shard id of the profile at {@code index} */
+        public int getShardId(int index) { return shardIds[index]; }
+    } // End of class Manifest
+
+    /** Needs and Wants decoded from one profile's shard. */
+    public static final class Shard {
+        private final TaskColumns<Needs> needs;
+        private final TaskColumns<Wants> wants;
+        private final long sequence;
+
+        Shard(TaskColumns<Needs> needs, TaskColumns<Wants> wants, long sequence) {
+            this.needs = needs;
+            this.wants = wants;
+            this.sequence = sequence;
+        }
+
+        /** @return the stored Needs, in list order */
+        public TaskColumns<Needs> getNeeds() { return needs; }
+
+        /** @return the stored Wants, in list order */
+        public TaskColumns<Wants> getWants() { return wants; }
+
+        /** @return the last journal sequence contained in the shard */
+        public long getSequence() { return sequence; }
+    } // End of class Shard
+
+    /** Profiles decoded from a pre-sharding snapshot, plus the journal sequence they include. */
+    public static final class Snapshot {
+        private final List<Profile> profiles;
+        private final long sequence;
+
+        Snapshot(List<Profile> profiles, long sequence) {
+            this.profiles = profiles;
+            this.sequence = sequence;
+        }
+
+        /** @return the decoded profiles, in stored order */
+        public List<Profile> getProfiles() { return profiles; }
+
+        /** @return the last journal sequence contained in the snapshot */
+        public long getSequence() { return sequence; }
+    } // End of class Snapshot
+
+
+    // --- Manifest -------------------------------------------------------------
+
+    /**
+     * Streams the manifest of profile headers to {@code output}.
+     *
+     * @param output      destination stream (buffered by this method)
+     * @param nextShardId the id to assign to the next new shard
+     * @param profiles    the profiles to list, in display order
+     * @param shardIdOf   maps each profile to its shard id
+     */
+    public static void writeManifest(OutputStream output, int nextShardId, List<Profile> profiles,
+                                     ToIntFunction<Profile> shardIdOf) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+        out.writeInt(MANIFEST_MAGIC);
+        writeVarLong(out, FORMAT_VERSION);
+        writeVarLong(out, nextShardId);
+        writeVarLong(out, profiles.size());
+
+        for (Profile profile : profiles) {
+            writeVarLong(out, shardIdOf.applyAsInt(profile));
+            writeInlineString(out, profile.getName());
+            writeZigZag(out, profile.getIncomeCents());
+            writeZigZag(out, profile.getSavingsBalanceCents());
+            out.writeByte(profile.isAllocationByPercentage() ? FLAG_BY_PERCENTAGE : 0);
+            writeZigZag(out, profile.getNeedsAllocationHundredths());
+            writeZigZag(out, profile.getWantsAllocationHundredths());
+            writeZigZag(out, profile.getSavingsAllocationHundredths());
+        }
+        out.flush();
+    } // End of method writeManifest
+
+    /**
+     * Reads the manifest. Only headers are decoded; no task data is touched.
+     *
+     * @param input source stream (buffered by this method)
+     * @return the decoded manifest
+     * @throws IOException if the data is not a supported manifest
+     */
+    public static Manifest readManifest(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input));
+        checkHeader(in, MANIFEST_MAGIC, "manifest");
+        int nextShardId = readCount(in);
+
+        int count = readCount(in);
+        List<Profile> profiles = new ArrayList<>(count);
+        int[] shardIds = new int[count];
+        for (int i = 0; i < count; i++) {
+            shardIds[i] = readCount(in);
+            profiles.add(readHeader(in, readInlineString(in)));
+        }
+        return new Manifest(nextShardId, profiles, shardIds);
+    } // End of method readManifest
+
+
+    // --- Task Shards ----------------------------------------------------------
+
+    /**
+     * Streams one profile's task lists to {@code output}, reading the
+     * columns directly rather than through item objects.
+     *
+     * @param output   destination stream (buffered by this method)
+     * @param needs    the profile's Needs
+     * @param wants    the profile's Wants
+     * @param sequence the last journal sequence contained in the shard
+     */
+    public static void writeShard(OutputStream output, TaskColumns<Needs> needs, TaskColumns<Wants> wants,
+                                  long sequence) throws IOException {
+        // First pass: assign every distinct description an index
+        Map<String, Integer> stringIds = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        for (int row = 0; row < needs.size(); row++) intern(needs.descriptionAt(row), stringIds, strings);
+        for (int row = 0; row < wants.size(); row++) intern(wants.descriptionAt(row), stringIds, strings);
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output, 1 << 16));
+        out.writeInt(SHARD_MAGIC);
+        writeVarLong(out, FORMAT_VERSION);
+        writeVarLong(out, sequence);
+
+        writeVarLong(out, strings.size());
+        for (String value : strings) {
+            writeInlineString(out, value);
+        }
+
+        writeTasks(out, needs, stringIds);
+        writeTasks(out, wants, stringIds);
+        out.flush();
+    } // End of method writeShard
+
+    /**
+     * Streams one profile's task lists back into memory.
+     *
+     * @param input source stream (buffered by this method)
+     * @return the decoded shard
+     * @throws IOException if the data is not a supported shard
+     */
+    public static Shard readShard(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input, 1 << 16));
+        checkHeader(in, SHARD_MAGIC, "task shard");
+        long sequence = readVarLong(in);
+        String[] strings = readStringTable(in);
+
+        TaskColumns<Needs> needs = readTasks(in, strings, TaskColumns.forNeeds());
+        TaskColumns<Wants> wants = readTasks(in, strings, TaskColumns.forWants());
+        return new Shard(needs, wants, sequence);
+    } // End of method readShard
+
+
+    // --- Legacy Formats (Migration) -------------------------------------------
+
+    /**
+     * Checks whether a stored file uses the legacy Java serialization format.
+     *
+     * @param file the snapshot file to inspect
+     * @return {@code true} if the file starts with the Java serialization header
+     */
+    public static boolean isJavaSerialized(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            return in.readUnsignedShort() == JAVA_SERIALIZATION_MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    } // End of method isJavaSerialized
+
+    /**
+     * Reads a single-file snapshot written before storage was sharded.
+     *
+     * @param input source stream (buffered by this method)
+     * @return the decoded profiles and journal sequence
+     * @throws IOException if the data is not a supported snapshot
+     */
+    public static Snapshot readSnapshot(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input, 1 << 16));
+        checkHeader(in, SNAPSHOT_MAGIC, "snapshot");
+        long sequence = readVarLong(in);
+        String[] strings = readStringTable(in);
+
+        int profileCount = readCount(in);
+        List<Profile> profiles = new ArrayList<>(profileCount);
+        for (int i = 0; i < profileCount; i++) {
+            profiles.add(readProfile(in, strings));
+        }
+        return new Snapshot(profiles, sequence);
+    } // End of method readSnapshot
+
+    /**
+     * Decodes one profile with inline strings, as stored in journal records
+     * written before storage was sharded.
+     *
+     * @param in source
+     * @return the decoded profile
+     */
+    public static Profile readProfile(DataInput in) throws IOException {
+        return readProfile(in, null);
+    } // End of method readProfile
+
+    private static Profile readProfile(DataInput in, String[] strings) throws IOException {
+        Profile profile = readHeader(in, readString(in, strings));
+        TaskColumns<Needs> needs = readTasks(in, strings, TaskColumns.forNeeds());
+        TaskColumns<Wants> wants = readTasks(in, strings, TaskColumns.forWants());
+        profile.restoreTasks(needs, wants);
+        return profile;
+    } // End of method readProfile
+
+
+    // --- Task Encoding --------------------------------------------------------
+
+    private static void writeTasks(DataOutput out, TaskColumns<?> tasks, Map<String, Integer> stringIds)
+            throws IOException {
+        writeVarLong(out, tasks.size());
+        for (int row = 0; row < tasks.size(); row++) {
+            int epochDay = tasks.epochDayAt(row);
+            boolean hasDate = epochDay != TaskColumns.NO_DATE;
+            writeString(out, tasks.descriptionAt(row), stringIds);
+            writeZigZag(out, tasks.centsAt(row));
+            out.writeByte((tasks.isCompleteAt(row) ? FLAG_COMPLETE : 0) | (hasDate ? FLAG_HAS_DATE : 0));
+            if (hasDate) {
+                writeZigZag(out, epochDay);
+            }
+        }
+    } // End of method writeTasks
+
+    private static <T extends TaskItem> TaskColumns<T> readTasks(DataInput in, String[] strings,
+                                                                 TaskColumns<T> tasks) throws IOException {
+        int count = readCount(in);
+        for (int i = 0; i < count; i++) {
+            String description = readString(in, strings);
+            long cents = readZigZag(in);
+            int flags = in.readByte();
+            int epochDay = (flags & FLAG_HAS_DATE) != 0 ? Math.toIntExact(readZigZag(in)) : TaskColumns.NO_DATE;
+            tasks.append(description, cents, epochDay, (flags & FLAG_COMPLETE) != 0);
+        }
+        return tasks;
+    } // End of method readTasks
+
+
+    // --- Primitive Encoding ---------------------------------------------------
+
+    /** Decodes the amounts and allocations that follow a profile's name. */
+    private static Profile readHeader(DataInput in, String name) throws IOException {
+        long incomeCents = readZigZag(in);
+        long savingsCents = readZigZag(in);
+        boolean byPercentage = (in.readByte() & FLAG_BY_PERCENTAGE) != 0;
+
+        Profile profile = new Profile(name, 0.0, 0.0);
+        profile.restoreHeader(incomeCents, savingsCents,
+                readZigZag(in), readZigZag(in), readZigZag(in), byPercentage);
+        return profile;
+    } // End of method readHeader
+
+    private static void intern(String value, Map<String, Integer> stringIds, List<String> strings) {
+        if (value != null && !stringIds.containsKey(value)) {
+            stringIds.put(value, strings.size());
+            strings.add(value);
+        }
+    } // End of method intern
+
+    /** Writes a string as a table reference (index + 1; 0 = null) or inline. */
+    private static void writeString(DataOutput out, String value, Map<String, Integer> stringIds)
+            throws IOException {
+        if (stringIds != null) {
+            writeVarLong(out, value == null ? 0 : stringIds.get(value) + 1L);
+        } else {
+            out.writeBoolean(value != null);
+            if (value != null) writeInlineString(out, value);
+        }
+    } // End of method writeString
+
+    private static String readString(DataInput in, String[] strings) throws IOException {
+        if (strings != null) {
+            long ref = readVarLong(in);
+            if (ref == 0) return null;
+            if (ref > strings.length) throw new IOException("Bad string reference " + ref);
+            return strings[(int) ref - 1];
+        }
+        return in.readBoolean() ? readInlineString(in) : null;
+    } // End of method readString
+
+    private static void writeInlineString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    } // End of method writeInlineString
+
+    private static String[] readStringTable(DataInput in) throws IOException {
+        String[] strings = new String[readCount(in)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readInlineString(in);
+        }
+        return strings;
+    } // End of method readStringTable
+
+    /** Verifies the magic number and format version at the start of a file. */
+    private static void checkHeader(DataInput in, int magic, String kind) throws IOException {
+        if (in.readInt() != magic) {
+            throw new IOException("Not an EconoMe " + kind);
+        }
+        long version = readVarLong(in);
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported " + kind + " version " + version);
+        }
+    } // End of method checkHeader
+
+    private static String readInlineString(DataInput in) throws IOException {
+        byte[] bytes = new byte[readCount(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    } // End of method readInlineString
+
+    /** Writes an unsigned LEB128 variable-length integer (1 byte for values below 128). */
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    } // End of method writeVarLong
+
+    static long readVarLong(DataInput in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    } // End of method readVarLong
+
+    /** Writes a signed value so small magnitudes (positive or negative) stay short. */
+    static void writeZigZag(DataOutput out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    } // End of method writeZigZag
+
+    static long readZigZag(DataInput in) throws IOException {
+        long raw = readVarLong(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    } // End of method readZigZag
+
+    /** Reads a non-negative count, rejecting values that cannot be a valid size. */
+    private static int readCount(DataInput in) throws IOException {
+        long count = readVarLong(in);
+        if (count < 0 || count > Integer.MAX_VALUE - 8) {
+            throw new IOException("Invalid length " + count);
+        }
+        return (int) count;
+    } // End of method readCount
+
+} // End of class ProfileCodec
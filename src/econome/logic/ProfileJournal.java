@@ -0,0 +1,627 @@
+package econome.logic;
+
+import econome.model.Needs;
+import econome.model.Profile;
+import econome.model.TaskColumns;
+import econome.model.TaskItem;
+import econome.model.Wants;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only write-ahead journal of profile mutations for the EconoMe application.
+ * <p>
+ * Instead of re-serializing a profile after each change, every task mutation
+ * ({@code addNeed}, {@code removeNeed}, {@code markNeedComplete}, …) appends one
+ * small record to the profile's journal ({@code profiles/<id>.journal}).
+ * Records are buffered in memory and written in batches by the
+ * {@link AutosaveScheduler}, so a burst of clicks costs one disk write. When
+ * the {@link ProfileRepository} loads the profile's task shard it replays the
+ * journal on top of it. Once enough records have accumulated, the journal is
+ * compacted by writing a fresh shard and resetting the journal.
+ * </p>
+ * <p>
+ * Journals from the earlier single-file layout ({@code profiles.journal}),
+ * which also hold whole-profile and allocation records for every profile,
+ * are still replayed by {@link #replay(List, long)} during migration.
+ * </p>
+ *
+ * <h3>Record Layout:</h3>
+ * <pre>
+ * [int length][long sequence][byte op][UTF profile name][payload...][int crc32]
+ * </pre>
+ * <p>
+ * {@code length} covers everything between itself and the checksum. A record
+ * whose checksum does not match (e.g. a write torn by a crash) ends replay.
+ * Records whose sequence is not newer than the snapshot are skipped, so a
+ * crash between writing a snapshot and resetting the journal is harmless.
+ * </p>
+ */
+public class ProfileJournal {
+
+    // --- Constants ------------------------------------------------------------
+
+    /** Identifies a journal file (ASCII "EJRN"). */
+    private static final int JOURNAL_MAGIC = 0x454A524E;
+
+    /** Number of records after which the journal is folded into a new snapshot. */
+    private static final int COMPACTION_THRESHOLD = 500;
+
+    // --- Record Types ---------------------------------------------------------
+
+    // Whole-profile and allocation records only appear in single-file journals
+    private static final byte OP_PUT_PROFILE_LEGACY = 1; // Java-serialized profile
+    private static final byte OP_DELETE_PROFILE = 2;
+    private static final byte OP_ADD_NEED = 3;
+    private static final byte OP_REMOVE_NEED = 4;
+    private static final byte OP_COMPLETE_NEED = 5;
+    private static final byte OP_ADD_WANT = 6;
+    private static final byte OP_REMOVE_WANT = 7;
+    private static final byte OP_COMPLETE_WANT = 8;
+    private static final byte OP_SET_ALLOCATIONS = 9;
+    private static final byte OP_PUT_PROFILE = 10;       // ProfileCodec-encoded profile
+    private static final byte OP_EDIT_WANT = 11;
+
+
+    /** Journal that discards all records, used for profiles not held in storage. */
+    public static final ProfileJournal DISABLED = new ProfileJournal(null);
+
+
+    // --- Fields ---------------------------------------------------------------
+
+    /** Location of the journal on disk ({@code null} for {@link #DISABLED}). */
+    private final File journalFile;
+
+    /** Invoked once {@link #COMPACTION_THRESHOLD} records have accumulated. */
+    private Runnable compactionHook;
+
+    /** Sequence number of the most recently written (or replayed) record. */
+    private long lastSequence;
+
+    /** Records currently in the journal that are not yet part of the snapshot. */
+    private int pendingRecords;
+
+    /** Whether the journal header has been read from disk. */
+    private boolean initialized;
+
+    /** Whether the journal was closed because its profile was deleted. */
+    private boolean closed;
+
+    /** Framed records not yet written to disk. */
+    private ByteArrayOutputStream bufferedRecords = new ByteArrayOutputStream();
+
+    /** Sequence number preceding the first buffered record. */
+    private long bufferedBaseSequence;
+
+    /** Serializes file writes ({@link #flush()} and {@link #reset(long)}) without blocking appends. */
+    private final Object fileLock = new Object();
+
+
+    // --- Constructors ---------------------------------------------------------
+
+    /**
+     * Creates a journal backed by the given file.
+     *
+     * @param journalFile the file that stores journal records, or {@code null} to discard them
+     */
+    public ProfileJournal(File journalFile) {
+        this.journalFile = journalFile;
+    } // End of constructor ProfileJournal
+
+
+    // --- Configuration --------------------------------------------------------
+
+    /**
+     * Registers the action used to fold the journal into a new snapshot.
+     *
+     * @param compactionHook action that writes a snapshot and calls {@link #reset(long)}
+     */
+    public void setCompactionHook(Runnable compactionHook) {
+        this.compactionHook = compactionHook;
+    } // End of method setCompactionHook
+
+    /** @return the sequence number of the most recent record */
+    public synchronized long getLastSequence() {
+        ensureInitialized();
+        return lastSequence;
+    } // End of method getLastSequence
+
+
+    // --- Mutation Records -----------------------------------------------------
+
+    /** Records that a Need was appended to a profile's list. */
+    public void recordNeedAdded(Profile profile, Needs need) {
+        append(OP_ADD_NEED, profile.getName(), out ->
+                writeTask(out, need));
+    } // End of method recordNeedAdded
+
+    /** Records that the Need at {@code index} was removed. */
+    public void recordNeedRemoved(Profile profile, int index) {
+        append(OP_REMOVE_NEED, profile.getName(), out -> out.writeInt(index));
+    } // End of method recordNeedRemoved
+
+    /** Records that the Need at {@code index} was marked complete. */
+    public void recordNeedCompleted(Profile profile, int index) {
+        append(OP_COMPLETE_NEED, profile.getName(), out -> out.writeInt(index));
+    } // End of method recordNeedCompleted
+
+    /** Records that a Want was appended to a profile's list. */
+    public void recordWantAdded(Profile profile, Wants want) {
+        append(OP_ADD_WANT, profile.getName(), out ->
+                writeTask(out, want));
+    } // End of method recordWantAdded
+
+    /** Records that the Want at {@code index} was removed. */
+    public void recordWantRemoved(Profile profile, int index) {
+        append(OP_REMOVE_WANT, profile.getName(), out -> out.writeInt(index));
+    } // End of method recordWantRemoved
+
+    /** Records the new description, cost, and target date of the Want at {@code index}. */
+    public void recordWantEdited(Profile profile, int index, Wants want) {
+        append(OP_EDIT_WANT, profile.getName(), out -> {
+            out.writeInt(index);
+            writeTask(out, want);
+        });
+    } // End of method recordWantEdited
+
+    /** Records that the Want at {@code index} was marked complete. */
+    public void recordWantCompleted(Profile profile, int index) {
+        append(OP_COMPLETE_WANT, profile.getName(), out -> out.writeInt(index));
+    } // End of method recordWantCompleted
+
+
+    // --- Replay & Reset -------------------------------------------------------
+
+    /**
+     * Applies every record newer than {@code shardSequence} to a single profile
+     * whose task lists were just read from its shard.
+     *
+     * @param target        the profile this journal belongs to
+     * @param shardSequence the last sequence number already contained in the shard
+     */
+    public synchronized void replayInto(Profile target, long shardSequence) {
+        replay(name -> target, null, shardSequence);
+    } // End of method replayInto
+
+    /**
+     * Applies every record newer than {@code snapshotSequence} to a list of
+     * profiles, resolving each record's profile by name. Used to migrate the
+     * single-file layout, whose journal covers every profile.
+     *
+     * @param profiles         profiles loaded from the latest snapshot
+     * @param snapshotSequence the last sequence number already contained in the snapshot
+     */
+    public synchronized void replay(List<Profile> profiles, long snapshotSequence) {
+        replay(name -> findByName(profiles, name), profiles, snapshotSequence);
+    } // End of method replay
+
+    /**
+     * Reads the journal and applies records newer than {@code baseSequence}.
+     *
+     * @param resolver maps a record's profile name to the profile it applies to
+     * @param profiles list receiving whole-profile records, or {@code null} to ignore them
+     */
+    private void replay(Function<String, Profile> resolver, List<Profile> profiles,
+                        long baseSequence) {
+        lastSequence = baseSequence;
+        pendingRecords = 0;
+        initialized = true;
+
+        if (journalFile == null || !journalFile.exists()) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journalFile)))) {
+            if (in.readInt() != JOURNAL_MAGIC) {
+                System.err.println("⚠️ [ProfileJournal] Ignoring unrecognized journal file.");
+                return;
+            }
+            lastSequence = Math.max(lastSequence, in.readLong());
+
+            byte[] frame;
+            while ((frame = readFrame(in)) != null) {
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(frame));
+                long sequence = record.readLong();
+                if (sequence <= baseSequence) {
+                    continue; // Already folded into the snapshot
+                }
+                applyRecord(record, resolver, profiles);
+                lastSequence = sequence;
+                pendingRecords++;
+            } // End of loop
+        } catch (IOException | ClassNotFoundException e) {
+            System.err.println("⚠️ [ProfileJournal] Failed to replay journal: " + e.getMessage());
+        }
+    } // End of method replay
+
+    /**
+     * Discards journal records already contained in a newly written shard.
+     * Records newer than {@code snapshotSequence} (appended while the shard
+     * was being written) are kept.
+     *
+     * @param snapshotSequence the last sequence number contained in the shard
+     */
+    public void reset(long snapshotSequence) {
+        if (journalFile == null) {
+            return;
+        }
+        synchronized (fileLock) {
+            File tempFile = new File(journalFile.getPath() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                out.writeInt(JOURNAL_MAGIC);
+                out.writeLong(snapshotSequence);
+                for (byte[] frame : readFramesAfter(snapshotSequence)) {
+                    writeFrame(out, frame);
+                }
+            } catch (IOException e) {
+                System.err.println("⚠️ [ProfileJournal] Failed to reset journal: " + e.getMessage());
+                return;
+            }
+            try {
+                Files.move(tempFile.toPath(), journalFile.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                System.err.println("⚠️ [ProfileJournal] Failed to replace journal: " + e.getMessage());
+                return;
+            }
+        }
+
+        synchronized (this) {
+            dropBufferedThrough(snapshotSequence);
+            lastSequence = Math.max(lastSequence, snapshotSequence);
+            pendingRecords = (int) (lastSequence - snapshotSequence);
+            initialized = true;
+        }
+    } // End of method reset
+
+
+    // --- Write-Behind ---------------------------------------------------------
+
+    /**
+     * Appends all buffered records to the journal file in a single write.
+     * Called on the {@link AutosaveScheduler} thread; records that cannot be
+     * written stay buffered for the next flush.
+     *
+     * @throws UncheckedIOException if the records could not be written
+     */
+    public void flush() {
+        synchronized (fileLock) {
+            byte[] bytes;
+            long baseSequence;
+            synchronized (this) {
+                if (closed || bufferedRecords.size() == 0) {
+                    return;
+                }
+                bytes = bufferedRecords.toByteArray();
+                baseSequence = bufferedBaseSequence;
+                bufferedRecords.reset();
+            }
+
+            PersistenceEvents.JournalFlush event = new PersistenceEvents.JournalFlush();
+            event.begin();
+            boolean fresh = !journalFile.exists() || journalFile.length() == 0;
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(journalFile, true)))) {
+                if (fresh) {
+                    out.writeInt(JOURNAL_MAGIC);
+                    out.writeLong(baseSequence);
+                }
+                out.write(bytes);
+                out.flush();
+                event.end();
+                if (event.shouldCommit()) {
+                    event.journal = journalFile.getName();
+                    event.bytes = out.size();
+                    event.commit();
+                }
+            } catch (IOException e) {
+                System.err.println("⚠️ [ProfileJournal] Failed to append records: " + e.getMessage());
+                synchronized (this) {
+                    // Put the records back in front of anything buffered meanwhile
+                    ByteArrayOutputStream retained = new ByteArrayOutputStream(bytes.length + bufferedRecords.size());
+                    retained.writeBytes(bytes);
+                    retained.writeBytes(bufferedRecords.toByteArray());
+                    bufferedRecords = retained;
+                    bufferedBaseSequence = baseSequence;
+                }
+                throw new UncheckedIOException("Could not save changes to " + journalFile.getName(), e);
+            }
+        }
+    } // End of method flush
+
+    /**
+     * Stops recording, discarding buffered records. Used when the profile is
+     * deleted so that no pending flush recreates the journal file.
+     */
+    public synchronized void close() {
+        closed = true;
+        bufferedRecords.reset();
+    } // End of method close
+
+
+    // --- Private Helpers ------------------------------------------------------
+
+    /** Writes the payload of a single record. */
+    @FunctionalInterface
+    private interface PayloadWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Frames one record and buffers it for the next {@link #flush()}. Once
+     * {@link #COMPACTION_THRESHOLD} records have accumulated, the compaction
+     * hook is invoked on the calling thread so it can capture a consistent
+     * copy of the profile.
+     */
+    private void append(byte op, String profileName, PayloadWriter payload) {
+        boolean compact = false;
+        synchronized (this) {
+            if (journalFile == null || closed) {
+                return;
+            }
+            ensureInitialized();
+
+            try {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+                DataOutputStream record = new DataOutputStream(bytes);
+                record.writeLong(lastSequence + 1);
+                record.writeByte(op);
+                record.writeUTF(profileName);
+                payload.write(record);
+                record.flush();
+
+                if (bufferedRecords.size() == 0) {
+                    bufferedBaseSequence = lastSequence;
+                }
+                writeFrame(new DataOutputStream(bufferedRecords), bytes.toByteArray());
+            } catch (IOException e) {
+                System.err.println("⚠️ [ProfileJournal] Failed to append record: " + e.getMessage());
+                return;
+            }
+            lastSequence++;
+            pendingRecords++;
+            if (pendingRecords >= COMPACTION_THRESHOLD && compactionHook != null) {
+                pendingRecords = 0; // Counted again from the new shard onward
+                compact = true;
+            }
+        }
+
+        AutosaveScheduler.getInstance().schedule(this, this::flush);
+        if (compact) {
+            compactionHook.run();
+        }
+    } // End of method append
+
+    /** Writes one record body with its length prefix and checksum. */
+    private static void writeFrame(DataOutputStream out, byte[] body) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        out.writeInt(body.length);
+        out.write(body);
+        out.writeInt((int) crc.getValue());
+    } // End of method writeFrame
+
+    /** Removes buffered records that are already contained in a shard. */
+    private void dropBufferedThrough(long sequence) {
+        if (bufferedRecords.size() == 0 || bufferedBaseSequence >= sequence) {
+            return;
+        }
+        byte[] bytes = bufferedRecords.toByteArray();
+        int offset = 0;
+        long recordSequence = bufferedBaseSequence;
+        while (offset < bytes.length && recordSequence < sequence) {
+            int length = ((bytes[offset] & 0xFF) << 24) | ((bytes[offset + 1] & 0xFF) << 16)
+                    | ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+            offset += Integer.BYTES + length + Integer.BYTES;
+            recordSequence++; // Buffered sequence numbers are contiguous
+        } // End of loop
+
+        bufferedRecords = new ByteArrayOutputStream(Math.max(32, bytes.length - offset));
+        bufferedRecords.write(bytes, offset, bytes.length - offset);
+        bufferedBaseSequence = recordSequence;
+    } // End of method dropBufferedThrough
+
+    /** Reads the bodies of all records in the journal file newer than {@code sequence}. */
+    private List<byte[]> readFramesAfter(long sequence) throws IOException {
+        List<byte[]> frames = new ArrayList<>();
+        if (!journalFile.exists()) {
+            return frames;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journalFile)))) {
+            if (in.readInt() != JOURNAL_MAGIC) {
+                return frames;
+            }
+            in.readLong();
+            byte[] frame;
+            while ((frame = readFrame(in)) != null) {
+                if (new DataInputStream(new ByteArrayInputStream(frame)).readLong() > sequence) {
+                    frames.add(frame);
+                }
+            } // End of loop
+        } catch (EOFException e) {
+            // Empty or header-only journal
+        }
+        return frames;
+    } // End of method readFramesAfter
+
+    /**
+     * Reads the journal header and existing records so new appends continue the
+     * sequence, even if the {@link ProfileRepository} has not replayed the journal yet.
+     */
+    private void ensureInitialized() {
+        if (initialized) {
+            return;
+        }
+        initialized = true;
+        if (journalFile == null || !journalFile.exists()) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journalFile)))) {
+            if (in.readInt() != JOURNAL_MAGIC) {
+                return;
+            }
+            lastSequence = in.readLong();
+            byte[] frame;
+            while ((frame = readFrame(in)) != null) {
+                lastSequence = new DataInputStream(new ByteArrayInputStream(frame)).readLong();
+                pendingRecords++;
+            }
+        } catch (IOException e) {
+            System.err.println("⚠️ [ProfileJournal] Failed to read journal: " + e.getMessage());
+        }
+    } // End of method ensureInitialized
+
+    /**
+     * Reads one framed record, verifying its checksum.
+     *
+     * @return the record body, or {@code null} at end of journal or on a torn record
+     */
+    private static byte[] readFrame(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            if (length <= 0) {
+                return null;
+            }
+            byte[] body = new byte[length];
+            in.readFully(body);
+            int expectedCrc = in.readInt();
+
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            return (int) crc.getValue() == expectedCrc ? body : null;
+        } catch (EOFException e) {
+            return null; // Clean end of journal or a record torn mid-write
+        }
+    } // End of method readFrame
+
+    /**
+     * Applies a single decoded record. Task records edit the profile's lists
+     * directly, so replay never appends new records.
+     */
+    private static void applyRecord(DataInputStream record, Function<String, Profile> resolver,
+                                    List<Profile> profiles) throws IOException, ClassNotFoundException {
+        byte op = record.readByte();
+        Profile profile = resolver.apply(record.readUTF());
+
+        switch (op) {
+            case OP_PUT_PROFILE, OP_PUT_PROFILE_LEGACY -> {
+                Profile saved = op == OP_PUT_PROFILE
+                        ? ProfileCodec.readProfile(record)
+                        : readLegacyProfile(record);
+                if (profiles == null) return;
+                if (profile != null) {
+                    profiles.set(profiles.indexOf(profile), saved);
+                } else {
+                    profiles.add(saved);
+                }
+            }
+            case OP_DELETE_PROFILE -> {
+                if (profiles != null && profile != null) profiles.remove(profile);
+            }
+            case OP_ADD_NEED -> appendTask(record, profile != null ? profile.getNeedColumns() : null);
+            case OP_REMOVE_NEED -> {
+                int index = record.readInt();
+                if (profile != null && index < profile.getNeedsList().size()) {
+                    profile.getNeedsList().remove(index);
+                }
+            }
+            case OP_COMPLETE_NEED -> {
+                int index = record.readInt();
+                if (profile != null && index < profile.getNeedsList().size()) {
+                    profile.getNeedsList().get(index).markComplete();
+                }
+            }
+            case OP_ADD_WANT -> appendTask(record, profile != null ? profile.getWantColumns() : null);
+            case OP_REMOVE_WANT -> {
+                int index = record.readInt();
+                if (profile != null && index < profile.getWantsList().size()) {
+                    profile.getWantsList().remove(index);
+                }
+            }
+            case OP_COMPLETE_WANT -> {
+                int index = record.readInt();
+                if (profile != null && index < profile.getWantsList().size()) {
+                    profile.getWantsList().get(index).markComplete();
+                }
+            }
+            case OP_EDIT_WANT -> {
+                int index = record.readInt();
+                String description = record.readUTF();
+                long costCents = record.readLong();
+                int epochDay = record.readInt();
+                record.readBoolean(); // Completion is recorded separately
+                if (profile != null && index < profile.getWantsList().size()) {
+                    profile.getWantColumns().update(index, description, costCents, epochDay);
+                }
+            }
+            case OP_SET_ALLOCATIONS -> {
+                long needs = record.readLong(); // Hundredths: basis points or cents
+                long wants = record.readLong();
+                long savings = record.readLong();
+                boolean byPercentage = record.readBoolean();
+                if (profile != null) {
+                    profile.restoreHeader(profile.getIncomeCents(), profile.getSavingsBalanceCents(),
+                            needs, wants, savings, byPercentage);
+                }
+            }
+            default -> throw new IOException("Unknown journal record type " + op);
+        }
+    } // End of method applyRecord
+
+    /**
+     * Reads a profile stored as a length-prefixed Java serialization stream,
+     * as written by journals that predate {@link ProfileCodec}.
+     */
+    private static Profile readLegacyProfile(DataInputStream record) throws IOException, ClassNotFoundException {
+        byte[] serialized = new byte[record.readInt()];
+        record.readFully(serialized);
+        try (ObjectInputStream objectStream = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return (Profile) objectStream.readObject();
+        }
+    } // End of method readLegacyProfile
+
+    /**
+     * Writes the shared fields of a Need or Want: the cost in cents and the
+     * due date as an epoch day, as stored in {@link TaskColumns}.
+     */
+    private static void writeTask(DataOutputStream out, TaskItem task) throws IOException {
+        LocalDate dueDate = task.getDueDate();
+        out.writeUTF(task.getDescription());
+        out.writeLong(task.getCostCents());
+        out.writeInt(dueDate != null ? Math.toIntExact(dueDate.toEpochDay()) : TaskColumns.NO_DATE);
+        out.writeBoolean(task.isComplete());
+    } // End of method writeTask
+
+    /**
+     * Reads a task written by {@link #writeTask} and appends it to the
+     * columns, if the record's profile exists.
+     */
+    private static void appendTask(DataInputStream record, TaskColumns<?> columns) throws IOException {
+        String description = record.readUTF();
+        long costCents = record.readLong();
+        int epochDay = record.readInt();
+        boolean complete = record.readBoolean();
+        if (columns != null) {
+            columns.append(description, costCents, epochDay, complete);
+        }
+    } // End of method appendTask
+
+    /** Finds a profile by name (case-insensitive), matching {@link ProfileRepository#findByName(String)}. */
+    private static Profile findByName(List<Profile> profiles, String name) {
+        for (Profile profileItem : profiles) {
+            if (profileItem.getName().equalsIgnoreCase(name)) {
+                return profileItem;
+            }
+        } // End of loop
+        return null;
+    } // End of method findByName
+
+} // End of class ProfileJournal
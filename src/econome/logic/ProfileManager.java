@@ -2,49 +2,44 @@ package econome.logic;
 
 import econome.model.Profile;
 
-import java.io.*;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * Handles the creation, retrieval, deletion, and persistence of user profiles
+ * Handles the creation, retrieval, and deletion of user profiles
  * in the EconoMe application.
  * <p>
- * Profiles are serialized to a local file ({@code profiles.dat}) to preserve
- * user data between sessions. This manager ensures that any changes to
- * profiles—such as additions, deletions, or updates—are automatically saved
- * to disk.
+ * All managers operate on the process-wide {@link ProfileRepository}, so
+ * creating a {@code ProfileManager} is cheap and every window sees the same
+ * {@link Profile} instances. Persistence is handled by the repository: a
+ * manifest lists every profile's name and header, and each profile's tasks
+ * live in their own shard file plus a journal of the changes made since
+ * that shard was written.
  * </p>
  *
  * <h3>Responsibilities:</h3>
  * <ul>
- *   <li>Load saved profiles at application startup.</li>
- *   <li>Add, delete, or update profiles and persist those changes to disk.</li>
+ *   <li>Expose saved profiles loaded at application startup.</li>
+ *   <li>Add or delete profiles and persist those changes to disk.</li>
  *   <li>Provide controlled access to the list of stored profiles.</li>
  * </ul>
  */
 public class ProfileManager {
 
-    // --- Constants ------------------------------------------------------------
-
-    /** The file name used to store serialized profile data locally. */
-    private static final String PROFILE_STORAGE_FILE = "profiles.dat";
-
-
     // --- Fields ---------------------------------------------------------------
 
-    /** In-memory list containing all stored user profiles. */
-    private final List<Profile> profiles;
+    /** Shared store backing this manager. */
+    private final ProfileRepository repository;
 
 
     // --- Constructors ---------------------------------------------------------
 
     /**
-     * Constructs a new {@code ProfileManager} and automatically loads
-     * any saved profiles from disk into memory.
+     * Constructs a new {@code ProfileManager} backed by the shared
+     * {@link ProfileRepository}, which loads saved profiles on first use.
      */
     public ProfileManager() {
-        this.profiles = loadProfiles();
+        this.repository = ProfileRepository.getInstance();
     } // End of constructor ProfileManager
 
 
@@ -53,34 +48,32 @@ public class ProfileManager {
     /**
      * Retrieves all profiles currently stored in memory.
      *
-     * @return a mutable {@link List} of {@link Profile} objects
+     * @return a read-only {@link List} of {@link Profile} objects
      */
     public List<Profile> getProfiles() {
-        return profiles;
+        return repository.getProfiles();
     } // End of method getProfiles
 
 
     /**
-     * Adds a new profile to the in-memory list and immediately persists
-     * all profiles to disk.
+     * Adds a new profile and persists it in the background.
      *
      * @param newProfile the new {@link Profile} to add
+     * @return a future completed once the profile is on disk
      */
-    public void addProfile(Profile newProfile) {
-        profiles.add(newProfile);
-        saveProfiles();
+    public CompletableFuture<Void> addProfile(Profile newProfile) {
+        return repository.addProfile(newProfile);
     } // End of method addProfile
 
 
     /**
-     * Deletes a profile from the in-memory list and updates the
-     * serialized data file on disk.
+     * Deletes a profile and removes it from disk in the background.
      *
      * @param profileToDelete the {@link Profile} to remove
+     * @return a future completed once the profile is removed from disk
      */
-    public void deleteProfile(Profile profileToDelete) {
-        profiles.remove(profileToDelete);
-        saveProfiles();
+    public CompletableFuture<Void> deleteProfile(Profile profileToDelete) {
+        return repository.deleteProfile(profileToDelete);
     } // End of method deleteProfile
 
 
@@ -91,54 +84,7 @@ public class ProfileManager {
      * @return the matching {@link Profile}, or {@code null} if not found
      */
     public Profile findProfileByName(String name) {
-        for (Profile profileItem : profiles) {
-            if (profileItem.getName().equalsIgnoreCase(name)) {
-                return profileItem;
-            }
-        } // End of loop
-        return null;
+        return repository.findByName(name);
     } // End of method findProfileByName
 
-
-    // --- Private Persistence Methods -----------------------------------------
-
-    /**
-     * Loads all profiles from the serialized data file.
-     * <p>
-     * If no file exists or the file cannot be read, this method returns an
-     * empty {@link ArrayList} to ensure the program remains stable.
-     * </p>
-     *
-     * @return a list of loaded {@link Profile} objects, or an empty list
-     */
-    @SuppressWarnings("unchecked")
-    private List<Profile> loadProfiles() {
-        File file = new File(PROFILE_STORAGE_FILE);
-        if (!file.exists()) {
-            return new ArrayList<>();
-        }
-
-        try (ObjectInputStream inputStream = new ObjectInputStream(new FileInputStream(file))) {
-            return (List<Profile>) inputStream.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            System.err.println("⚠️ [ProfileManager] Failed to load profiles: " + e.getMessage());
-            return new ArrayList<>();
-        }
-    } // End of method loadProfiles
-
-
-    /**
-     * Serializes and saves the current in-memory list of profiles to disk.
-     * <p>
-     * Should be invoked after any operation that modifies the list of profiles.
-     * </p>
-     */
-    private void saveProfiles() {
-        try (ObjectOutputStream outputStream = new ObjectOutputStream(new FileOutputStream(PROFILE_STORAGE_FILE))) {
-            outputStream.writeObject(profiles);
-        } catch (IOException e) {
-            System.err.println("⚠️ [ProfileManager] Failed to save profiles: " + e.getMessage());
-        }
-    } // End of method saveProfiles
-
-} // End of class ProfileManager
\ No newline at end of file
+} // End of class ProfileManager
@@ -0,0 +1,682 @@
+package econome.logic;
+
+import econome.model.Needs;
+import econome.model.Profile;
+import econome.model.TaskColumns;
+import econome.model.Wants;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Process-wide store of all user profiles in the EconoMe application.
+ * <p>
+ * Storage is split into a lightweight manifest ({@code profiles/manifest.dat})
+ * holding each profile's name, income, savings, and allocations, plus one
+ * task shard ({@code profiles/<id>.tasks}) and journal
+ * ({@code profiles/<id>.journal}) per profile. Startup reads only the
+ * manifest; a profile's Needs and Wants are read the first time they are
+ * used, typically when its dashboard is opened.
+ * </p>
+ * <p>
+ * The repository loads the manifest exactly once, then serves every window
+ * from the same in-memory instances. {@link ProfileManager}, {@link Profile},
+ * and the Swing screens all go through it.
+ * </p>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Own the single in-memory list of profiles and its name index.</li>
+ *   <li>Load each profile's task shard on demand and replay its journal.</li>
+ *   <li>Rewrite the manifest when profiles are added, deleted, or changed.</li>
+ *   <li>Write a fresh shard when a profile's journal is compacted.</li>
+ *   <li>Hand every write after startup to the {@link AutosaveScheduler}.</li>
+ *   <li>Migrate the earlier single-file layout ({@code profiles.dat}).</li>
+ * </ul>
+ */
+public final class ProfileRepository {
+
+    // --- Constants ------------------------------------------------------------
+
+    /** Name of the directory, inside the data directory, holding the manifest, shards, and journals. */
+    private static final String PROFILES_DIRECTORY_NAME = "profiles";
+
+    /** The file name of the manifest of profile headers. */
+    private static final String MANIFEST_FILE = "manifest.dat";
+
+    /** Extension of per-profile task shards. */
+    private static final String SHARD_EXTENSION = ".tasks";
+
+    /** Extension of per-profile journals. */
+    private static final String JOURNAL_EXTENSION = ".journal";
+
+    /** Single-file snapshot written by earlier versions of EconoMe. */
+    private static final String LEGACY_STORAGE_FILE = "profiles.dat";
+
+    /** Journal that accompanied {@link #LEGACY_STORAGE_FILE}. */
+    private static final String LEGACY_JOURNAL_FILE = "profiles.journal";
+
+
+    // --- Singleton ------------------------------------------------------------
+
+    /**
+     * Lazily creates the repository the first time it is requested, in the
+     * directory given by {@code econome.data.dir} (default: working directory).
+     */
+    private static final class Holder {
+        private static final ProfileRepository INSTANCE =
+                new ProfileRepository(new File(System.getProperty("econome.data.dir", ".")));
+    }
+
+    /**
+     * Returns the repository shared by the whole process, loading the
+     * manifest on first use.
+     *
+     * @return the shared {@code ProfileRepository}
+     */
+    public static ProfileRepository getInstance() {
+        return Holder.INSTANCE;
+    } // End of method getInstance
+
+    /**
+     * Loads a separate repository from a data directory, exactly as the
+     * shared instance is loaded at startup (manifest, registration, name
+     * index, and legacy migration).
+     * <p>
+     * Intended for tools and benchmarks. The returned profiles are not
+     * connected to the shared instance, so their later changes are neither
+     * journaled nor saved.
+     * </p>
+     *
+     * @param dataDirectory directory holding the stored data
+     * @return a new repository over that directory
+     */
+    public static ProfileRepository open(File dataDirectory) {
+        return new ProfileRepository(dataDirectory);
+    } // End of method open
+
+
+    // --- Shard Bookkeeping ----------------------------------------------------
+
+    /** Storage state of one profile: its shard id, journal, and whether its tasks are in memory. */
+    private static final class ShardEntry {
+        private final int id;
+        private final ProfileJournal journal;
+        private Profile profile;
+        private boolean tasksLoaded;
+
+        private ShardEntry(int id, Profile profile, boolean tasksLoaded, File journalFile) {
+            this.id = id;
+            this.profile = profile;
+            this.tasksLoaded = tasksLoaded;
+            this.journal = new ProfileJournal(journalFile);
+        }
+    } // End of class ShardEntry
+
+
+    // --- Fields ---------------------------------------------------------------
+
+    /** Directory holding all stored data. */
+    private final File dataDirectory;
+
+    /** Directory holding the manifest and the per-profile shards and journals. */
+    private final File profilesDirectory;
+
+    /** In-memory list containing all stored user profiles, in display order. */
+    private final List<Profile> profiles = new ArrayList<>();
+
+    /** Storage state of each profile in {@link #profiles}, keyed by identity. */
+    private final Map<Profile, ShardEntry> shards = new IdentityHashMap<>();
+
+    /**
+     * Profiles keyed by {@link #normalize(String) normalized} name, for
+     * constant-time lookups. If several profiles share a name, the one
+     * indexed first wins, matching the earlier first-in-list scan.
+     */
+    private final Map<String, Profile> nameIndex = new HashMap<>();
+
+    /** Id assigned to the next new shard. Ids are never reused. */
+    private int nextShardId = 1;
+
+
+    // --- Constructors ---------------------------------------------------------
+
+    private ProfileRepository(File dataDirectory) {
+        this.dataDirectory = dataDirectory;
+        this.profilesDirectory = new File(dataDirectory, PROFILES_DIRECTORY_NAME);
+        if (new File(profilesDirectory, MANIFEST_FILE).exists()) {
+            loadManifest();
+        } else if (new File(dataDirectory, LEGACY_STORAGE_FILE).exists()
+                || new File(dataDirectory, LEGACY_JOURNAL_FILE).exists()) {
+            migrateLegacyStorage();
+        }
+    } // End of constructor ProfileRepository
+
+
+    // --- Public Methods -------------------------------------------------------
+
+    /**
+     * Retrieves all profiles currently stored in memory. Task lists of
+     * profiles that have not been opened yet are loaded on first access.
+     *
+     * @return a read-only view of the stored {@link Profile} objects
+     */
+    public synchronized List<Profile> getProfiles() {
+        return Collections.unmodifiableList(profiles);
+    } // End of method getProfiles
+
+
+    /**
+     * Searches the stored profiles for one with a matching name.
+     *
+     * @param name the name of the profile to find (case-insensitive)
+     * @return the matching {@link Profile}, or {@code null} if not found
+     */
+    public synchronized Profile findByName(String name) {
+        return nameIndex.get(normalize(name));
+    } // End of method findByName
+
+
+    /**
+     * Adds a new profile and schedules writes of its shard and the manifest.
+     *
+     * @param newProfile the new {@link Profile} to add
+     * @return a future completed once the profile is on disk
+     */
+    public synchronized CompletableFuture<Void> addProfile(Profile newProfile) {
+        ShardEntry entry = register(newProfile, nextShardId++, true);
+        return CompletableFuture.allOf(scheduleShardWrite(entry), scheduleManifestWrite());
+    } // End of method addProfile
+
+
+    /**
+     * Deletes a profile and schedules removal of its shard and journal from disk.
+     *
+     * @param profileToDelete the {@link Profile} to remove
+     * @return a future completed once the profile is removed from disk
+     */
+    public synchronized CompletableFuture<Void> deleteProfile(Profile profileToDelete) {
+        ShardEntry entry = shards.remove(profileToDelete);
+        if (entry == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        profiles.remove(profileToDelete);
+        unindex(profileToDelete, profileToDelete.getName());
+        entry.journal.close();
+
+        // Replaces any pending shard write for this profile
+        CompletableFuture<Void> removal = AutosaveScheduler.getInstance().schedule(entry, () -> {
+            deleteQuietly(shardFile(entry.id));
+            deleteQuietly(journalFile(entry.id));
+        });
+        return CompletableFuture.allOf(scheduleManifestWrite(), removal);
+    } // End of method deleteProfile
+
+
+    /**
+     * Saves the complete state of a profile.
+     * <p>
+     * Replaces a stored profile with the same name, or adds the profile if
+     * none exists, then schedules writes of the manifest and the profile's
+     * shard. Only in-memory state is consulted; no other profile is read
+     * from disk.
+     * </p>
+     *
+     * @param profile the profile to save
+     * @return a future completed once the profile is on disk
+     */
+    public synchronized CompletableFuture<Void> saveProfile(Profile profile) {
+        PersistenceEvents.ProfileSave event = new PersistenceEvents.ProfileSave();
+        event.begin();
+        try {
+            return saveProfileState(profile);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.profile = profile.getName();
+                event.needs = profile.getNeedColumns().size();
+                event.wants = profile.getWantColumns().size();
+                event.commit();
+            }
+        }
+    } // End of method saveProfile
+
+    /** Registers or takes over the profile's shard and schedules its writes. */
+    private CompletableFuture<Void> saveProfileState(Profile profile) {
+        ShardEntry entry = shards.get(profile);
+        if (entry == null) {
+            Profile existing = findByName(profile.getName());
+            if (existing == null) {
+                return addProfile(profile);
+            }
+            // Hand the existing shard over to the new instance
+            entry = shards.remove(existing);
+            profiles.set(profiles.indexOf(existing), profile);
+            nameIndex.put(normalize(profile.getName()), profile);
+            entry.profile = profile;
+            entry.tasksLoaded = true;
+            shards.put(profile, entry);
+        }
+        return CompletableFuture.allOf(scheduleShardWrite(entry), scheduleManifestWrite());
+    } // End of method saveProfileState
+
+
+    /**
+     * Returns the shared instance for a profile, registering it if unknown.
+     * <p>
+     * Windows call this with the profile they were opened for so that all
+     * of them operate on the same object.
+     * </p>
+     *
+     * @param profile the profile a window was opened with
+     * @return the shared instance with the same name
+     */
+    public synchronized Profile attach(Profile profile) {
+        Profile existing = findByName(profile.getName());
+        if (existing != null) {
+            return existing;
+        }
+        addProfile(profile);
+        return profile;
+    } // End of method attach
+
+
+    /**
+     * Returns the journal recording a profile's task mutations.
+     *
+     * @param profile the profile being changed
+     * @return its journal, or {@link ProfileJournal#DISABLED} if the profile is not stored
+     */
+    public synchronized ProfileJournal journalFor(Profile profile) {
+        ShardEntry entry = shards.get(profile);
+        return entry != null ? entry.journal : ProfileJournal.DISABLED;
+    } // End of method journalFor
+
+
+    /**
+     * Persists a change to a profile's header fields (name, income, savings,
+     * or allocations) by scheduling a manifest write.
+     *
+     * @param profile the profile that changed
+     */
+    public synchronized void headerChanged(Profile profile) {
+        if (shards.containsKey(profile)) {
+            scheduleManifestWrite();
+        }
+    } // End of method headerChanged
+
+
+    /**
+     * Re-indexes a profile under its new name and persists the change.
+     * Called by {@link Profile#setName(String)}.
+     *
+     * @param profile the profile that was renamed
+     * @param oldName the name it was indexed under
+     */
+    public synchronized void profileRenamed(Profile profile, String oldName) {
+        if (!shards.containsKey(profile)) {
+            return;
+        }
+        unindex(profile, oldName);
+        nameIndex.putIfAbsent(normalize(profile.getName()), profile);
+        scheduleManifestWrite();
+    } // End of method profileRenamed
+
+
+    // --- Private Loading Methods ---------------------------------------------
+
+    /**
+     * Reads the manifest of profile headers. Task lists stay on disk until
+     * each profile is first used.
+     */
+    private void loadManifest() {
+        PersistenceEvents.ProfilesLoad event = new PersistenceEvents.ProfilesLoad();
+        event.begin();
+        File file = new File(profilesDirectory, MANIFEST_FILE);
+        try (InputStream inputStream = new FileInputStream(file)) {
+            ProfileCodec.Manifest manifest = ProfileCodec.readManifest(inputStream);
+            nextShardId = manifest.getNextShardId();
+
+            List<Profile> stored = manifest.getProfiles();
+            for (int i = 0; i < stored.size(); i++) {
+                Profile profile = stored.get(i);
+                register(profile, manifest.getShardId(i), false);
+                profile.setTaskLoader(this::loadTasks);
+            } // End of loop
+        } catch (IOException e) {
+            System.err.println("⚠️ [ProfileRepository] Failed to load profiles: " + e.getMessage());
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.profiles = profiles.size();
+            event.bytes = file.length();
+            event.commit();
+        }
+    } // End of method loadManifest
+
+
+    /**
+     * Reads a profile's task shard and replays its journal on top. Invoked by
+     * the profile the first time its Needs or Wants are accessed.
+     * <p>
+     * The profile keeps its loader until the tasks are complete, so another
+     * thread touching them meanwhile waits here on the lock and returns once
+     * they are in memory. Calls from the loading thread itself (replay goes
+     * through the profile's lists) return at once.
+     * </p>
+     */
+    private synchronized void loadTasks(Profile profile) {
+        ShardEntry entry = shards.get(profile);
+        if (entry == null) {
+            profile.setTaskLoader(null); // No longer stored (deleted or replaced); nothing to read
+            return;
+        }
+        if (entry.tasksLoaded) {
+            return;
+        }
+        entry.tasksLoaded = true;
+
+        PersistenceEvents.TasksLoad event = new PersistenceEvents.TasksLoad();
+        event.begin();
+        long shardSequence = 0L;
+        File file = shardFile(entry.id);
+        if (file.exists()) {
+            try (InputStream inputStream = new FileInputStream(file)) {
+                ProfileCodec.Shard shard = ProfileCodec.readShard(inputStream);
+                profile.restoreTasks(shard.getNeeds(), shard.getWants());
+                shardSequence = shard.getSequence();
+            } catch (IOException e) {
+                System.err.println("⚠️ [ProfileRepository] Failed to load tasks for "
+                        + profile.getName() + ": " + e.getMessage());
+            }
+        }
+        entry.journal.replayInto(profile, shardSequence);
+        profile.setTaskLoader(null); // Last: other threads may now skip the lock
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.profile = profile.getName();
+            event.needs = profile.getNeedColumns().size();
+            event.wants = profile.getWantColumns().size();
+            event.bytes = file.length();
+            event.commit();
+        }
+    } // End of method loadTasks
+
+
+    // --- Private Persistence Methods -----------------------------------------
+
+    /** Adds a profile to the in-memory list under the given shard id. */
+    private ShardEntry register(Profile profile, int id, boolean tasksLoaded) {
+        ShardEntry entry = new ShardEntry(id, profile, tasksLoaded, journalFile(id));
+        entry.journal.setCompactionHook(() -> compact(entry));
+        profiles.add(profile);
+        shards.put(profile, entry);
+        nameIndex.putIfAbsent(normalize(profile.getName()), profile);
+        nextShardId = Math.max(nextShardId, id + 1);
+        return entry;
+    } // End of method register
+
+
+    /**
+     * Removes a profile from the name index. If another profile shares the
+     * name, it takes over the index entry.
+     */
+    private void unindex(Profile profile, String name) {
+        String key = normalize(name);
+        if (nameIndex.get(key) != profile) {
+            return;
+        }
+        nameIndex.remove(key);
+        for (Profile profileItem : profiles) {
+            if (profileItem != profile && normalize(profileItem.getName()).equals(key)) {
+                nameIndex.put(key, profileItem);
+                return;
+            }
+        } // End of loop
+    } // End of method unindex
+
+
+    /**
+     * Maps a name to its index key. Upper- then lower-casing folds case the
+     * same way {@link String#equalsIgnoreCase(String)} does for nearly all
+     * characters, independent of the default locale.
+     */
+    private static String normalize(String name) {
+        return name == null ? "" : name.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    } // End of method normalize
+
+
+    /** Folds a profile's journal into a new shard, unless the profile was deleted meanwhile. */
+    private synchronized void compact(ShardEntry entry) {
+        if (shards.get(entry.profile) == entry) {
+            scheduleShardWrite(entry);
+        }
+    } // End of method compact
+
+
+    /** Schedules a write of the manifest, coalesced with other pending manifest writes. */
+    private CompletableFuture<Void> scheduleManifestWrite() {
+        return AutosaveScheduler.getInstance().schedule(MANIFEST_FILE, () -> {
+            try {
+                writeManifest();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not save the profile list", e);
+            }
+        });
+    } // End of method scheduleManifestWrite
+
+
+    /**
+     * Schedules a write of a profile's shard.
+     * <p>
+     * The task columns and journal sequence are copied on the calling thread,
+     * which is the thread that mutates the profile, so the shard always
+     * matches the sequence it records. Only encoding and disk I/O happen in
+     * the background.
+     * </p>
+     */
+    private CompletableFuture<Void> scheduleShardWrite(ShardEntry entry) {
+        long sequence = entry.journal.getLastSequence();
+        String name = entry.profile.getName();
+        TaskColumns<Needs> needs = entry.profile.getNeedColumns().copy();
+        TaskColumns<Wants> wants = entry.profile.getWantColumns().copy();
+        return AutosaveScheduler.getInstance().schedule(entry, () -> {
+            try {
+                writeShard(entry, needs, wants, sequence);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not save tasks for " + name, e);
+            }
+        });
+    } // End of method scheduleShardWrite
+
+
+    /**
+     * Rewrites the manifest of profile headers from a copy taken under the lock.
+     */
+    private void writeManifest() throws IOException {
+        List<Profile> snapshot;
+        Map<Profile, Integer> shardIds = new IdentityHashMap<>();
+        int nextId;
+        synchronized (this) {
+            snapshot = new ArrayList<>(profiles);
+            shards.forEach((profile, entry) -> shardIds.put(profile, entry.id));
+            nextId = nextShardId;
+        }
+
+        PersistenceEvents.ProfilesWrite event = new PersistenceEvents.ProfilesWrite();
+        event.begin();
+        long bytes = writeAtomically(new File(profilesDirectory, MANIFEST_FILE),
+                out -> ProfileCodec.writeManifest(out, nextId, snapshot, shardIds::get));
+        event.end();
+        if (event.shouldCommit()) {
+            event.profiles = snapshot.size();
+            event.bytes = bytes;
+            event.commit();
+        }
+    } // End of method writeManifest
+
+
+    /**
+     * Writes a profile's Needs and Wants to its shard and resets its journal.
+     * The shard records the last journal sequence it contains, so replay
+     * skips those records if the reset is interrupted.
+     */
+    private void writeShard(ShardEntry entry, TaskColumns<Needs> needs, TaskColumns<Wants> wants,
+                                   long sequence) throws IOException {
+        PersistenceEvents.TasksWrite event = new PersistenceEvents.TasksWrite();
+        event.begin();
+        long bytes = writeAtomically(shardFile(entry.id), out -> ProfileCodec.writeShard(out, needs, wants, sequence));
+        entry.journal.reset(sequence);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.profile = entry.profile.getName();
+            event.needs = needs.size();
+            event.wants = wants.size();
+            event.bytes = bytes;
+            event.commit();
+        }
+    } // End of method writeShard
+
+
+    /** Writes the contents of a file. */
+    @FunctionalInterface
+    private interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Writes a file through a temporary file that is moved into place, so a
+     * crash never leaves it half-written.
+     *
+     * @return the size of the written file, in bytes
+     */
+    private long writeAtomically(File target, ContentWriter writer) throws IOException {
+        if (!profilesDirectory.isDirectory() && !profilesDirectory.mkdirs()) {
+            throw new IOException("Cannot create " + profilesDirectory);
+        }
+
+        File tempFile = new File(target.getPath() + ".tmp");
+        try (OutputStream outputStream = new FileOutputStream(tempFile)) {
+            writer.write(outputStream);
+        }
+        long size = tempFile.length();
+        Files.move(tempFile.toPath(), target.toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return size;
+    } // End of method writeAtomically
+
+
+    private File shardFile(int id) {
+        return new File(profilesDirectory, id + SHARD_EXTENSION);
+    } // End of method shardFile
+
+    private File journalFile(int id) {
+        return new File(profilesDirectory, id + JOURNAL_EXTENSION);
+    } // End of method journalFile
+
+    private static void deleteQuietly(File file) {
+        if (file.exists() && !file.delete()) {
+            System.err.println("⚠️ [ProfileRepository] Failed to delete " + file.getName());
+        }
+    } // End of method deleteQuietly
+
+
+    // --- Legacy Migration ----------------------------------------------------
+
+    /**
+     * Converts the single-file layout into a manifest and per-profile shards.
+     * <p>
+     * {@code profiles.dat} may use Java serialization or the single-file
+     * {@link ProfileCodec} snapshot; either way {@code profiles.journal} is
+     * replayed on top. Once the new layout is written, the old files are
+     * renamed with a {@code .legacy} suffix. If anything fails they are left
+     * untouched and migration is retried on the next start.
+     * </p>
+     */
+    private void migrateLegacyStorage() {
+        File legacyFile = new File(dataDirectory, LEGACY_STORAGE_FILE);
+        File legacyJournalFile = new File(dataDirectory, LEGACY_JOURNAL_FILE);
+
+        List<Profile> legacyProfiles = new ArrayList<>();
+        long snapshotSequence = 0L;
+        if (legacyFile.exists()) {
+            try {
+                ProfileCodec.Snapshot snapshot;
+                if (ProfileCodec.isJavaSerialized(legacyFile)) {
+                    snapshot = loadLegacySnapshot(legacyFile);
+                } else {
+                    try (InputStream inputStream = new FileInputStream(legacyFile)) {
+                        snapshot = ProfileCodec.readSnapshot(inputStream);
+                    }
+                }
+                legacyProfiles = new ArrayList<>(snapshot.getProfiles());
+                snapshotSequence = snapshot.getSequence();
+            } catch (IOException | ClassNotFoundException e) {
+                System.err.println("⚠️ [ProfileRepository] Failed to load legacy profiles: " + e.getMessage());
+                return; // Keep the legacy files for another attempt
+            }
+        }
+        new ProfileJournal(legacyJournalFile).replay(legacyProfiles, snapshotSequence);
+
+        try {
+            for (Profile profile : legacyProfiles) {
+                ShardEntry entry = register(profile, nextShardId++, true);
+                writeShard(entry, profile.getNeedColumns(), profile.getWantColumns(), 0L);
+            } // End of loop
+            writeManifest();
+        } catch (IOException e) {
+            System.err.println("⚠️ [ProfileRepository] Failed to migrate legacy profiles: " + e.getMessage());
+            return; // Keep the legacy files for another attempt
+        }
+
+        renameToLegacy(legacyFile);
+        renameToLegacy(legacyJournalFile);
+    } // End of method migrateLegacyStorage
+
+
+    /** Renames a migrated file to {@code <name>.legacy}, replacing an older backup. */
+    private static void renameToLegacy(File file) {
+        if (!file.exists()) {
+            return;
+        }
+        try {
+            Files.move(file.toPath(), new File(file.getPath() + ".legacy").toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("⚠️ [ProfileRepository] Failed to back up " + file.getName() + ": " + e.getMessage());
+        }
+    } // End of method renameToLegacy
+
+
+    /**
+     * Reads a snapshot written with default Java serialization, as stored by
+     * earlier versions of EconoMe. Such snapshots may be followed by the
+     * journal sequence they contain; older ones have none, which maps to {@code 0}.
+     */
+    @SuppressWarnings("unchecked")
+    private static ProfileCodec.Snapshot loadLegacySnapshot(File file) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream inputStream = new ObjectInputStream(new FileInputStream(file))) {
+            List<Profile> legacyProfiles = new ArrayList<>((List<Profile>) inputStream.readObject());
+            long sequence;
+            try {
+                sequence = inputStream.readLong();
+            } catch (IOException e) {
+                sequence = 0L;
+            }
+            return new ProfileCodec.Snapshot(legacyProfiles, sequence);
+        }
+    } // End of method loadLegacySnapshot
+
+} // End of class ProfileRepository
@@ -1,7 +1,19 @@
 package econome.logic;
 
+import econome.model.Money;
+import econome.model.Needs;
 import econome.model.Wants;
 import econome.model.Profile;
+import econome.model.TaskColumns;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Handles projection and forecasting logic for the EconoMe application.
@@ -16,10 +28,185 @@ import econome.model.Profile;
  *   <li>Estimate completion time for each financial goal (Want).</li>
  *   <li>Use user profile data (savings balance, income) for calculations.</li>
  *   <li>Provide edge-case handling for invalid or completed goals.</li>
+ *   <li>Project every open Want of one or many profiles in a single pass.</li>
+ *   <li>Lay out a profile's future cash flow month by month, on demand.</li>
  * </ul>
  */
 public class Projector {
 
+    /** Longest cash-flow timeline, in months: 50 years. */
+    public static final int MAX_TIMELINE_MONTHS = 600;
+
+    /** Supplies each profile's monthly contribution for batch projections. */
+    private final BudgetManager budgetManager = new BudgetManager();
+
+
+    // --- Batch Results --------------------------------------------------------
+
+    /**
+     * Months-to-completion of every open Want of one or more profiles, as
+     * parallel primitive columns.
+     * <p>
+     * Rows are grouped by profile, in the order the profiles were given, and
+     * within a profile follow the Wants list. Each row records the Want's row
+     * in {@link Profile#getWantColumns()} at the time of the projection, so a
+     * row's {@link Wants} handle can be looked up while the list is unchanged.
+     * Month values follow {@link #estimateGoalCompletionMonths(long, long, long)}:
+     * {@code 0} if already affordable, {@code -1} if unreachable.
+     * </p>
+     */
+    public static final class ProjectionTable {
+        private final List<Profile> profiles;
+        private final int[] starts;            // Rows of profile p: [starts[p], starts[p + 1])
+        private final long[] savingsCents;     // Per profile
+        private final long[] contributionCents; // Per profile
+        private final int[] wantRows;
+        private final long[] goalCents;
+        private final int[] months;
+
+        ProjectionTable(List<Profile> profiles, int[] starts, long[] savingsCents, long[] contributionCents,
+                        int[] wantRows, long[] goalCents, int[] months) {
+            this.profiles = profiles;
+            this.starts = starts;
+            this.savingsCents = savingsCents;
+            this.contributionCents = contributionCents;
+            this.wantRows = wantRows;
+            this.goalCents = goalCents;
+            this.months = months;
+        }
+
+        // --- Profiles ---
+
+        /** @return the number of projected profiles */
+        public int getProfileCount() { return profiles.size(); }
+
+        /** @return the projected profile at {@code index} */
+        public Profile getProfile(int index) { return profiles.get(index); }
+
+        /** @return the first row of a profile's Wants */
+        public int getStart(int profileIndex) { return starts[profileIndex]; }
+
+        /** @return the row after the last of a profile's Wants */
+        public int getEnd(int profileIndex) { return starts[profileIndex + 1]; }
+
+        /** @return the savings balance the profile's projections started from, in cents */
+        public long getSavingsCents(int profileIndex) { return savingsCents[profileIndex]; }
+
+        /** @return the monthly contribution used for the profile, in cents */
+        public long getContributionCents(int profileIndex) { return contributionCents[profileIndex]; }
+
+        // --- Rows ---
+
+        /** @return the total number of projected Wants */
+        public int size() { return months.length; }
+
+        /** @return the index of the profile that owns a row */
+        public int getProfileIndex(int row) {
+            int index = Arrays.binarySearch(starts, row);
+            if (index < 0) {
+                return -index - 2;
+            }
+            while (index + 1 < starts.length && starts[index + 1] == row) {
+                index++; // Skip profiles without open Wants
+            }
+            return index;
+        }
+
+        /** @return the row of the Want in its profile's Wants columns */
+        public int getWantRow(int row) { return wantRows[row]; }
+
+        /** @return the cost of the Want, in cents */
+        public long getGoalCents(int row) { return goalCents[row]; }
+
+        /** @return the months until the Want is affordable, {@code 0}, or {@code -1} if unreachable */
+        public int getMonths(int row) { return months[row]; }
+
+        /** @return the Want of a row, valid while its profile's Wants are unchanged */
+        public Wants getWant(int row) {
+            return getProfile(getProfileIndex(row)).getWantsList().get(wantRows[row]);
+        }
+
+        /** @return how many Wants can never be reached with the current contribution */
+        public int countUnreachable() {
+            int count = 0;
+            for (int value : months) {
+                if (value < 0) count++;
+            }
+            return count;
+        }
+
+        /**
+         * @param profileIndex the profile to inspect
+         * @return the longest projection among the profile's reachable Wants, or {@code 0}
+         */
+        public int getMaxMonths(int profileIndex) {
+            int max = 0;
+            for (int row = starts[profileIndex]; row < starts[profileIndex + 1]; row++) {
+                max = Math.max(max, months[row]);
+            }
+            return max;
+        }
+    } // End of class ProjectionTable
+
+    /**
+     * One month of a cash-flow timeline. Amounts are in cents; the month
+     * covers the days from {@link #getStart()} up to, but not including,
+     * {@link #getEnd()}.
+     */
+    public static final class CashFlowMonth {
+        private final int month;
+        private final LocalDate start;
+        private final LocalDate end;
+        private final long incomeCents;
+        private final long needsOutflowCents;
+        private final long wantsOutflowCents;
+        private final long savedCents;
+        private final long savingsBalanceCents;
+
+        CashFlowMonth(int month, LocalDate start, LocalDate end, long incomeCents, long needsOutflowCents,
+                      long wantsOutflowCents, long savedCents, long savingsBalanceCents) {
+            this.month = month;
+            this.start = start;
+            this.end = end;
+            this.incomeCents = incomeCents;
+            this.needsOutflowCents = needsOutflowCents;
+            this.wantsOutflowCents = wantsOutflowCents;
+            this.savedCents = savedCents;
+            this.savingsBalanceCents = savingsBalanceCents;
+        }
+
+        /** @return the month's position in the timeline, starting at 1 */
+        public int getMonth() { return month; }
+
+        /** @return the first day of the month */
+        public LocalDate getStart() { return start; }
+
+        /** @return the first day of the next month */
+        public LocalDate getEnd() { return end; }
+
+        /** @return the income received */
+        public long getIncomeCents() { return incomeCents; }
+
+        /** @return the cost of the open Needs due in the month (the first month also takes overdue ones) */
+        public long getNeedsOutflowCents() { return needsOutflowCents; }
+
+        /** @return the cost of the Wants bought from savings once fully funded */
+        public long getWantsOutflowCents() { return wantsOutflowCents; }
+
+        /** @return the savings contribution made at the end of the month */
+        public long getSavedCents() { return savedCents; }
+
+        /** @return the savings balance at the end of the month, after contributions and purchases */
+        public long getSavingsBalanceCents() { return savingsBalanceCents; }
+
+        @Override
+        public String toString() {
+            return String.format("%d %s: income %s, needs %s, wants %s, saved %s, balance %s", month, start,
+                    Money.format(incomeCents), Money.format(needsOutflowCents), Money.format(wantsOutflowCents),
+                    Money.format(savedCents), Money.format(savingsBalanceCents));
+        }
+    } // End of class CashFlowMonth
+
     // --- Public Projection Methods -------------------------------------------
 
     /**
@@ -42,23 +229,270 @@ public class Projector {
      *         </ul>
      */
     public int estimateGoalCompletionMonths(Wants targetGoal, Profile userProfile, double monthlyContribution) {
-        double goalCost = targetGoal.getCost();
-        double currentSavings = userProfile.getSavingsBalance();
-        double remainingAmount = goalCost - currentSavings;
+        return estimateGoalCompletionMonths(targetGoal.getCostCents(), userProfile.getSavingsBalanceCents(),
+                Money.ofAmount(monthlyContribution));
+    } // End of method estimateGoalCompletionMonths
+
+
+    /**
+     * Same as {@link #estimateGoalCompletionMonths(Wants, Profile, double)},
+     * with every amount in cents.
+     *
+     * @param goalCents         the cost of the goal
+     * @param savingsCents      the user's current savings
+     * @param contributionCents the planned monthly contribution
+     * @return the estimated number of months, {@code 0} or {@code -1} as above
+     */
+    public int estimateGoalCompletionMonths(long goalCents, long savingsCents, long contributionCents) {
+        long remainingCents = goalCents - savingsCents;
 
         // --- Edge Case 1: Goal has no cost or is already fulfilled
-        if (goalCost <= 0 || remainingAmount <= 0) {
+        if (goalCents <= 0 || remainingCents <= 0) {
             return 0;
         }
 
         // --- Edge Case 2: No or invalid monthly contribution (unreachable goal)
-        if (monthlyContribution <= 0) {
+        if (contributionCents <= 0) {
             return -1;
         }
 
         // --- Standard Case: Calculate months required (rounded up)
-        int monthsRequired = (int) Math.ceil(remainingAmount / monthlyContribution);
-        return monthsRequired;
+        return (int) Math.min(Integer.MAX_VALUE, Math.ceilDiv(remainingCents, contributionCents));
     } // End of method estimateGoalCompletionMonths
 
+
+    // --- Batch Projection Methods --------------------------------------------
+
+    /**
+     * Projects every open Want of a profile, contributing the profile's
+     * projected monthly savings ({@link BudgetManager#calculateProjectedSavingsCents}).
+     * <p>
+     * Like {@link #estimateGoalCompletionMonths(Wants, Profile, double)},
+     * each Want is projected on its own against the whole savings balance.
+     * </p>
+     *
+     * @param userProfile the profile whose Wants are projected
+     * @return one row per open Want
+     */
+    public ProjectionTable projectOpenWants(Profile userProfile) {
+        return projectOpenWants(List.of(userProfile));
+    } // End of method projectOpenWants
+
+    /**
+     * Projects every open Want of a profile with a given monthly contribution.
+     *
+     * @param userProfile       the profile whose Wants are projected
+     * @param contributionCents the planned monthly contribution, in cents
+     * @return one row per open Want
+     */
+    public ProjectionTable projectOpenWants(Profile userProfile, long contributionCents) {
+        return project(List.of(userProfile), new long[]{contributionCents});
+    } // End of method projectOpenWants
+
+    /**
+     * Projects every open Want of many profiles, e.g. for a nightly report,
+     * each with its own projected monthly savings.
+     * <p>
+     * The Wants are copied straight from each profile's columns into one
+     * table, without creating item handles, and each profile's savings
+     * balance and contribution are read once. Call this on the thread that
+     * changes the profiles.
+     * </p>
+     *
+     * @param profiles the profiles whose Wants are projected
+     * @return the rows of every profile, grouped in the given order
+     */
+    public ProjectionTable projectOpenWants(List<Profile> profiles) {
+        long[] contributions = new long[profiles.size()];
+        for (int i = 0; i < contributions.length; i++) {
+            contributions[i] = budgetManager.calculateProjectedSavingsCents(profiles.get(i));
+        }
+        return project(profiles, contributions);
+    } // End of method projectOpenWants
+
+
+    // --- Cash-Flow Timeline --------------------------------------------------
+
+    /**
+     * Lays out a profile's cash flow month by month from today, buying each
+     * Want as soon as savings cover it, earliest due first.
+     *
+     * @param userProfile the profile to project
+     * @param months      length of the timeline, up to {@link #MAX_TIMELINE_MONTHS}
+     * @return the months in order, generated as the stream is consumed
+     * @see #cashFlowTimeline(Profile, LocalDate, int, SavingsScheduler.Policy)
+     */
+    public Stream<CashFlowMonth> cashFlowTimeline(Profile userProfile, int months) {
+        return cashFlowTimeline(userProfile, LocalDate.now(), months, SavingsScheduler.Policy.EARLIEST_DEADLINE_FIRST);
+    } // End of method cashFlowTimeline
+
+    /**
+     * Lays out a profile's cash flow month by month.
+     * <p>
+     * Every month receives the profile's income and makes its planned savings
+     * contribution ({@link BudgetManager#calculateProjectedSavingsCents}).
+     * Open Needs are paid in the month they are due, and overdue ones in the
+     * first month; Needs without a due date are left out. Wants are paid from
+     * savings in the month they become fully funded under {@code policy},
+     * matching {@link SavingsScheduler}.
+     * </p>
+     * <p>
+     * The profile's open tasks are copied when this method is called, which
+     * takes time proportional to the number of tasks. The months themselves
+     * are computed one at a time as the stream is consumed, so taking a
+     * window with {@code skip} and {@code limit}, or reducing the stream,
+     * never holds more than one month in memory.
+     * </p>
+     *
+     * @param userProfile the profile to project
+     * @param start       the first day of the first month
+     * @param months      length of the timeline, up to {@link #MAX_TIMELINE_MONTHS}
+     * @param policy      how Wants share the savings
+     * @return the months in order, generated as the stream is consumed
+     */
+    public Stream<CashFlowMonth> cashFlowTimeline(Profile userProfile, LocalDate start, int months,
+                                                  SavingsScheduler.Policy policy) {
+        if (months < 0 || months > MAX_TIMELINE_MONTHS) {
+            throw new IllegalArgumentException("Timeline must be 0 to " + MAX_TIMELINE_MONTHS + " months, was " + months);
+        }
+        return StreamSupport.stream(new CashFlowTimeline(userProfile, start, months, policy), false);
+    } // End of method cashFlowTimeline
+
+
+    // --- Private Helpers -----------------------------------------------------
+
+    /** Gathers the open Wants of every profile into one table and projects them. */
+    private static ProjectionTable project(List<Profile> profiles, long[] contributions) {
+        List<Profile> snapshot = List.copyOf(profiles);
+        int profileCount = snapshot.size();
+        int[] starts = new int[profileCount + 1];
+        for (int p = 0; p < profileCount; p++) {
+            starts[p + 1] = starts[p] + snapshot.get(p).getWantColumns().countOpen();
+        }
+
+        int rows = starts[profileCount];
+        int[] wantRows = new int[rows];
+        long[] goalCents = new long[rows];
+        int[] months = new int[rows];
+        long[] savings = new long[profileCount];
+        for (int p = 0; p < profileCount; p++) {
+            Profile profile = snapshot.get(p);
+            TaskColumns<Wants> wants = profile.getWantColumns();
+            wants.copyOpenRows(wantRows, goalCents, null, starts[p]);
+            savings[p] = profile.getSavingsBalanceCents();
+            estimateMonths(goalCents, starts[p], starts[p + 1], savings[p], contributions[p], months);
+        }
+        return new ProjectionTable(snapshot, starts, savings, contributions, wantRows, goalCents, months);
+    } // End of method project
+
+    /**
+     * Projects a range of goals that share a savings balance and contribution,
+     * with the same results as {@link #estimateGoalCompletionMonths(long, long, long)}.
+     */
+    private static void estimateMonths(long[] goalCents, int from, int to, long savingsCents,
+                                       long contributionCents, int[] months) {
+        if (contributionCents <= 0) {
+            for (int i = from; i < to; i++) {
+                months[i] = goalCents[i] <= 0 || goalCents[i] - savingsCents <= 0 ? 0 : -1;
+            }
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            long remainingCents = goalCents[i] <= 0 ? 0 : Math.max(0, goalCents[i] - savingsCents);
+            months[i] = (int) Math.min(Integer.MAX_VALUE, Math.ceilDiv(remainingCents, contributionCents));
+        }
+    } // End of method estimateMonths
+
+    /**
+     * Generates the months of a cash-flow timeline on demand. Needs and Wants
+     * are held as due days and purchase months in ascending order, so each
+     * month only advances two cursors.
+     */
+    private final class CashFlowTimeline extends Spliterators.AbstractSpliterator<CashFlowMonth> {
+        private final LocalDate start;
+        private final int months;
+        private final long incomeCents;
+        private final long savedCents;
+        private final long initialSavingsCents;
+
+        // --- Needs, by due day ---
+        private final int[] needDays;
+        private final long[] needCents;
+        private int nextNeed;
+
+        // --- Wants, by purchase month ---
+        private final int[] wantMonths;
+        private final long[] wantCents;
+        private int nextWant;
+        private long spentCents;
+
+        private int month;
+
+        CashFlowTimeline(Profile userProfile, LocalDate start, int months, SavingsScheduler.Policy policy) {
+            super(months, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE | Spliterator.SIZED);
+            this.start = start;
+            this.months = months;
+            this.incomeCents = userProfile.getIncomeCents();
+            this.savedCents = budgetManager.calculateProjectedSavingsCents(userProfile);
+            this.initialSavingsCents = userProfile.getSavingsBalanceCents();
+
+            TaskColumns<Needs> needs = userProfile.getNeedColumns();
+            int[] rows = needs.openRowsDueBetween(TaskColumns.NO_DATE + 1,
+                    Math.toIntExact(start.plusMonths(months).toEpochDay()) - 1);
+            this.needDays = new int[rows.length];
+            this.needCents = new long[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                needDays[i] = needs.epochDayAt(rows[i]);
+                needCents[i] = needs.centsAt(rows[i]);
+            }
+
+            // Sort (purchase month, index) pairs packed into longs; Wants never funded come last
+            SavingsScheduler.Schedule schedule = SavingsScheduler.plan(userProfile, policy, want -> 1.0, start)
+                    .schedule(initialSavingsCents, savedCents);
+            long[] order = new long[schedule.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = (long) purchaseKey(schedule.getMonths(i)) << 32 | i;
+            }
+            Arrays.sort(order);
+            this.wantMonths = new int[order.length];
+            this.wantCents = new long[order.length];
+            for (int k = 0; k < order.length; k++) {
+                wantMonths[k] = (int) (order[k] >>> 32);
+                wantCents[k] = Math.max(0, schedule.getGoalCents((int) order[k]));
+            }
+        }
+
+        /** @return the month a Want is bought in, counting already-affordable ones in month 1 */
+        private static int purchaseKey(int months) {
+            return months < 0 ? Integer.MAX_VALUE : Math.max(1, months);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super CashFlowMonth> action) {
+            if (month >= months) {
+                return false;
+            }
+            month++;
+            LocalDate from = start.plusMonths(month - 1);
+            LocalDate to = start.plusMonths(month);
+
+            long needsOutflow = 0;
+            long endDay = to.toEpochDay();
+            while (nextNeed < needDays.length && needDays[nextNeed] < endDay) {
+                needsOutflow += needCents[nextNeed++];
+            }
+
+            long wantsOutflow = 0;
+            while (nextWant < wantMonths.length && wantMonths[nextWant] <= month) {
+                wantsOutflow += wantCents[nextWant++];
+            }
+            spentCents += wantsOutflow;
+
+            long balance = initialSavingsCents + savedCents * month - spentCents;
+            action.accept(new CashFlowMonth(month, from, to, incomeCents, needsOutflow, wantsOutflow,
+                    savedCents, balance));
+            return true;
+        }
+    } // End of class CashFlowTimeline
+
 } // End of class Projector
\ No newline at end of file
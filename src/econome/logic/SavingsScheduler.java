@@ -0,0 +1,442 @@
+package econome.logic;
+
+import econome.model.Profile;
+import econome.model.TaskColumns;
+import econome.model.Wants;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Distributes a profile's savings across all of its open Wants and predicts
+ * when each one will be paid for.
+ * <p>
+ * {@link Projector} answers "how long until I can afford this Want?" as if
+ * every dollar saved went to that Want alone. When a profile has several
+ * Wants, they compete for the same savings, so this class schedules them
+ * together: the current savings balance and every monthly contribution
+ * ({@link BudgetManager#calculateProjectedSavingsCents}) are divided among
+ * the Wants still unpaid according to a {@link Policy}, and money left over
+ * when a Want is fully funded goes to the others in the same month.
+ * </p>
+ * <p>
+ * The simulation is event-driven. Under each policy the money a Want has
+ * received depends only on the total saved so far, so the schedule is
+ * computed once as a list of completion events: the cumulative savings at
+ * which each Want becomes fully funded. Building it sorts the Wants once
+ * ({@code O(n log n)}); turning it into months for a given contribution is
+ * then a single division per Want, with no month-by-month loop over the
+ * goals. Amounts shared between Wants are tracked to the nearest cent.
+ * </p>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Share savings among open Wants by deadline, by cost, or by priority.</li>
+ *   <li>Predict each Want's completion month and date.</li>
+ *   <li>Report which Wants will miss their due date, and by how much.</li>
+ * </ul>
+ */
+public class SavingsScheduler {
+
+    /** How savings are divided among the unpaid Wants. */
+    public enum Policy {
+
+        /** All savings go to the Want due soonest; undated Wants come last. */
+        EARLIEST_DEADLINE_FIRST,
+
+        /**
+         * Savings are split in proportion to each Want's cost, so every
+         * unpaid Want progresses by the same percentage.
+         */
+        PROPORTIONAL,
+
+        /**
+         * Savings are split in proportion to a priority weight per Want;
+         * Wants finishing early pass their share on to the rest.
+         */
+        PRIORITY_WEIGHTED
+    } // End of enum Policy
+
+    /** Supplies each profile's monthly contribution. */
+    private final BudgetManager budgetManager = new BudgetManager();
+
+
+    // -------------------------------------------------------------------------
+    // RESULTS
+    // -------------------------------------------------------------------------
+
+    /**
+     * The predicted completion of every open Want of a profile, as parallel
+     * columns in the order of the profile's Wants list.
+     */
+    public static final class Schedule {
+        private final FundingPlan plan;
+        private final long savingsCents;
+        private final long contributionCents;
+        private final int[] months;
+        private final long[] shortfallCents;
+
+        Schedule(FundingPlan plan, long savingsCents, long contributionCents, int[] months, long[] shortfallCents) {
+            this.plan = plan;
+            this.savingsCents = savingsCents;
+            this.contributionCents = contributionCents;
+            this.months = months;
+            this.shortfallCents = shortfallCents;
+        }
+
+        /** @return the policy the savings were shared by */
+        public Policy getPolicy() { return plan.policy; }
+
+        /** @return the date the schedule starts from */
+        public LocalDate getStart() { return plan.start; }
+
+        /** @return the savings balance at the start, in cents */
+        public long getSavingsCents() { return savingsCents; }
+
+        /** @return the monthly contribution, in cents */
+        public long getContributionCents() { return contributionCents; }
+
+        /** @return the number of scheduled Wants */
+        public int size() { return months.length; }
+
+        /** @return the Want's row in the profile's Wants columns */
+        public int getWantRow(int index) { return plan.wantRows[index]; }
+
+        /** @return the Want, valid while the profile's Wants are unchanged */
+        public Wants getWant(int index) { return plan.profile.getWantsList().get(plan.wantRows[index]); }
+
+        /** @return the Want's cost, in cents */
+        public long getGoalCents(int index) { return plan.goalCents[index]; }
+
+        /** @return the Want's due date, or {@code null} */
+        public LocalDate getDueDate(int index) {
+            int epochDay = plan.epochDays[index];
+            return epochDay == TaskColumns.NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+        }
+
+        /** @return months until the Want is fully funded: {@code 0} if already, {@code -1} if never */
+        public int getMonths(int index) { return months[index]; }
+
+        /** @return the date the Want is fully funded, or {@code null} if never */
+        public LocalDate getCompletionDate(int index) {
+            return months[index] < 0 ? null : plan.start.plusMonths(months[index]);
+        }
+
+        /** @return how much of the Want is still unfunded on its due date, in cents ({@code 0} if undated) */
+        public long getShortfallCents(int index) { return shortfallCents[index]; }
+
+        /** @return whether the Want will not be fully funded by its due date */
+        public boolean isLate(int index) { return shortfallCents[index] > 0; }
+
+        /** @return how many Wants will miss their due date */
+        public int countLate() {
+            int count = 0;
+            for (long shortfall : shortfallCents) {
+                if (shortfall > 0) count++;
+            }
+            return count;
+        }
+
+        /** @return the sum of all shortfalls on the due dates, in cents */
+        public long getTotalShortfallCents() {
+            long total = 0;
+            for (long shortfall : shortfallCents) {
+                total += shortfall;
+            }
+            return total;
+        }
+
+        /** @return months until every Want is funded, {@code 0} if there are none, or {@code -1} if never */
+        public int getFinalMonth() {
+            int last = 0;
+            for (int value : months) {
+                if (value < 0) return -1;
+                last = Math.max(last, value);
+            }
+            return last;
+        }
+    } // End of class Schedule
+
+
+    // -------------------------------------------------------------------------
+    // SCHEDULING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Schedules a profile's open Wants from today, contributing the profile's
+     * projected monthly savings. {@link Policy#PRIORITY_WEIGHTED} gives every
+     * Want the same weight.
+     *
+     * @param userProfile the profile whose Wants are scheduled
+     * @param policy      how savings are shared
+     * @return the predicted completion of each open Want
+     */
+    public Schedule schedule(Profile userProfile, Policy policy) {
+        return schedule(userProfile, policy, want -> 1.0);
+    } // End of method schedule
+
+    /**
+     * Schedules a profile's open Wants from today, contributing the profile's
+     * projected monthly savings.
+     *
+     * @param userProfile the profile whose Wants are scheduled
+     * @param policy      how savings are shared
+     * @param priority    weight of each Want under {@link Policy#PRIORITY_WEIGHTED}; must be positive
+     * @return the predicted completion of each open Want
+     */
+    public Schedule schedule(Profile userProfile, Policy policy, ToDoubleFunction<Wants> priority) {
+        return schedule(userProfile, policy, priority,
+                budgetManager.calculateProjectedSavingsCents(userProfile), LocalDate.now());
+    } // End of method schedule
+
+    /**
+     * Schedules a profile's open Wants with a given contribution and start date.
+     *
+     * @param userProfile       the profile whose Wants are scheduled
+     * @param policy            how savings are shared
+     * @param priority          weight of each Want under {@link Policy#PRIORITY_WEIGHTED}; must be positive
+     * @param contributionCents the monthly contribution, in cents
+     * @param start             the date the current savings balance applies to
+     * @return the predicted completion of each open Want
+     */
+    public Schedule schedule(Profile userProfile, Policy policy, ToDoubleFunction<Wants> priority,
+                             long contributionCents, LocalDate start) {
+        return plan(userProfile, policy, priority, start)
+                .schedule(userProfile.getSavingsBalanceCents(), contributionCents);
+    } // End of method schedule
+
+    /**
+     * Builds the completion events of a profile's open Wants, which can then
+     * be turned into schedules for any balance and contribution.
+     */
+    static FundingPlan plan(Profile userProfile, Policy policy, ToDoubleFunction<Wants> priority, LocalDate start) {
+        TaskColumns<Wants> wants = userProfile.getWantColumns();
+        int count = wants.countOpen();
+        int[] rows = new int[count];
+        long[] goalCents = new long[count];
+        int[] epochDays = new int[count];
+        wants.copyOpenRows(rows, goalCents, epochDays, 0);
+
+        double[] weights = null;
+        if (policy == Policy.PRIORITY_WEIGHTED) {
+            List<Wants> list = userProfile.getWantsList();
+            weights = new double[count];
+            for (int i = 0; i < count; i++) {
+                weights[i] = priority.applyAsDouble(list.get(rows[i]));
+                if (!(weights[i] > 0) || Double.isInfinite(weights[i])) {
+                    throw new IllegalArgumentException("Priority of \"" + list.get(rows[i]).getDescription()
+                            + "\" must be positive, was " + weights[i]);
+                }
+            }
+        } else if (policy == Policy.PROPORTIONAL) {
+            weights = new double[count];
+            for (int i = 0; i < count; i++) {
+                weights[i] = Math.max(1, goalCents[i]); // A free Want still needs a nonzero share
+            }
+        }
+        return new FundingPlan(userProfile, policy, start, rows, goalCents, epochDays, weights);
+    } // End of method plan
+
+
+    // -------------------------------------------------------------------------
+    // COMPLETION EVENTS
+    // -------------------------------------------------------------------------
+
+    /**
+     * The completion events of one profile's Wants under one policy: for each
+     * Want, the cumulative savings at which it is fully funded.
+     * <p>
+     * Under {@link Policy#EARLIEST_DEADLINE_FIRST} that is the sum of the
+     * costs of the Wants due no later. Under the weighted policies every
+     * unpaid Want receives money at a rate proportional to its weight, so
+     * Want {@code i} finishes when the common "level" of funding per unit of
+     * weight reaches {@code cost / weight}; Wants finish in that order, and
+     * each completion only changes the total weight still being funded.
+     * </p>
+     */
+    static final class FundingPlan {
+        final Profile profile;
+        final Policy policy;
+        final LocalDate start;
+        final int[] wantRows;
+        final long[] goalCents;
+        final int[] epochDays;
+        final long[] thresholds;    // Cumulative savings at which each Want is funded
+        final int[] monthsUntilDue; // Contributions made before each due date, or -1 if undated
+
+        // --- Funded-amount lookup, in completion order ---
+        private final double[] weights;           // Per Want; null for EDF
+        private final long[] sortedThresholds;
+        private final double[] sortedLevels;      // Funding per unit of weight at each completion
+        private final double[] remainingWeights;  // Weight still unpaid after each completion
+        private final double totalWeight;
+
+        FundingPlan(Profile profile, Policy policy, LocalDate start, int[] wantRows, long[] goalCents,
+                    int[] epochDays, double[] weights) {
+            this.profile = profile;
+            this.policy = policy;
+            this.start = start;
+            this.wantRows = wantRows;
+            this.goalCents = goalCents;
+            this.epochDays = epochDays;
+            this.weights = weights;
+
+            int count = goalCents.length;
+            this.thresholds = new long[count];
+            this.sortedThresholds = new long[count];
+            this.sortedLevels = new double[count];
+            this.remainingWeights = new double[count];
+            this.monthsUntilDue = new int[count];
+
+            double total = 0;
+            if (weights == null) {
+                buildDeadlineOrder();
+            } else {
+                for (double weight : weights) total += weight;
+                buildWeightedOrder(total);
+            }
+            this.totalWeight = total;
+
+            for (int i = 0; i < count; i++) {
+                monthsUntilDue[i] = epochDays[i] == TaskColumns.NO_DATE ? -1
+                        : Math.max(0, monthsBetween(start, epochDays[i]));
+            }
+        }
+
+        /** Earliest deadline first: each Want is funded once all earlier ones are. */
+        private void buildDeadlineOrder() {
+            // Sort (due day, index) pairs packed into longs; undated Wants come last
+            long[] order = new long[goalCents.length];
+            for (int i = 0; i < order.length; i++) {
+                int day = epochDays[i] == TaskColumns.NO_DATE ? Integer.MAX_VALUE : epochDays[i];
+                order[i] = (long) day << 32 | i;
+            }
+            Arrays.sort(order);
+            long cumulative = 0;
+            for (int k = 0; k < order.length; k++) {
+                int i = (int) order[k];
+                cumulative += Math.max(0, goalCents[i]);
+                thresholds[i] = cumulative;
+                sortedThresholds[k] = cumulative;
+            }
+        }
+
+        /** Weighted sharing: Wants finish in order of cost per unit of weight. */
+        private void buildWeightedOrder(double total) {
+            int count = goalCents.length;
+            double[] levels = new double[count];
+            for (int i = 0; i < count; i++) {
+                levels[i] = Math.max(0, goalCents[i]) / weights[i];
+            }
+            Integer[] order = IntStream.range(0, count).boxed().toArray(Integer[]::new);
+            Arrays.sort(order, Comparator.comparingDouble((Integer i) -> levels[i]).thenComparingInt(i -> i));
+
+            // Wants with the same level finish together, so thresholds are computed per group
+            double fundedCost = 0;
+            double remaining = total;
+            for (int k = 0; k < count; ) {
+                double level = levels[order[k]];
+                int end = k;
+                while (end < count && levels[order[end]] == level) {
+                    fundedCost += Math.max(0, goalCents[order[end]]);
+                    remaining -= weights[order[end]];
+                    end++;
+                }
+                remaining = Math.max(0, remaining);
+                long threshold = Math.round(fundedCost + level * remaining);
+                for (; k < end; k++) {
+                    thresholds[order[k]] = threshold;
+                    sortedThresholds[k] = threshold;
+                    sortedLevels[k] = level;
+                    remainingWeights[k] = remaining;
+                }
+            }
+        }
+
+        /** @return whole months from {@code start} to a due date, as {@link ChronoUnit#MONTHS} counts them */
+        static int monthsBetween(LocalDate start, int epochDay) {
+            LocalDate due = LocalDate.ofEpochDay(epochDay);
+            int months = (due.getYear() - start.getYear()) * 12 + due.getMonthValue() - start.getMonthValue();
+            if (months > 0 && due.getDayOfMonth() < start.getDayOfMonth()) months--;
+            else if (months < 0 && due.getDayOfMonth() > start.getDayOfMonth()) months++;
+            return months;
+        }
+
+        /**
+         * Computes how much of a Want is funded once a total amount has been saved.
+         *
+         * @param index      the Want
+         * @param savedCents the cumulative savings, including the starting balance
+         * @return the funded amount, in cents
+         */
+        long fundedCents(int index, long savedCents) {
+            long goal = Math.max(0, goalCents[index]);
+            if (savedCents >= thresholds[index]) {
+                return goal;
+            }
+            if (weights == null) {
+                return Math.max(0, savedCents - (thresholds[index] - goal)); // Earlier Wants take precedence
+            }
+
+            // Find the last completion reached and the funding level past it
+            int reached = Arrays.binarySearch(sortedThresholds, savedCents);
+            if (reached < 0) {
+                reached = -reached - 2;
+            } else {
+                while (reached + 1 < sortedThresholds.length && sortedThresholds[reached + 1] == savedCents) {
+                    reached++;
+                }
+            }
+            double level = reached < 0
+                    ? savedCents / totalWeight
+                    : sortedLevels[reached] + (savedCents - sortedThresholds[reached]) / remainingWeights[reached];
+            return Math.min(goal, (long) Math.floor(weights[index] * level));
+        }
+
+        /**
+         * Turns the completion events into a schedule.
+         *
+         * @param savingsCents      the balance at the start, in cents
+         * @param contributionCents the monthly contribution, in cents
+         * @return the schedule
+         */
+        Schedule schedule(long savingsCents, long contributionCents) {
+            int count = goalCents.length;
+            int[] months = new int[count];
+            long[] shortfall = new long[count];
+            for (int i = 0; i < count; i++) {
+                months[i] = monthsToReach(thresholds[i], savingsCents, contributionCents);
+                shortfall[i] = shortfallCents(i, savingsCents, contributionCents);
+            }
+            return new Schedule(this, savingsCents, contributionCents, months, shortfall);
+        }
+
+        /** @return how much of a Want is unfunded on its due date, in cents ({@code 0} if undated) */
+        long shortfallCents(int index, long savingsCents, long contributionCents) {
+            if (monthsUntilDue[index] < 0) {
+                return 0;
+            }
+            long savedByDue = savingsCents + Math.max(0, contributionCents) * monthsUntilDue[index];
+            return Math.max(0, goalCents[index]) - fundedCents(index, savedByDue);
+        }
+
+        /** @return the largest threshold: the savings at which every Want is funded */
+        long maxThreshold() {
+            return sortedThresholds.length == 0 ? 0 : sortedThresholds[sortedThresholds.length - 1];
+        }
+
+        /** @return months of contributions until {@code targetCents} is saved, as in {@link Projector} */
+        static int monthsToReach(long targetCents, long savingsCents, long contributionCents) {
+            long remaining = targetCents - savingsCents;
+            if (remaining <= 0) return 0;
+            if (contributionCents <= 0) return -1;
+            return (int) Math.min(Integer.MAX_VALUE, Math.ceilDiv(remaining, contributionCents));
+        }
+    } // End of class FundingPlan
+
+} // End of class SavingsScheduler
@@ -1,6 +1,7 @@
 package econome.main;
 
 import javax.swing.SwingUtilities;
+import econome.ui.EdtMonitor;
 import econome.ui.SplashScreenUI;
 
 /**
@@ -16,6 +17,7 @@ import econome.ui.SplashScreenUI;
  * <ul>
  *   <li>Initialize the Swing UI system on the Event Dispatch Thread (EDT).</li>
  *   <li>Display the splash screen as the first window of the application.</li>
+ *   <li>Install the optional Event Dispatch Thread monitor ({@code econome.edt.monitor}).</li>
  * </ul>
  */
 public class MainApplication {
@@ -32,6 +34,9 @@ public class MainApplication {
      * @param args command-line arguments (unused)
      */
     public static void main(String[] args) {
+        // Time every UI event when -Deconome.edt.monitor=true is set
+        EdtMonitor.installIfEnabled();
+
         // Launch the splash screen asynchronously on the EDT
         SwingUtilities.invokeLater(SplashScreenUI::new);
     } // End of method main
@@ -0,0 +1,207 @@
+package econome.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point currency arithmetic for the EconoMe application.
+ * <p>
+ * Amounts are held as a primitive {@code long} count of cents, so sums and
+ * comparisons are exact and no objects are created along the way. This class
+ * only has static helpers; there is deliberately no {@code Money} object to
+ * allocate. Percentages use the same fixed point: hundredths of a percent
+ * (basis points), so {@code 12.5%} is {@code 1250}.
+ * </p>
+ *
+ * <h3>Rounding Rules:</h3>
+ * <ul>
+ *   <li>Amounts entered as decimals round to the nearest cent, halves away from zero.</li>
+ *   <li>A single percentage of an amount rounds halves to even (banker's rounding).</li>
+ *   <li>Several percentages of one amount are split by largest remainder, so the
+ *       shares always add up to the rounded total.</li>
+ * </ul>
+ */
+public final class Money {
+
+    // --- Constants ------------------------------------------------------------
+
+    /** Cents in one currency unit. */
+    public static final long CENTS_PER_UNIT = 100L;
+
+    /** Basis points in one hundred percent. */
+    public static final long BASIS_POINTS_PER_WHOLE = 10_000L;
+
+    /** Longest formatted amount: sign, symbol, 17 integer digits, point, 2 decimals. */
+    private static final int MAX_FORMATTED_LENGTH = 22;
+
+
+    // --- Constructors ---------------------------------------------------------
+
+    private Money() {
+    } // End of constructor Money
+
+
+    // --- Conversion -----------------------------------------------------------
+
+    /**
+     * Converts a decimal amount (e.g. typed by the user) to whole cents,
+     * rounding halves away from zero as written in decimal: {@code 0.145}
+     * becomes {@code 15} even though its binary value is slightly below.
+     *
+     * @param amount the amount in currency units
+     * @return the amount in cents
+     */
+    public static long ofAmount(double amount) {
+        double scaled = amount * CENTS_PER_UNIT;
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        if (Math.abs(fraction - 0.5) > 1e-6) {
+            return (long) (fraction < 0.5 ? floor : floor + 1);
+        }
+        // Close to a half cent: decide on the decimal value, not the binary one
+        return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    } // End of method ofAmount
+
+    /**
+     * Converts cents back to currency units, for display code that still
+     * expects a {@code double}.
+     *
+     * @param cents the amount in cents
+     * @return the amount in currency units
+     */
+    public static double toAmount(long cents) {
+        return cents / (double) CENTS_PER_UNIT;
+    } // End of method toAmount
+
+
+    // --- Percentages ----------------------------------------------------------
+
+    /**
+     * Calculates a percentage of an amount, rounding halves to even.
+     *
+     * @param cents       the whole amount
+     * @param basisPoints the percentage in hundredths of a percent
+     * @return the share in cents
+     * @throws ArithmeticException if the intermediate product overflows
+     */
+    public static long percentOf(long cents, long basisPoints) {
+        return divideHalfEven(Math.multiplyExact(cents, basisPoints), BASIS_POINTS_PER_WHOLE);
+    } // End of method percentOf
+
+    /**
+     * Calculates one share of an amount split by several percentages, using
+     * the largest-remainder method. Each share starts at its percentage
+     * rounded down; the cents still missing from the rounded total of all
+     * percentages go one each to the shares with the largest remainders
+     * (earlier shares win ties).
+     *
+     * @param cents   the whole amount
+     * @param weights every share's percentage, in basis points
+     * @param index   which share to return
+     * @return the share in cents
+     */
+    public static long shareOf(long cents, long[] weights, int index) {
+        long weightSum = 0L;
+        long floorSum = 0L;
+        for (long weight : weights) {
+            weightSum += weight;
+            floorSum += Math.floorDiv(Math.multiplyExact(cents, weight), BASIS_POINTS_PER_WHOLE);
+        }
+        long leftover = percentOf(cents, weightSum) - floorSum;
+
+        long product = Math.multiplyExact(cents, weights[index]);
+        long share = Math.floorDiv(product, BASIS_POINTS_PER_WHOLE);
+        long remainder = Math.floorMod(product, BASIS_POINTS_PER_WHOLE);
+
+        // Rank this share's remainder among all others (descending, index breaks ties)
+        int rank = 0;
+        for (int i = 0; i < weights.length; i++) {
+            long other = Math.floorMod(Math.multiplyExact(cents, weights[i]), BASIS_POINTS_PER_WHOLE);
+            if (other > remainder || (other == remainder && i < index)) {
+                rank++;
+            }
+        }
+        return rank < leftover ? share + 1 : share;
+    } // End of method shareOf
+
+    /**
+     * Splits an amount by several percentages with {@link #shareOf}, writing
+     * every share into a caller-supplied array.
+     *
+     * @param cents   the whole amount
+     * @param weights every share's percentage, in basis points
+     * @param shares  receives the shares in cents; at least as long as {@code weights}
+     */
+    public static void allocate(long cents, long[] weights, long[] shares) {
+        for (int i = 0; i < weights.length; i++) {
+            shares[i] = shareOf(cents, weights, i);
+        }
+    } // End of method allocate
+
+
+    // --- Formatting -----------------------------------------------------------
+
+    /**
+     * Formats an amount as {@code $1234.56} (or {@code -$1234.56}) without
+     * going through {@link java.util.Formatter}.
+     *
+     * @param cents the amount in cents
+     * @return the formatted amount
+     */
+    public static String format(long cents) {
+        char[] buffer = new char[MAX_FORMATTED_LENGTH];
+        int start = fill(buffer, cents);
+        return new String(buffer, start, buffer.length - start);
+    } // End of method format
+
+    /**
+     * Appends an amount formatted as by {@link #format(long)}.
+     *
+     * @param target the builder to append to
+     * @param cents  the amount in cents
+     * @return {@code target}
+     */
+    public static StringBuilder appendTo(StringBuilder target, long cents) {
+        char[] buffer = new char[MAX_FORMATTED_LENGTH];
+        int start = fill(buffer, cents);
+        return target.append(buffer, start, buffer.length - start);
+    } // End of method appendTo
+
+
+    // --- Private Helpers ------------------------------------------------------
+
+    /** Divides by a positive divisor, rounding halves to the even quotient. */
+    private static long divideHalfEven(long dividend, long divisor) {
+        long quotient = Math.floorDiv(dividend, divisor);
+        long twiceRemainder = 2 * Math.floorMod(dividend, divisor);
+        if (twiceRemainder > divisor || (twiceRemainder == divisor && (quotient & 1) != 0)) {
+            quotient++;
+        }
+        return quotient;
+    } // End of method divideHalfEven
+
+    /** Writes a formatted amount at the end of {@code buffer}; returns where it starts. */
+    private static int fill(char[] buffer, long cents) {
+        boolean negative = cents < 0;
+        // Work with the negated value so Long.MIN_VALUE does not overflow
+        long value = negative ? cents : -cents;
+        int position = buffer.length;
+
+        buffer[--position] = (char) ('0' - value % 10);
+        value /= 10;
+        buffer[--position] = (char) ('0' - value % 10);
+        value /= 10;
+        buffer[--position] = '.';
+        do {
+            buffer[--position] = (char) ('0' - value % 10);
+            value /= 10;
+        } while (value != 0);
+
+        buffer[--position] = '$';
+        if (negative) {
+            buffer[--position] = '-';
+        }
+        return position;
+    } // End of method fill
+
+} // End of class Money
@@ -25,7 +25,7 @@ import java.time.LocalDate;
  *   <li><b>isComplete</b> — whether the expense has been paid</li>
  * </ul>
  */
-public class Needs implements Serializable {
+public class Needs implements TaskItem, Serializable {
 
     // --- Serialization -------------------------------------------------------
 
@@ -40,6 +40,12 @@ public class Needs implements Serializable {
     private LocalDate dueDate;
     private boolean isComplete;
 
+    /** Columns this object is a handle into, or {@code null} if it holds its own values. */
+    private transient TaskColumns<Needs> columns;
+
+    /** Row key within {@link #columns}. */
+    private transient int key;
+
 
     // --- Constructors --------------------------------------------------------
 
@@ -57,27 +63,43 @@ public class Needs implements Serializable {
         this.isComplete = false; // Default state: incomplete
     } // End of constructor Needs
 
+    /** Creates a handle bound to a row of {@code columns}. */
+    private Needs(TaskColumns<Needs> columns, int key) {
+        this.columns = columns;
+        this.key = key;
+    } // End of constructor Needs
+
 
     // --- Accessors (Getters) -------------------------------------------------
 
     /** @return the description of this Need */
     public String getDescription() {
-        return description;
+        int row = boundRow();
+        return row >= 0 ? columns.descriptionAt(row) : detached().description;
     } // End of method getDescription
 
     /** @return the expected cost of this Need */
     public double getCost() {
-        return cost;
+        int row = boundRow();
+        return row >= 0 ? columns.costAt(row) : detached().cost;
     } // End of method getCost
 
+    /** @return the expected cost of this Need, in cents */
+    public long getCostCents() {
+        int row = boundRow();
+        return row >= 0 ? columns.centsAt(row) : Money.ofAmount(detached().cost);
+    } // End of method getCostCents
+
     /** @return the due date of this Need */
     public LocalDate getDueDate() {
-        return dueDate;
+        int row = boundRow();
+        return row >= 0 ? columns.dueDateAt(row) : detached().dueDate;
     } // End of method getDueDate
 
     /** @return {@code true} if this Need has been marked complete */
     public boolean isComplete() {
-        return isComplete;
+        int row = boundRow();
+        return row >= 0 ? columns.isCompleteAt(row) : detached().isComplete;
     } // End of method isComplete
 
 
@@ -87,8 +109,85 @@ public class Needs implements Serializable {
      * Marks this Need as completed (for example, when the bill has been paid).
      */
     public void markComplete() {
-        this.isComplete = true;
+        int row = boundRow();
+        if (row >= 0) {
+            columns.setCompleteAt(row);
+        } else {
+            detached().isComplete = true;
+        }
     } // End of method markComplete
 
 
+    // --- Column Binding ------------------------------------------------------
+
+    /** @return the current row of this handle, or {@code -1} if it has none */
+    private int boundRow() {
+        return columns != null ? columns.rowOfKey(key) : -1;
+    } // End of method boundRow
+
+    /**
+     * @return the object holding this Need's values while it has no row:
+     *         itself, or the copy kept when its row was removed
+     */
+    private Needs detached() {
+        return columns == null ? this : columns.removedItem(key);
+    } // End of method detached
+
+    /** Connects {@code Needs} objects to {@link TaskColumns}. */
+    static final TaskColumns.Binder<Needs> BINDER = new TaskColumns.Binder<>() {
+        @Override
+        public Needs handle(TaskColumns<Needs> columns, int key) {
+            return new Needs(columns, key);
+        }
+
+        @Override
+        public void bind(Needs item, TaskColumns<Needs> columns, int key) {
+            item.columns = columns;
+            item.key = key;
+        }
+
+        @Override
+        public Needs create(String description, double cost, LocalDate dueDate, boolean complete) {
+            Needs item = new Needs(description, cost, dueDate);
+            item.isComplete = complete;
+            return item;
+        }
+
+        @Override
+        public TaskColumns<Needs> columnsOf(Needs item) {
+            return item.columns;
+        }
+
+        @Override
+        public int keyOf(Needs item) {
+            return item.key;
+        }
+    };
+
+    /** Serializes a handle as a standalone copy of its current values. */
+    private Object writeReplace() {
+        return columns == null ? this : BINDER.create(getDescription(), getCost(), getDueDate(), isComplete());
+    } // End of method writeReplace
+
+
+    // --- Object Overrides ----------------------------------------------------
+
+    /**
+     * Handles bound to the same row are equal, so {@code indexOf} finds a
+     * Need no matter which handle the caller holds, even after the row
+     * was removed. Standalone objects are only equal to themselves.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        return other instanceof Needs need && columns != null
+                && columns == need.columns && key == need.key;
+    } // End of method equals
+
+    /** Bound handles hash by row key, which stays the same once the object is bound. */
+    @Override
+    public int hashCode() {
+        return columns != null ? 31 * System.identityHashCode(columns) + key : System.identityHashCode(this);
+    } // End of method hashCode
+
 } // End of class Needs
\ No newline at end of file
@@ -1,9 +1,16 @@
 package econome.model;
 
-import java.io.*;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
+import java.io.Serializable;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import econome.logic.ProfileManager;
+import java.util.function.Consumer;
+import econome.logic.ProfileJournal;
+import econome.logic.ProfileRepository;
 
 /**
  * Represents a user's financial profile in the EconoMe application.
@@ -17,7 +24,8 @@ import econome.logic.ProfileManager;
  * <ul>
  *   <li>Store and manage the user’s Needs and Wants lists.</li>
  *   <li>Track income, savings, and allocation preferences.</li>
- *   <li>Persist changes automatically to local storage via serialization.</li>
+ *   <li>Persist changes automatically by journaling each mutation.</li>
+ *   <li>Load stored Needs and Wants lazily, the first time they are used.</li>
  * </ul>
  */
 public class Profile implements Serializable {
@@ -27,27 +35,54 @@ public class Profile implements Serializable {
     /** Ensures consistent serialization across versions. */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Fields written by Java serialization. Amounts and task lists keep their
+     * original {@code double} and {@code List} form so older {@code profiles.dat}
+     * files still read.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("name", String.class),
+        new ObjectStreamField("income", double.class),
+        new ObjectStreamField("savingsBalance", double.class),
+        new ObjectStreamField("needsAllocation", double.class),
+        new ObjectStreamField("wantsAllocation", double.class),
+        new ObjectStreamField("savingsAllocation", double.class),
+        new ObjectStreamField("allocationByPercentage", boolean.class),
+        new ObjectStreamField("needsList", List.class),
+        new ObjectStreamField("wantsList", List.class)
+    };
+
 
     // --- Profile Information -------------------------------------------------
 
     private String name;
-    private double income;
-    private double savingsBalance;
+    private long incomeCents;
+    private long savingsCents;
 
 
     // --- Allocation Settings -------------------------------------------------
 
-    /** Allocations may represent percentages (if {@code allocationByPercentage = true}) or fixed values. */
-    private double needsAllocation;
-    private double wantsAllocation;
-    private double savingsAllocation;
+    /**
+     * Allocations in hundredths: basis points if {@code allocationByPercentage = true},
+     * cents if they are fixed values.
+     */
+    private long needsAllocation;
+    private long wantsAllocation;
+    private long savingsAllocation;
     private boolean allocationByPercentage; // true = %, false = fixed amount
 
+    /** Counts changes to the fields above; see {@link #getRevision()}. */
+    private transient long headerRevision;
+
 
     // --- Task Lists ----------------------------------------------------------
 
-    private List<Needs> needsList;
-    private List<Wants> wantsList;
+    /** Needs and Wants are stored column by column; {@link #getNeedsList()} is a list view over them. */
+    private transient TaskColumns<Needs> needs;
+    private transient TaskColumns<Wants> wants;
+
+    /** Reads the stored task lists on first use; {@code null} once they are in memory. */
+    private transient volatile Consumer<Profile> taskLoader;
 
 
     // --- Constructor ---------------------------------------------------------
@@ -61,17 +96,18 @@ public class Profile implements Serializable {
      */
     public Profile(String name, double income, double savingsBalance) {
         this.name = name;
-        this.income = income;
-        this.savingsBalance = savingsBalance;
+        this.incomeCents = Money.ofAmount(income);
+        this.savingsCents = Money.ofAmount(savingsBalance);
 
-        this.needsList = new ArrayList<>();
-        this.wantsList = new ArrayList<>();
+        this.needs = TaskColumns.forNeeds();
+        this.wants = TaskColumns.forWants();
+        this.wants.setEditListener(this::recordWantEdited);
 
         // Default: allocations set to 0%, percentage-based mode
         this.allocationByPercentage = true;
-        this.needsAllocation = 0.0;
-        this.wantsAllocation = 0.0;
-        this.savingsAllocation = 0.0;
+        this.needsAllocation = 0L;
+        this.wantsAllocation = 0L;
+        this.savingsAllocation = 0L;
     } // End of constructor Profile
 
 
@@ -80,61 +116,257 @@ public class Profile implements Serializable {
     /** @return the user's name */
     public String getName() { return name; }
 
-    /** Updates the user's name. */
-    public void setName(String name) { this.name = name; }
+    /** Updates the user's name and re-indexes the stored profile under it. */
+    public void setName(String name) {
+        String oldName = this.name;
+        this.name = name;
+        headerRevision++;
+        ProfileRepository.getInstance().profileRenamed(this, oldName);
+    } // End of method setName
 
     /** @return the user's monthly income */
-    public double getIncome() { return income; }
+    public double getIncome() { return Money.toAmount(incomeCents); }
+
+    /** @return the user's monthly income, in cents */
+    public long getIncomeCents() { return incomeCents; }
 
     /** Updates the user's income. */
-    public void setIncome(double income) { this.income = income; }
+    public void setIncome(double income) {
+        this.incomeCents = Money.ofAmount(income);
+        headerRevision++;
+    } // End of method setIncome
 
     /** @return the user's current savings balance */
-    public double getSavingsBalance() { return savingsBalance; }
+    public double getSavingsBalance() { return Money.toAmount(savingsCents); }
+
+    /** @return the user's current savings balance, in cents */
+    public long getSavingsBalanceCents() { return savingsCents; }
 
     /** Updates the user's savings balance. */
-    public void setSavingsBalance(double savingsBalance) { this.savingsBalance = savingsBalance; }
+    public void setSavingsBalance(double savingsBalance) { setSavingsBalanceCents(Money.ofAmount(savingsBalance)); }
+
+    /** Updates the user's savings balance, in cents. */
+    public void setSavingsBalanceCents(long savingsCents) {
+        this.savingsCents = savingsCents;
+        headerRevision++;
+    } // End of method setSavingsBalanceCents
 
 
     // --- Needs Management ----------------------------------------------------
 
     /** Adds a Need item to the user's list and persists changes. */
     public void addNeed(Needs need) {
-        needsList.add(need);
-        saveProfile();
+        loadTasks();
+        needs.asList().add(need);
+        journal().recordNeedAdded(this, need);
     } // End of method addNeed
 
     /** Removes a Need item and persists changes. */
     public void removeNeed(Needs need) {
-        needsList.remove(need);
-        saveProfile();
+        loadTasks();
+        List<Needs> needsList = needs.asList();
+        int index = needsList.indexOf(need);
+        if (index < 0) return;
+        needsList.remove(need); // Handles to the row keep its last values
+        journal().recordNeedRemoved(this, index);
     } // End of method removeNeed
 
+    /** Marks a Need item as complete and persists changes. */
+    public void markNeedComplete(Needs need) {
+        loadTasks();
+        int index = needs.asList().indexOf(need);
+        if (index < 0) return;
+        need.markComplete();
+        journal().recordNeedCompleted(this, index);
+    } // End of method markNeedComplete
+
     /** @return the full list of the user's Needs */
     public List<Needs> getNeedsList() {
-        return needsList;
+        loadTasks();
+        return needs.asList();
     } // End of method getNeedsList
 
+    /** @return the user's Needs in columnar form, for totals and storage */
+    public TaskColumns<Needs> getNeedColumns() {
+        loadTasks();
+        return needs;
+    } // End of method getNeedColumns
+
 
     // --- Wants Management ----------------------------------------------------
 
     /** Adds a Want item to the user's list and persists changes. */
     public void addWant(Wants want) {
-        wantsList.add(want);
-        saveProfile();
+        loadTasks();
+        wants.asList().add(want);
+        journal().recordWantAdded(this, want);
     } // End of method addWant
 
     /** Removes a Want item and persists changes. */
     public void removeWant(Wants want) {
-        wantsList.remove(want);
-        saveProfile();
+        loadTasks();
+        List<Wants> wantsList = wants.asList();
+        int index = wantsList.indexOf(want);
+        if (index < 0) return;
+        wantsList.remove(want); // Handles to the row keep its last values
+        journal().recordWantRemoved(this, index);
     } // End of method removeWant
 
+    /** Marks a Want item as complete and persists changes. */
+    public void markWantComplete(Wants want) {
+        loadTasks();
+        int index = wants.asList().indexOf(want);
+        if (index < 0) return;
+        want.markComplete();
+        journal().recordWantCompleted(this, index);
+    } // End of method markWantComplete
+
     /** @return the full list of the user's Wants */
     public List<Wants> getWantsList() {
-        return wantsList;
+        loadTasks();
+        return wants.asList();
     } // End of method getWantsList
 
+    /** @return the user's Wants in columnar form, for totals and storage */
+    public TaskColumns<Wants> getWantColumns() {
+        loadTasks();
+        return wants;
+    } // End of method getWantColumns
+
+    /** Persists an edit made through a Want's setters. */
+    private void recordWantEdited(int row) {
+        journal().recordWantEdited(this, row, wants.asList().get(row));
+    } // End of method recordWantEdited
+
+
+    // --- Task Summary --------------------------------------------------------
+    // Running totals kept by the task columns; none of these scan the lists.
+
+    /** @return the cost of Needs not yet completed, in cents */
+    public long getOutstandingNeedsCents() { return getNeedColumns().totalCents(false); }
+
+    /** @return the cost of completed Needs, in cents */
+    public long getCompletedNeedsCents() { return getNeedColumns().totalCents(true); }
+
+    /** @return the cost of Wants not yet completed, in cents */
+    public long getOutstandingWantsCents() { return getWantColumns().totalCents(false); }
+
+    /** @return the cost of completed Wants, in cents */
+    public long getCompletedWantsCents() { return getWantColumns().totalCents(true); }
+
+    /** @return the number of Needs not yet completed */
+    public int getOpenNeedsCount() { return getNeedColumns().countOpen(); }
+
+    /** @return the number of Wants not yet completed */
+    public int getOpenWantsCount() { return getWantColumns().countOpen(); }
+
+    /**
+     * Finds the open Need or Want with the earliest due date. A Need wins a
+     * tie with a Want.
+     *
+     * @return the item due next, or {@code null} if no open item has a due date
+     */
+    public TaskItem getNextDueItem() {
+        LocalDate needDate = getNeedColumns().nextDueDate();
+        LocalDate wantDate = getWantColumns().nextDueDate();
+        if (needDate == null && wantDate == null) {
+            return null;
+        }
+        if (wantDate == null || (needDate != null && !needDate.isAfter(wantDate))) {
+            return needs.asList().get(needs.nextDueRow());
+        }
+        return wants.asList().get(wants.nextDueRow());
+    } // End of method getNextDueItem
+
+    /**
+     * Lists the open Needs and Wants due within a range of dates, read from
+     * the due-date index.
+     *
+     * @param from first day of the range (inclusive)
+     * @param to   last day of the range (inclusive)
+     * @return the matching items, earliest due first
+     */
+    public List<TaskItem> getItemsDueBetween(LocalDate from, LocalDate to) {
+        int fromDay = Math.toIntExact(from.toEpochDay());
+        int toDay = Math.toIntExact(to.toEpochDay());
+        List<TaskItem> items = new ArrayList<>();
+        mergeByDueDate(getNeedColumns().openRowsDueBetween(fromDay, toDay),
+                getWantColumns().openRowsDueBetween(fromDay, toDay), items);
+        return items;
+    } // End of method getItemsDueBetween
+
+    /**
+     * Lists the open Needs and Wants whose due date has passed.
+     *
+     * @param today the current date; items due today are not overdue
+     * @return the overdue items, oldest first
+     */
+    public List<TaskItem> getOverdueItems(LocalDate today) {
+        int yesterday = Math.toIntExact(today.toEpochDay()) - 1;
+        List<TaskItem> items = new ArrayList<>();
+        mergeByDueDate(getNeedColumns().openRowsDueBetween(TaskColumns.NO_DATE + 1, yesterday),
+                getWantColumns().openRowsDueBetween(TaskColumns.NO_DATE + 1, yesterday), items);
+        return items;
+    } // End of method getOverdueItems
+
+    /**
+     * Lists every Need and Want in the order the Tasks screen shows them:
+     * open items with a due date (earliest first), then open items without
+     * one, then completed items.
+     *
+     * @return all items, in display order
+     */
+    public List<TaskItem> getTasksInDueOrder() {
+        List<TaskItem> items = new ArrayList<>(getNeedColumns().size() + getWantColumns().size());
+        mergeByDueDate(needs.openRowsByDueDate(), wants.openRowsByDueDate(), items);
+        addUnindexed(needs, false, items);
+        addUnindexed(wants, false, items);
+        addUnindexed(needs, true, items);
+        addUnindexed(wants, true, items);
+        return items;
+    } // End of method getTasksInDueOrder
+
+    /**
+     * Ranks an item for {@link #getTasksInDueOrder()}: sorting by rank, then
+     * Needs before Wants, then by row reproduces that order.
+     *
+     * @param item a Need or Want
+     * @return its rank; open dated items rank lowest, by due date
+     */
+    public static long dueOrderRank(TaskItem item) {
+        LocalDate dueDate = item.getDueDate();
+        if (!item.isComplete() && dueDate != null) {
+            return dueDate.toEpochDay() - Integer.MIN_VALUE; // In [0, 2^32)
+        }
+        boolean need = item instanceof Needs;
+        int group = item.isComplete() ? (need ? 3 : 4) : (need ? 1 : 2);
+        return (long) group << 32;
+    } // End of method dueOrderRank
+
+    /** Merges rows of Needs and Wants, each already in due order, into {@code items}. */
+    private void mergeByDueDate(int[] needRows, int[] wantRows, List<TaskItem> items) {
+        List<Needs> needsList = needs.asList();
+        List<Wants> wantsList = wants.asList();
+        int n = 0;
+        int w = 0;
+        while (n < needRows.length || w < wantRows.length) {
+            boolean takeNeed = w == wantRows.length || (n < needRows.length
+                    && needs.epochDayAt(needRows[n]) <= wants.epochDayAt(wantRows[w]));
+            items.add(takeNeed ? needsList.get(needRows[n++]) : wantsList.get(wantRows[w++]));
+        }
+    } // End of method mergeByDueDate
+
+    /** Adds the rows the due-date index does not hold: undated open rows, or completed rows. */
+    private static <T extends TaskItem> void addUnindexed(TaskColumns<T> columns, boolean completed,
+                                                        List<TaskItem> items) {
+        List<T> list = columns.asList();
+        for (int row = 0; row < columns.size(); row++) {
+            if (columns.isCompleteAt(row) != completed) continue;
+            if (!completed && columns.epochDayAt(row) != TaskColumns.NO_DATE) continue;
+            items.add(list.get(row));
+        }
+    } // End of method addUnindexed
+
 
     // --- Allocation Management ----------------------------------------------
 
@@ -147,66 +379,145 @@ public class Profile implements Serializable {
      * @param byPercentage  {@code true} to use percentages, {@code false} for fixed values
      */
     public void setAllocations(double needs, double wants, double savings, boolean byPercentage) {
-        this.needsAllocation = needs;
-        this.wantsAllocation = wants;
-        this.savingsAllocation = savings;
-        this.allocationByPercentage = byPercentage;
-        saveProfile();
+        restoreAllocations(needs, wants, savings, byPercentage);
+        ProfileRepository.getInstance().headerChanged(this);
     } // End of method setAllocations
 
     /** @return the user's allocation for Needs */
-    public double getNeedsAllocation() { return needsAllocation; }
+    public double getNeedsAllocation() { return needsAllocation / 100.0; }
 
     /** @return the user's allocation for Wants */
-    public double getWantsAllocation() { return wantsAllocation; }
+    public double getWantsAllocation() { return wantsAllocation / 100.0; }
 
     /** @return the user's allocation for Savings */
-    public double getSavingsAllocation() { return savingsAllocation; }
+    public double getSavingsAllocation() { return savingsAllocation / 100.0; }
+
+    /** @return the Needs allocation in hundredths (basis points or cents, see {@link #isAllocationByPercentage()}) */
+    public long getNeedsAllocationHundredths() { return needsAllocation; }
+
+    /** @return the Wants allocation in hundredths (basis points or cents, see {@link #isAllocationByPercentage()}) */
+    public long getWantsAllocationHundredths() { return wantsAllocation; }
+
+    /** @return the Savings allocation in hundredths (basis points or cents, see {@link #isAllocationByPercentage()}) */
+    public long getSavingsAllocationHundredths() { return savingsAllocation; }
 
     /** @return whether allocations are set by percentage ({@code true}) or fixed amount ({@code false}) */
     public boolean isAllocationByPercentage() { return allocationByPercentage; }
 
 
+    // --- Change Tracking -----------------------------------------------------
+
+    /**
+     * Returns a counter that grows with every change to the profile's
+     * amounts, allocations, name, Needs, or Wants. Screens compare it with
+     * the value they last displayed to decide whether they must refresh.
+     *
+     * @return the current revision
+     */
+    public long getRevision() {
+        return headerRevision + getNeedColumns().revision() + getWantColumns().revision();
+    } // End of method getRevision
+
+
+    // --- Storage Support -----------------------------------------------------
+
+    /**
+     * Restores allocation settings read from storage without journaling them.
+     * <p>
+     * Intended for the persistence layer; user changes go through
+     * {@link #setAllocations(double, double, double, boolean)}.
+     * </p>
+     */
+    public void restoreAllocations(double needs, double wants, double savings, boolean byPercentage) {
+        this.needsAllocation = Money.ofAmount(needs);
+        this.wantsAllocation = Money.ofAmount(wants);
+        this.savingsAllocation = Money.ofAmount(savings);
+        this.allocationByPercentage = byPercentage;
+        headerRevision++;
+    } // End of method restoreAllocations
+
+    /**
+     * Restores the amounts and allocations read from storage, in cents (and
+     * basis points for percentage allocations), without journaling them.
+     */
+    public void restoreHeader(long incomeCents, long savingsCents, long needs, long wants, long savings,
+                              boolean byPercentage) {
+        this.incomeCents = incomeCents;
+        this.savingsCents = savingsCents;
+        this.needsAllocation = needs;
+        this.wantsAllocation = wants;
+        this.savingsAllocation = savings;
+        this.allocationByPercentage = byPercentage;
+        headerRevision++;
+    } // End of method restoreHeader
+
+    /**
+     * Replaces the Needs and Wants lists with items read from storage,
+     * without journaling them.
+     *
+     * @param needs the stored Needs, in list order
+     * @param wants the stored Wants, in list order
+     */
+    public void restoreTasks(List<Needs> needs, List<Wants> wants) {
+        this.needs.replaceWith(needs);
+        this.wants.replaceWith(wants);
+    } // End of method restoreTasks
+
+    /**
+     * Replaces the Needs and Wants with columns read from storage, without
+     * journaling them.
+     *
+     * @param needs the stored Needs columns
+     * @param wants the stored Wants columns
+     */
+    public void restoreTasks(TaskColumns<Needs> needs, TaskColumns<Wants> wants) {
+        this.needs.replaceWith(needs);
+        this.wants.replaceWith(wants);
+    } // End of method restoreTasks
+
+    /**
+     * Defers reading the stored Needs and Wants until they are first used.
+     *
+     * @param taskLoader action that reads the task lists and calls
+     *                   {@link #restoreTasks(List, List)}, or {@code null} to clear it
+     */
+    public void setTaskLoader(Consumer<Profile> taskLoader) {
+        this.taskLoader = taskLoader;
+    } // End of method setTaskLoader
+
+    /**
+     * Ensures the stored Needs and Wants are in memory. Every task accessor
+     * calls this; screens may call it up front to load a profile before
+     * showing it.
+     */
+    public void loadTasks() {
+        Consumer<Profile> loader = taskLoader;
+        if (loader != null) {
+            loader.accept(this);
+        }
+    } // End of method loadTasks
+
+
     // --- Persistence (Save / Update) -----------------------------------------
 
     /**
      * Saves the current profile state to persistent storage.
      * <p>
-     * This method automatically updates an existing profile in {@code profiles.dat}
-     * or adds a new one if it doesn’t already exist.
+     * Updates the shared {@link ProfileRepository} in memory (replacing a
+     * profile with the same name, or adding this one) and rewrites this
+     * profile's stored header and task shard. Prefer the targeted mutators ({@link #addNeed},
+     * {@link #markNeedComplete}, …), which journal only the change itself.
      * </p>
      */
     public void saveProfile() {
-        try {
-            ProfileManager profileManager = new ProfileManager();
-            List<Profile> profiles = profileManager.getProfiles();
-
-            // 🔄 Update existing profile if one matches by name
-            boolean updated = false;
-            for (int i = 0; i < profiles.size(); i++) {
-                if (profiles.get(i).getName().equalsIgnoreCase(this.name)) {
-                    profiles.set(i, this);
-                    updated = true;
-                    break;
-                }
-            }
-
-            // ➕ If profile does not exist, add it
-            if (!updated) {
-                profiles.add(this);
-            }
-
-            // 💾 Serialize updated list
-            try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream("profiles.dat"))) {
-                oos.writeObject(profiles);
-            }
-
-        } catch (Exception e) {
-            System.err.println("⚠️ Failed to save profile: " + e.getMessage());
-            e.printStackTrace();
-        }
+        ProfileRepository.getInstance().saveProfile(this);
     } // End of method saveProfile
 
+    /** @return the journal that records this profile's mutations */
+    private ProfileJournal journal() {
+        return ProfileRepository.getInstance().journalFor(this);
+    } // End of method journal
+
 
     // --- Object Overrides ----------------------------------------------------
 
@@ -218,7 +529,44 @@ public class Profile implements Serializable {
      */
     @Override
     public String toString() {
-        return name + " (Income: $" + String.format("%.2f", income) + ")";
+        return name + " (Income: " + Money.format(incomeCents) + ")";
     } // End of method toString
 
+
+    // --- Java Serialization --------------------------------------------------
+
+    /** Writes amounts as {@code double}s and the task lists as plain {@code List}s of standalone items. */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("name", name);
+        fields.put("income", getIncome());
+        fields.put("savingsBalance", getSavingsBalance());
+        fields.put("needsAllocation", getNeedsAllocation());
+        fields.put("wantsAllocation", getWantsAllocation());
+        fields.put("savingsAllocation", getSavingsAllocation());
+        fields.put("allocationByPercentage", allocationByPercentage);
+        fields.put("needsList", new ArrayList<>(getNeedsList()));
+        fields.put("wantsList", new ArrayList<>(getWantsList()));
+        out.writeFields();
+    } // End of method writeObject
+
+    /** Reads a profile written by {@link #writeObject} or by older versions of EconoMe. */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        name = (String) fields.get("name", null);
+        incomeCents = Money.ofAmount(fields.get("income", 0.0));
+        savingsCents = Money.ofAmount(fields.get("savingsBalance", 0.0));
+        restoreAllocations(fields.get("needsAllocation", 0.0), fields.get("wantsAllocation", 0.0),
+                fields.get("savingsAllocation", 0.0), fields.get("allocationByPercentage", true));
+
+        needs = TaskColumns.forNeeds();
+        wants = TaskColumns.forWants();
+        wants.setEditListener(this::recordWantEdited);
+        List<Needs> storedNeeds = (List<Needs>) fields.get("needsList", null);
+        List<Wants> storedWants = (List<Wants>) fields.get("wantsList", null);
+        if (storedNeeds != null) needs.replaceWith(storedNeeds);
+        if (storedWants != null) wants.replaceWith(storedWants);
+    } // End of method readObject
+
 } // End of class Profile
\ No newline at end of file
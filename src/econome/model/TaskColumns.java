@@ -0,0 +1,668 @@
+package econome.model;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.IntConsumer;
+
+/**
+ * Column-oriented (struct-of-arrays) store for a profile's Needs or Wants.
+ * <p>
+ * Instead of one object per task, each attribute lives in its own primitive
+ * array: costs as whole cents, due dates as epoch days, completion in a
+ * {@link BitSet}, and descriptions as indexes into a dictionary of distinct
+ * strings. Totals and scans therefore run over contiguous primitive arrays.
+ * </p>
+ * <p>
+ * {@link #asList()} presents the rows as an ordinary {@code List} of
+ * {@link Needs} or {@link Wants}. Elements returned by the list are
+ * lightweight handles bound to a row: reading them reads the columns, and
+ * {@code markComplete()} writes through. Each row has a stable key, so a
+ * handle keeps pointing at its row when earlier rows are removed. When its
+ * own row is removed, every handle to it goes on reading the values the row
+ * had at that moment.
+ * </p>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Store task attributes in primitive columns.</li>
+ *   <li>Keep running totals, counts, and the next open due date up to date
+ *       as rows change, so aggregate queries never scan.</li>
+ *   <li>Expose a {@code List} view with bound handles for existing callers.</li>
+ * </ul>
+ *
+ * @param <T> {@link Needs} or {@link Wants}
+ */
+public final class TaskColumns<T extends TaskItem> {
+
+    // --- Constants ------------------------------------------------------------
+
+    /** Value of {@link #epochDayAt(int)} for a task without a due date. */
+    public static final int NO_DATE = Integer.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Changes remembered for {@link #keysChangedSince(long)}. */
+    private static final int CHANGE_LOG_SIZE = 64;
+
+
+    // --- Handle Binding -------------------------------------------------------
+
+    /** Creates and binds the handle objects of one task type. */
+    interface Binder<T extends TaskItem> {
+
+        /** @return a new handle for the row with {@code key} */
+        T handle(TaskColumns<T> columns, int key);
+
+        /** Binds a detached item to the row it was just copied into. */
+        void bind(T item, TaskColumns<T> columns, int key);
+
+        /** @return a new detached item */
+        T create(String description, double cost, LocalDate dueDate, boolean complete);
+
+        /** @return the columns an item is bound to, or {@code null} if detached */
+        TaskColumns<T> columnsOf(T item);
+
+        /** @return the row key of a bound item */
+        int keyOf(T item);
+    } // End of interface Binder
+
+
+    // --- Fields ---------------------------------------------------------------
+
+    private final Class<T> type;
+    private final Binder<T> binder;
+
+    private int size;
+    private int nextKey;
+
+    /** Stable row keys, strictly ascending (rows are only ever appended). */
+    private int[] keys;
+    private long[] cents;
+    private int[] epochDays;
+    private int[] descriptionIds;
+    private final BitSet complete;
+
+    /** Distinct descriptions; rows store indexes into this list. */
+    private final List<String> dictionary;
+    private final Map<String, Integer> dictionaryIds;
+
+    /** Lazily created {@code List} view. */
+    private List<T> view;
+
+    /**
+     * Detached copies of removed rows, by key, so that handles outliving
+     * their row keep reading its last values.
+     */
+    private final Map<Integer, T> removedItems = new HashMap<>();
+
+    /** Notified when a handle's setter edits a row; see {@link #setEditListener}. */
+    private IntConsumer editListener;
+
+    // --- Running Aggregates ---
+    private long totalCents;
+    private long completeCents;
+    private int completeCount;
+
+    /**
+     * Due-date index: open rows that have a due date, as {@code epochDay << 32 | key},
+     * earliest first. Kept in sync by {@link #track}.
+     */
+    private final TreeSet<Long> openDue;
+
+    /** Incremented by every change to the rows; see {@link #revision()}. */
+    private long revision;
+
+    // --- Change Log (ring buffer of the latest changes) ---
+    private final int[] changedKeys = new int[CHANGE_LOG_SIZE];
+    private final long[] changeRevisions = new long[CHANGE_LOG_SIZE];
+    private int changeCount;      // Changes logged so far; the newest is at (changeCount - 1) % size
+    private long changeLogStart;  // Oldest revision the log can answer for
+
+
+    // --- Constructors ---------------------------------------------------------
+
+    private TaskColumns(Class<T> type, Binder<T> binder) {
+        this.type = type;
+        this.binder = binder;
+        this.keys = new int[INITIAL_CAPACITY];
+        this.cents = new long[INITIAL_CAPACITY];
+        this.epochDays = new int[INITIAL_CAPACITY];
+        this.descriptionIds = new int[INITIAL_CAPACITY];
+        this.complete = new BitSet();
+        this.dictionary = new ArrayList<>();
+        this.dictionaryIds = new HashMap<>();
+        this.openDue = new TreeSet<>();
+    } // End of constructor TaskColumns
+
+    /** @return an empty store for Needs */
+    public static TaskColumns<Needs> forNeeds() {
+        return new TaskColumns<>(Needs.class, Needs.BINDER);
+    } // End of method forNeeds
+
+    /** @return an empty store for Wants */
+    public static TaskColumns<Wants> forWants() {
+        return new TaskColumns<>(Wants.class, Wants.BINDER);
+    } // End of method forWants
+
+
+    // --- Column Access --------------------------------------------------------
+
+    /** @return the number of rows */
+    public int size() {
+        return size;
+    } // End of method size
+
+    /** @return the cost of a row, in cents */
+    public long centsAt(int row) {
+        checkRow(row);
+        return cents[row];
+    } // End of method centsAt
+
+    /** @return the due date of a row as an epoch day, or {@link #NO_DATE} */
+    public int epochDayAt(int row) {
+        checkRow(row);
+        return epochDays[row];
+    } // End of method epochDayAt
+
+    /** @return the due date of a row, or {@code null} */
+    public LocalDate dueDateAt(int row) {
+        int epochDay = epochDayAt(row);
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    } // End of method dueDateAt
+
+    /** @return the description of a row */
+    public String descriptionAt(int row) {
+        checkRow(row);
+        return dictionary.get(descriptionIds[row]);
+    } // End of method descriptionAt
+
+    /** @return whether a row is marked complete */
+    public boolean isCompleteAt(int row) {
+        checkRow(row);
+        return complete.get(row);
+    } // End of method isCompleteAt
+
+
+    // --- Aggregates -----------------------------------------------------------
+
+    /** @return the sum of all costs, in cents */
+    public long totalCents() {
+        return totalCents;
+    } // End of method totalCents
+
+    /**
+     * Sums the costs of rows with the given completion state.
+     *
+     * @param completed {@code true} to sum completed rows, {@code false} for open rows
+     * @return the sum, in cents
+     */
+    public long totalCents(boolean completed) {
+        return completed ? completeCents : totalCents - completeCents;
+    } // End of method totalCents
+
+    /** @return the number of completed rows */
+    public int countComplete() {
+        return completeCount;
+    } // End of method countComplete
+
+    /** @return the number of rows not yet completed */
+    public int countOpen() {
+        return size - completeCount;
+    } // End of method countOpen
+
+    /**
+     * Returns a counter that grows whenever a row is added, removed, or
+     * changed, so callers can skip work when nothing has changed since they
+     * last looked.
+     *
+     * @return the current revision
+     */
+    public long revision() {
+        return revision;
+    } // End of method revision
+
+    /**
+     * Lists the rows added, removed, or changed since an earlier
+     * {@link #revision()}, so a view can update just those rows.
+     *
+     * @param sinceRevision a revision returned earlier
+     * @return the keys of those rows, ascending and without duplicates; or
+     *         {@code null} if too many changes happened since, or the rows
+     *         were replaced
+     */
+    public int[] keysChangedSince(long sinceRevision) {
+        if (sinceRevision < changeLogStart || sinceRevision > revision) {
+            return null;
+        }
+        int[] changed = new int[(int) (revision - sinceRevision)];
+        int count = 0;
+        for (int i = changeCount - 1; count < changed.length; i--) {
+            changed[count++] = changedKeys[i % CHANGE_LOG_SIZE];
+        }
+        Arrays.sort(changed);
+        return Arrays.stream(changed).distinct().toArray();
+    } // End of method keysChangedSince
+
+    /** @return the row of the open task due soonest, or {@code -1} if no open task has a due date */
+    public int nextDueRow() {
+        return openDue.isEmpty() ? -1 : rowOfKey((int) openDue.first().longValue());
+    } // End of method nextDueRow
+
+    /** @return the earliest due date among open tasks, or {@code null} */
+    public LocalDate nextDueDate() {
+        return openDue.isEmpty() ? null : LocalDate.ofEpochDay(openDue.first() >> 32);
+    } // End of method nextDueDate
+
+
+    // --- Due-Date Index -------------------------------------------------------
+
+    /**
+     * Finds the open rows due within a range of days, using the due-date
+     * index instead of scanning every row.
+     *
+     * @param fromEpochDay first day of the range (inclusive)
+     * @param toEpochDay   last day of the range (inclusive)
+     * @return the matching rows, earliest due first (ties in insertion order)
+     */
+    public int[] openRowsDueBetween(int fromEpochDay, int toEpochDay) {
+        if (fromEpochDay > toEpochDay) {
+            return new int[0];
+        }
+        return rowsOf(openDue.subSet(dueEntry(fromEpochDay, 0), true, dueEntry(toEpochDay, -1), true));
+    } // End of method openRowsDueBetween
+
+    /** @return every open row that has a due date, earliest due first */
+    public int[] openRowsByDueDate() {
+        return rowsOf(openDue);
+    } // End of method openRowsByDueDate
+
+
+    // --- Bulk Access ----------------------------------------------------------
+
+    /**
+     * Copies the open rows into parallel arrays, in row order, reading the
+     * columns directly so that no item handles are created. Any of the
+     * destination arrays may be {@code null} if that column is not needed.
+     *
+     * @param rows      receives the row indexes
+     * @param costCents receives the costs, in cents
+     * @param epochDays receives the due dates as epoch days, or {@link #NO_DATE}
+     * @param offset    position in the arrays where the first row is written
+     * @return the number of rows copied, which is {@link #countOpen()}
+     */
+    public int copyOpenRows(int[] rows, long[] costCents, int[] epochDays, int offset) {
+        int position = offset;
+        for (int row = complete.nextClearBit(0); row < size; row = complete.nextClearBit(row + 1)) {
+            if (rows != null) rows[position] = row;
+            if (costCents != null) costCents[position] = cents[row];
+            if (epochDays != null) epochDays[position] = this.epochDays[row];
+            position++;
+        }
+        return position - offset;
+    } // End of method copyOpenRows
+
+
+    // --- Storage Support ------------------------------------------------------
+
+    /**
+     * Appends a row. Intended for the persistence layer and {@link Profile};
+     * it does not journal the change.
+     *
+     * @param description the task description
+     * @param costCents   the cost, in cents
+     * @param epochDay    the due date as an epoch day, or {@link #NO_DATE}
+     * @param completed   whether the task is complete
+     * @return the new row's key
+     */
+    public int append(String description, long costCents, int epochDay, boolean completed) {
+        if (size == keys.length) {
+            int capacity = size + (size >> 1) + 1;
+            keys = Arrays.copyOf(keys, capacity);
+            cents = Arrays.copyOf(cents, capacity);
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            descriptionIds = Arrays.copyOf(descriptionIds, capacity);
+        }
+        int key = nextKey++;
+        keys[size] = key;
+        cents[size] = costCents;
+        epochDays[size] = epochDay;
+        descriptionIds[size] = intern(description);
+        complete.set(size, completed);
+        size++;
+        track(size - 1, true);
+        return key;
+    } // End of method append
+
+    /**
+     * Changes the description, cost, and due date of a row. Intended for the
+     * persistence layer; it does not notify the edit listener.
+     *
+     * @param row         the row to change
+     * @param description the new description
+     * @param costCents   the new cost, in cents
+     * @param epochDay    the new due date as an epoch day, or {@link #NO_DATE}
+     */
+    public void update(int row, String description, long costCents, int epochDay) {
+        checkRow(row);
+        track(row, false);
+        descriptionIds[row] = intern(description);
+        cents[row] = costCents;
+        epochDays[row] = epochDay;
+        track(row, true);
+    } // End of method update
+
+    /**
+     * Registers the action run after a handle's setter (such as
+     * {@link Wants#setCost}) edits a row, so the owner can journal the edit.
+     *
+     * @param editListener receives the edited row, or {@code null} for none
+     */
+    public void setEditListener(IntConsumer editListener) {
+        this.editListener = editListener;
+    } // End of method setEditListener
+
+    /**
+     * Returns an independent copy of the columns, e.g. to encode them on a
+     * background thread while the original keeps changing.
+     *
+     * @return a copy whose rows have the same keys and values
+     */
+    public TaskColumns<T> copy() {
+        TaskColumns<T> copy = new TaskColumns<>(type, binder);
+        copy.size = size;
+        copy.nextKey = nextKey;
+        copy.keys = Arrays.copyOf(keys, Math.max(size, 1));
+        copy.cents = Arrays.copyOf(cents, Math.max(size, 1));
+        copy.epochDays = Arrays.copyOf(epochDays, Math.max(size, 1));
+        copy.descriptionIds = Arrays.copyOf(descriptionIds, Math.max(size, 1));
+        copy.complete.or(complete);
+        copy.dictionary.addAll(dictionary);
+        copy.dictionaryIds.putAll(dictionaryIds);
+        copy.totalCents = totalCents;
+        copy.completeCents = completeCents;
+        copy.completeCount = completeCount;
+        copy.openDue.addAll(openDue);
+        copy.revision = revision;
+        copy.changeLogStart = revision;
+        return copy;
+    } // End of method copy
+
+    /**
+     * Replaces every row with the rows of {@code source}. Existing handles
+     * become stale; new rows get fresh keys.
+     */
+    void replaceWith(TaskColumns<T> source) {
+        clearRows();
+        for (int row = 0; row < source.size; row++) {
+            append(source.descriptionAt(row), source.cents[row], source.epochDays[row], source.complete.get(row));
+        }
+    } // End of method replaceWith
+
+    /** Replaces every row with copies of {@code items}. */
+    void replaceWith(List<? extends T> items) {
+        clearRows();
+        for (T item : items) {
+            append(item.getDescription(), item.getCostCents(), toEpochDay(item.getDueDate()), item.isComplete());
+        }
+    } // End of method replaceWith
+
+
+    // --- List View ------------------------------------------------------------
+
+    /**
+     * Returns a live {@code List} view of the rows. {@code add} appends a row
+     * (binding the added item to it), {@code remove} deletes one, and
+     * {@code indexOf} of a bound handle is a binary search on its key.
+     *
+     * @return the list view
+     */
+    public List<T> asList() {
+        if (view == null) {
+            view = new RowList();
+        }
+        return view;
+    } // End of method asList
+
+    /** {@code List} adapter over the columns. */
+    private final class RowList extends AbstractList<T> implements RandomAccess {
+
+        @Override
+        public T get(int index) {
+            checkRow(index);
+            return binder.handle(TaskColumns.this, keys[index]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean add(T item) {
+            int key = append(item.getDescription(), item.getCostCents(),
+                    toEpochDay(item.getDueDate()), item.isComplete());
+            if (binder.columnsOf(item) == null) {
+                binder.bind(item, TaskColumns.this, key);
+            }
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public T remove(int index) {
+            checkRow(index);
+            T removed = binder.handle(TaskColumns.this, keys[index]);
+            removeRow(index);
+            modCount++;
+            return removed;
+        }
+
+        @Override
+        public boolean remove(Object item) {
+            int index = indexOf(item);
+            if (index < 0) {
+                return false;
+            }
+            removeRow(index);
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public int indexOf(Object item) {
+            return rowOf(item);
+        }
+
+        @Override
+        public int lastIndexOf(Object item) {
+            return rowOf(item);
+        }
+
+        @Override
+        public boolean contains(Object item) {
+            return rowOf(item) >= 0;
+        }
+
+        @Override
+        public void clear() {
+            clearRows();
+            modCount++;
+        }
+    } // End of class RowList
+
+
+    // --- Handle Support (package-private) --------------------------------------
+
+    /**
+     * @param item an item that may be bound to these columns
+     * @return its row key (also if the row was removed), or {@code -1} if it is not bound here
+     */
+    public int keyOf(Object item) {
+        if (!type.isInstance(item)) {
+            return -1;
+        }
+        T task = type.cast(item);
+        return binder.columnsOf(task) == this ? binder.keyOf(task) : -1;
+    } // End of method keyOf
+
+    /** @return a handle to the row with {@code key}, or {@code null} if there is no such row */
+    public T itemWithKey(int key) {
+        return rowOfKey(key) >= 0 ? binder.handle(this, key) : null;
+    } // End of method itemWithKey
+
+    /** @return the current row of {@code key}, or {@code -1} if it was removed */
+    int rowOfKey(int key) {
+        return Math.max(-1, Arrays.binarySearch(keys, 0, size, key));
+    } // End of method rowOfKey
+
+    /** @return the last values of the removed row with {@code key}, as a detached item */
+    T removedItem(int key) {
+        T item = removedItems.get(key);
+        if (item == null) {
+            throw new IllegalStateException("No row with key " + key);
+        }
+        return item;
+    } // End of method removedItem
+
+    /** @return the cost of a row, in currency units */
+    double costAt(int row) {
+        return Money.toAmount(centsAt(row));
+    } // End of method costAt
+
+    void setCompleteAt(int row) {
+        checkRow(row);
+        if (complete.get(row)) return;
+        track(row, false);
+        complete.set(row);
+        track(row, true);
+    } // End of method setCompleteAt
+
+    /** Changes a row on behalf of a handle's setter and notifies the {@link #setEditListener edit listener}. */
+    void editAt(int row, String description, long costCents, int epochDay) {
+        update(row, description, costCents, epochDay);
+        if (editListener != null) {
+            editListener.accept(row);
+        }
+    } // End of method editAt
+
+
+    // --- Private Helpers ------------------------------------------------------
+
+    /** @return the row of a handle bound to these columns, or {@code -1} */
+    private int rowOf(Object item) {
+        if (!type.isInstance(item)) {
+            return -1;
+        }
+        T task = type.cast(item);
+        return binder.columnsOf(task) == this ? rowOfKey(binder.keyOf(task)) : -1;
+    } // End of method rowOf
+
+    /** Deletes one row, shifting later rows down. */
+    private void removeRow(int row) {
+        keepRemoved(row);
+        track(row, false);
+        int tail = size - row - 1;
+        System.arraycopy(keys, row + 1, keys, row, tail);
+        System.arraycopy(cents, row + 1, cents, row, tail);
+        System.arraycopy(epochDays, row + 1, epochDays, row, tail);
+        System.arraycopy(descriptionIds, row + 1, descriptionIds, row, tail);
+        BitSet tailBits = complete.get(row + 1, size);
+        complete.clear(row, size);
+        for (int bit = tailBits.nextSetBit(0); bit >= 0; bit = tailBits.nextSetBit(bit + 1)) {
+            complete.set(row + bit);
+        }
+        size--;
+    } // End of method removeRow
+
+    private void clearRows() {
+        for (int row = 0; row < size; row++) {
+            keepRemoved(row);
+        }
+        size = 0;
+        complete.clear();
+        totalCents = 0L;
+        completeCents = 0L;
+        completeCount = 0;
+        openDue.clear();
+        dictionary.clear();
+        revision++;
+        changeLogStart = revision; // Every key changed
+        dictionaryIds.clear();
+    } // End of method clearRows
+
+    /** Saves the values of a row about to be removed for the handles still bound to it. */
+    private void keepRemoved(int row) {
+        removedItems.put(keys[row], binder.create(descriptionAt(row), costAt(row), dueDateAt(row), complete.get(row)));
+    } // End of method keepRemoved
+
+    /** Adds a row to (or removes it from) the running aggregates. */
+    private void track(int row, boolean add) {
+        long sign = add ? 1L : -1L;
+        logChange(keys[row]);
+        totalCents += sign * cents[row];
+        if (complete.get(row)) {
+            completeCents += sign * cents[row];
+            completeCount += (int) sign;
+        } else if (epochDays[row] != NO_DATE) {
+            Long entry = dueEntry(epochDays[row], keys[row]);
+            if (add) openDue.add(entry); else openDue.remove(entry);
+        }
+    } // End of method track
+
+    /** Advances the revision, remembering which row changed. */
+    private void logChange(int key) {
+        revision++;
+        int slot = changeCount % CHANGE_LOG_SIZE;
+        if (changeCount >= CHANGE_LOG_SIZE) {
+            changeLogStart = Math.max(changeLogStart, changeRevisions[slot]); // Forget the oldest change
+        }
+        changedKeys[slot] = key;
+        changeRevisions[slot] = revision;
+        changeCount++;
+    } // End of method logChange
+
+    /** Orders index entries by due day, then by key (compared unsigned, so -1 is the largest). */
+    private static long dueEntry(int epochDay, int key) {
+        return ((long) epochDay << 32) | (key & 0xFFFFFFFFL);
+    } // End of method dueEntry
+
+    /** Converts index entries to the current rows of their keys. */
+    private int[] rowsOf(SortedSet<Long> entries) {
+        int[] rows = new int[entries.size()];
+        int i = 0;
+        for (long entry : entries) {
+            rows[i++] = rowOfKey((int) entry);
+        }
+        return rows;
+    } // End of method rowsOf
+
+    private int intern(String description) {
+        Integer id = dictionaryIds.get(description);
+        if (id == null) {
+            id = dictionary.size();
+            dictionary.add(description);
+            dictionaryIds.put(description, id);
+        }
+        return id;
+    } // End of method intern
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+    } // End of method checkRow
+
+    static int toEpochDay(LocalDate date) {
+        return date == null ? NO_DATE : Math.toIntExact(date.toEpochDay());
+    } // End of method toEpochDay
+
+} // End of class TaskColumns
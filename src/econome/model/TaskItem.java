@@ -0,0 +1,29 @@
+package econome.model;
+
+import java.time.LocalDate;
+
+/**
+ * Common read-only view of a task in the EconoMe application.
+ * <p>
+ * Implemented by both {@link Needs} and {@link Wants}, so that storage and
+ * summary code can treat the two lists alike.
+ * </p>
+ */
+public interface TaskItem {
+
+    /** @return the description of this task */
+    String getDescription();
+
+    /** @return the cost of this task */
+    double getCost();
+
+    /** @return the cost of this task, in cents */
+    long getCostCents();
+
+    /** @return the due or target date of this task, or {@code null} if none */
+    LocalDate getDueDate();
+
+    /** @return {@code true} if this task has been marked complete */
+    boolean isComplete();
+
+} // End of interface TaskItem
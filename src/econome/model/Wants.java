@@ -17,7 +17,7 @@ import java.time.LocalDate;
  *   <li>Track completion status (achieved or not).</li>
  * </ul>
  */
-public class Wants implements Serializable {
+public class Wants implements TaskItem, Serializable {
 
     // --- Serialization -------------------------------------------------------
 
@@ -39,6 +39,12 @@ public class Wants implements Serializable {
     /** Whether this goal has been marked as complete or achieved. */
     private boolean isComplete;
 
+    /** Columns this object is a handle into, or {@code null} if it holds its own values. */
+    private transient TaskColumns<Wants> columns;
+
+    /** Row key within {@link #columns}. */
+    private transient int key;
+
 
     // --- Constructor ---------------------------------------------------------
 
@@ -56,45 +62,78 @@ public class Wants implements Serializable {
         this.isComplete = false; // Default to incomplete
     } // End of constructor Wants
 
+    /** Creates a handle bound to a row of {@code columns}. */
+    private Wants(TaskColumns<Wants> columns, int key) {
+        this.columns = columns;
+        this.key = key;
+    } // End of constructor Wants
+
 
     // --- Accessors -----------------------------------------------------------
 
     /** @return the description of this Want */
     public String getDescription() {
-        return description;
+        int row = boundRow();
+        return row >= 0 ? columns.descriptionAt(row) : detached().description;
     } // End of method getDescription
 
     /** @return the total cost associated with this Want */
     public double getCost() {
-        return cost;
+        int row = boundRow();
+        return row >= 0 ? columns.costAt(row) : detached().cost;
     } // End of method getCost
 
+    /** @return the target cost of this Want, in cents */
+    public long getCostCents() {
+        int row = boundRow();
+        return row >= 0 ? columns.centsAt(row) : Money.ofAmount(detached().cost);
+    } // End of method getCostCents
+
     /** @return the target date by which this Want should be completed */
     public LocalDate getDueDate() {
-        return dueDate;
+        int row = boundRow();
+        return row >= 0 ? columns.dueDateAt(row) : detached().dueDate;
     } // End of method getDueDate
 
     /** @return {@code true} if this Want has been marked as complete */
     public boolean isComplete() {
-        return isComplete;
+        int row = boundRow();
+        return row >= 0 ? columns.isCompleteAt(row) : detached().isComplete;
     } // End of method isComplete
 
 
     // --- Mutators ------------------------------------------------------------
 
+    // A Want in a profile's list records each edit in the profile's journal.
+
     /** Updates the description for this Want. */
     public void setDescription(String description) {
-        this.description = description;
+        int row = boundRow();
+        if (row >= 0) {
+            columns.editAt(row, description, columns.centsAt(row), columns.epochDayAt(row));
+        } else {
+            detached().description = description;
+        }
     } // End of method setDescription
 
     /** Updates the total cost for this Want. */
     public void setCost(double cost) {
-        this.cost = cost;
+        int row = boundRow();
+        if (row >= 0) {
+            columns.editAt(row, columns.descriptionAt(row), Money.ofAmount(cost), columns.epochDayAt(row));
+        } else {
+            detached().cost = cost;
+        }
     } // End of method setCost
 
     /** Updates the target completion date for this Want. */
     public void setDueDate(LocalDate dueDate) {
-        this.dueDate = dueDate;
+        int row = boundRow();
+        if (row >= 0) {
+            columns.editAt(row, columns.descriptionAt(row), columns.centsAt(row), TaskColumns.toEpochDay(dueDate));
+        } else {
+            detached().dueDate = dueDate;
+        }
     } // End of method setDueDate
 
 
@@ -107,7 +146,85 @@ public class Wants implements Serializable {
      * </p>
      */
     public void markComplete() {
-        this.isComplete = true;
+        int row = boundRow();
+        if (row >= 0) {
+            columns.setCompleteAt(row);
+        } else {
+            detached().isComplete = true;
+        }
     } // End of method markComplete
 
+
+    // --- Column Binding ------------------------------------------------------
+
+    /** @return the current row of this handle, or {@code -1} if it has none */
+    private int boundRow() {
+        return columns != null ? columns.rowOfKey(key) : -1;
+    } // End of method boundRow
+
+    /**
+     * @return the object holding this Want's values while it has no row:
+     *         itself, or the copy kept when its row was removed
+     */
+    private Wants detached() {
+        return columns == null ? this : columns.removedItem(key);
+    } // End of method detached
+
+    /** Connects {@code Wants} objects to {@link TaskColumns}. */
+    static final TaskColumns.Binder<Wants> BINDER = new TaskColumns.Binder<>() {
+        @Override
+        public Wants handle(TaskColumns<Wants> columns, int key) {
+            return new Wants(columns, key);
+        }
+
+        @Override
+        public void bind(Wants item, TaskColumns<Wants> columns, int key) {
+            item.columns = columns;
+            item.key = key;
+        }
+
+        @Override
+        public Wants create(String description, double cost, LocalDate dueDate, boolean complete) {
+            Wants item = new Wants(description, cost, dueDate);
+            item.isComplete = complete;
+            return item;
+        }
+
+        @Override
+        public TaskColumns<Wants> columnsOf(Wants item) {
+            return item.columns;
+        }
+
+        @Override
+        public int keyOf(Wants item) {
+            return item.key;
+        }
+    };
+
+    /** Serializes a handle as a standalone copy of its current values. */
+    private Object writeReplace() {
+        return columns == null ? this : BINDER.create(getDescription(), getCost(), getDueDate(), isComplete());
+    } // End of method writeReplace
+
+
+    // --- Object Overrides ----------------------------------------------------
+
+    /**
+     * Handles bound to the same row are equal, so {@code indexOf} finds a
+     * Want no matter which handle the caller holds, even after the row
+     * was removed. Standalone objects are only equal to themselves.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        return other instanceof Wants want && columns != null
+                && columns == want.columns && key == want.key;
+    } // End of method equals
+
+    /** Bound handles hash by row key, which stays the same once the object is bound. */
+    @Override
+    public int hashCode() {
+        return columns != null ? 31 * System.identityHashCode(columns) + key : System.identityHashCode(this);
+    } // End of method hashCode
+
 } // End of class Wants
\ No newline at end of file
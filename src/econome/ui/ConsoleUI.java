@@ -139,7 +139,7 @@ public class ConsoleUI {
         viewNeeds(profile); // Show list for reference
         int index = promptInt("Enter # to mark complete: ", 1, needs.size());
         Needs selectedNeed = needs.get(index - 1);
-        selectedNeed.markComplete();
+        profile.markNeedComplete(selectedNeed);
 
         System.out.println("Marked complete: " + selectedNeed.getDescription());
     } // End of method markNeedComplete
@@ -192,7 +192,7 @@ public class ConsoleUI {
         viewWants(profile); // Show list for reference
         int index = promptInt("Enter # to mark complete: ", 1, wants.size());
         Wants selectedWant = wants.get(index - 1);
-        selectedWant.markComplete();
+        profile.markWantComplete(selectedWant);
 
         System.out.println("Marked complete: " + selectedWant.getDescription());
     } // End of method markWantComplete
@@ -2,6 +2,9 @@ package econome.ui;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Arc2D;
+import java.awt.image.BufferedImage;
 
 /**
  * A custom Swing component that renders a donut-style chart for visualizing
@@ -11,25 +14,53 @@ import java.awt.*;
  * to its value. A neutral background ring is always displayed, ensuring
  * visibility even when no allocations exist.
  * </p>
+ * <p>
+ * The ring is rendered once into an off-screen image at the screen's pixel
+ * density and simply copied on later repaints (scrolling, overlapping
+ * windows). The image is redrawn only when the allocations, colors, size, or
+ * display scale change. The neutral base ring has its own cached layer, so an
+ * animated change of allocations redraws only the colored segments, once per
+ * animation frame.
+ * </p>
  *
  * <h3>Responsibilities:</h3>
  * <ul>
  *   <li>Render a circular donut chart with proportional segments.</li>
  *   <li>Display a central label showing the total allocation percentage.</li>
+ *   <li>Animate between allocation states.</li>
  *   <li>Provide visual consistency with the EconoMe UI theme.</li>
  * </ul>
  */
 public class DonutChartPanel extends JPanel {
 
     // --- Chart Data ---
-    private final double[] allocations; // Fractions between 0 and 1 for each segment
+    private double[] allocations;       // Fractions between 0 and 1 for each segment
     private final double[] progress;    // Optional: progress indicators (currently unused)
-    private final Color[] colors;       // Colors for each segment
+    private Color[] colors;             // Colors for each segment
     private final String[] labels;      // Labels for each segment (currently unused)
 
     // --- Visual Constants ---
     private static final int RING_THICKNESS = 24; // Thickness of the donut ring
-    private static final Color BASE_RING_COLOR = new Color(220, 225, 220); // Light gray-green
+    private static final Color BASE_RING_COLOR = UITheme.TRACK; // Light gray-green
+    private static final Color LABEL_COLOR = UITheme.TEXT_DARK;
+    private static final Font LABEL_FONT = new Font("Segoe UI", Font.BOLD, 22);
+    private static final BasicStroke RING_STROKE =
+            new BasicStroke(RING_THICKNESS, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+
+    // --- Animation Constants ---
+    private static final int ANIMATION_MILLIS = 400;
+    private static final int FRAME_MILLIS = 16; // About 60 frames per second
+
+    // --- Render Cache ---
+    private transient BufferedImage baseLayer;   // Neutral ring only; depends on size and scale
+    private transient BufferedImage chartImage;  // Base ring plus segments, as shown
+    private boolean chartDirty = true; // Segments must be redrawn before the next copy
+
+    // --- Animation State ---
+    private double[] fromAllocations;  // Allocations when the running animation started
+    private double[] targetAllocations;
+    private long animationStart;
+    private Timer animationTimer;      // Created with the first animated change
 
     /**
      * Constructs a new {@code DonutChartPanel}.
@@ -50,10 +81,103 @@ public class DonutChartPanel extends JPanel {
         setMinimumSize(new Dimension(220, 220));
     } // End of constructor DonutChartPanel
 
+
+    // -------------------------------------------------------------------------
+    // CHART DATA
+    // -------------------------------------------------------------------------
+
+    /**
+     * Changes the allocations shown, animating each segment from its current
+     * size to the new one. Calling this again during an animation continues
+     * smoothly from the frame currently shown.
+     *
+     * @param newAllocations fractional values (0..1) for each segment
+     */
+    public void setAllocations(double[] newAllocations) {
+        double[] target = newAllocations != null ? newAllocations.clone() : new double[]{};
+        if (!isShowing()) {
+            stopAnimation();
+            allocations = target;
+            invalidateChart();
+            return;
+        }
+
+        fromAllocations = allocations.clone();
+        targetAllocations = target;
+        animationStart = System.nanoTime();
+        if (animationTimer == null) {
+            animationTimer = new Timer(FRAME_MILLIS, e -> stepAnimation());
+            animationTimer.setCoalesce(true);
+        }
+        animationTimer.restart();
+    } // End of method setAllocations
+
+    /**
+     * Changes the segment colors.
+     *
+     * @param newColors color array corresponding to each segment
+     */
+    public void setColors(Color[] newColors) {
+        colors = newColors != null && newColors.length > 0 ? newColors.clone() : new Color[]{Color.GRAY};
+        invalidateChart();
+    } // End of method setColors
+
+
+    // -------------------------------------------------------------------------
+    // ANIMATION
+    // -------------------------------------------------------------------------
+
+    /** Advances the running animation by one frame. */
+    private void stepAnimation() {
+        double t = Math.min(1.0, (System.nanoTime() - animationStart) / (ANIMATION_MILLIS * 1_000_000.0));
+        double eased = 1 - Math.pow(1 - t, 3); // Ease out: fast start, gentle finish
+
+        int count = Math.max(fromAllocations.length, targetAllocations.length);
+        double[] frame = new double[count];
+        for (int i = 0; i < count; i++) {
+            double from = i < fromAllocations.length ? fromAllocations[i] : 0.0;
+            double to = i < targetAllocations.length ? targetAllocations[i] : 0.0;
+            frame[i] = from + (to - from) * eased;
+        }
+        allocations = t < 1.0 ? frame : targetAllocations;
+        if (t >= 1.0) {
+            animationTimer.stop();
+        }
+        invalidateChart();
+    } // End of method stepAnimation
+
+    /** Stops a running animation, leaving the chart at its target. */
+    private void stopAnimation() {
+        if (animationTimer != null && animationTimer.isRunning()) {
+            animationTimer.stop();
+            allocations = targetAllocations;
+        }
+    } // End of method stopAnimation
+
+    @Override
+    public void removeNotify() {
+        stopAnimation();
+        baseLayer = null; // The next parent may use a different screen
+        chartImage = null;
+        super.removeNotify();
+    } // End of method removeNotify
+
+
+    // -------------------------------------------------------------------------
+    // RENDERING
+    // -------------------------------------------------------------------------
+
+    /** Marks the segments for redrawing and schedules a repaint. */
+    private void invalidateChart() {
+        chartDirty = true;
+        repaint();
+    } // End of method invalidateChart
+
     /**
      * Renders the donut chart visualization.
      * Called automatically by the Swing paint system when the panel
-     * is displayed or updated.
+     * is displayed or updated. Copies the cached ring image, redrawing it
+     * first only if something it shows has changed.
      *
      * @param g the {@link Graphics} context used for drawing
      */
@@ -64,51 +188,127 @@ public class DonutChartPanel extends JPanel {
         // Ensure there is valid data to draw
         if (allocations.length == 0 || colors.length == 0) return;
 
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) return;
+
+        UIEvents.DonutPaint event = UIEvents.DonutPaint.start();
         Graphics2D g2 = (Graphics2D) g.create();
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        int size = Math.min(getWidth(), getHeight());
-        int outerDiameter = (int) (size * 0.80);
-        int x = (getWidth() - outerDiameter) / 2;
-        int y = (getHeight() - outerDiameter) / 2;
+        // --- Ring: cached at device resolution ---
+        AffineTransform transform = g2.getTransform();
+        int pixelWidth = (int) Math.ceil(width * transform.getScaleX());
+        int pixelHeight = (int) Math.ceil(height * transform.getScaleY());
+        boolean redrawn = renderChart(pixelWidth, pixelHeight, width, height);
+        g2.drawImage(chartImage, 0, 0, width, height, null);
 
-        // --- Base Ring (background) ---
-        g2.setStroke(new BasicStroke(RING_THICKNESS, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-        g2.setColor(BASE_RING_COLOR);
-        g2.drawOval(x, y, outerDiameter, outerDiameter);
-
-        // --- Calculate total allocation ---
+        // --- Draw Center Label (total percentage) ---
         double total = 0.0;
         for (double value : allocations) {
             total += Math.max(0, value);
         }
-
-        // --- Draw segments if there’s data ---
-        if (total > 0) {
-            double startAngle = 90.0; // Start at top of circle
-            for (int i = 0; i < allocations.length; i++) {
-                double fraction = Math.max(0, allocations[i]) / total;
-                if (fraction <= 0) continue;
-
-                double sweepAngle = fraction * 360.0;
-                g2.setColor(colors[i % colors.length]);
-                g2.drawArc(x, y, outerDiameter, outerDiameter, (int) -startAngle, (int) -sweepAngle);
-                startAngle += sweepAngle;
-            }
-        }
-
-        // --- Draw Center Label (total percentage) ---
         int percent = (int) Math.round(total * 100);
         String label = percent + "%";
-        g2.setFont(new Font("Segoe UI", Font.BOLD, 22));
+        g2.setFont(LABEL_FONT);
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
         FontMetrics metrics = g2.getFontMetrics();
-        int textX = (getWidth() - metrics.stringWidth(label)) / 2;
-        int textY = (getHeight() + metrics.getAscent()) / 2 - 4;
+        int textX = (width - metrics.stringWidth(label)) / 2;
+        int textY = (height + metrics.getAscent()) / 2 - 4;
 
-        g2.setColor(new Color(40, 40, 40));
+        g2.setColor(LABEL_COLOR);
         g2.drawString(label, textX, textY);
 
         g2.dispose();
+        event.finish(width, height, allocations.length, redrawn);
     } // End of method paintComponent
-} // End of class DonutChartPanel
\ No newline at end of file
+
+    /**
+     * Brings the cached images up to date for the current pixel size.
+     *
+     * @param pixelWidth  image width in device pixels
+     * @param pixelHeight image height in device pixels
+     * @param width       panel width in user space
+     * @param height      panel height in user space
+     * @return whether the ring image was redrawn
+     */
+    private boolean renderChart(int pixelWidth, int pixelHeight, int width, int height) {
+        boolean resized = chartImage == null
+                || chartImage.getWidth() != pixelWidth || chartImage.getHeight() != pixelHeight;
+        if (resized) {
+            baseLayer = createBaseLayer(pixelWidth, pixelHeight, width, height);
+            chartImage = new BufferedImage(pixelWidth, pixelHeight, BufferedImage.TYPE_INT_ARGB);
+            chartDirty = true;
+        }
+        if (!chartDirty) return false;
+
+        Graphics2D g2 = chartImage.createGraphics();
+        g2.setComposite(AlphaComposite.Src);
+        g2.drawImage(baseLayer, 0, 0, null);
+        g2.setComposite(AlphaComposite.SrcOver);
+        prepare(g2, pixelWidth, pixelHeight, width, height);
+        drawSegments(g2, width, height);
+        g2.dispose();
+        chartDirty = false;
+        return true;
+    } // End of method renderChart
+
+    /**
+     * Creates a transparent image holding the neutral base ring.
+     *
+     * @return the rendered layer
+     */
+    private BufferedImage createBaseLayer(int pixelWidth, int pixelHeight, int width, int height) {
+        BufferedImage layer = new BufferedImage(pixelWidth, pixelHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = layer.createGraphics();
+        prepare(g2, pixelWidth, pixelHeight, width, height);
+
+        // --- Base Ring (background) ---
+        Rectangle ring = ringBounds(width, height);
+        g2.setColor(BASE_RING_COLOR);
+        g2.drawOval(ring.x, ring.y, ring.width, ring.height);
+        g2.dispose();
+        return layer;
+    } // End of method createBaseLayer
+
+    /** Scales an image's graphics to user space and applies the ring's drawing settings. */
+    private static void prepare(Graphics2D g2, int pixelWidth, int pixelHeight, int width, int height) {
+        g2.scale((double) pixelWidth / width, (double) pixelHeight / height);
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+        g2.setStroke(RING_STROKE);
+    } // End of method prepare
+
+    /** Draws one arc per positive allocation, clockwise from the top. */
+    private void drawSegments(Graphics2D g2, int width, int height) {
+        // --- Calculate total allocation ---
+        double total = 0.0;
+        for (double value : allocations) {
+            total += Math.max(0, value);
+        }
+        if (total <= 0) return;
+
+        // --- Draw segments ---
+        Rectangle ring = ringBounds(width, height);
+        Arc2D.Double arc = new Arc2D.Double(Arc2D.OPEN);
+        double startAngle = 90.0; // Start at top of circle
+        for (int i = 0; i < allocations.length; i++) {
+            double fraction = Math.max(0, allocations[i]) / total;
+            if (fraction <= 0) continue;
+
+            double sweepAngle = fraction * 360.0;
+            g2.setColor(colors[i % colors.length]);
+            arc.setArc(ring.x, ring.y, ring.width, ring.height, -startAngle, -sweepAngle, Arc2D.OPEN);
+            g2.draw(arc);
+            startAngle += sweepAngle;
+        }
+    } // End of method drawSegments
+
+    /** @return the square the ring is drawn on, centered in the panel */
+    private static Rectangle ringBounds(int width, int height) {
+        int size = Math.min(width, height);
+        int outerDiameter = (int) (size * 0.80);
+        return new Rectangle((width - outerDiameter) / 2, (height - outerDiameter) / 2,
+                outerDiameter, outerDiameter);
+    } // End of method ringBounds
+} // End of class DonutChartPanel
@@ -0,0 +1,414 @@
+package econome.ui;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.InvocationEvent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Opt-in instrumentation that measures how long the Swing Event Dispatch
+ * Thread is busy with each event.
+ * <p>
+ * When the {@code econome.edt.monitor} system property is set, an
+ * {@link EventQueue} is pushed that times every dispatched event and records
+ * the duration in a logarithmic histogram. Time spent waiting inside a modal
+ * dialog's event loop, and in events dispatched by that loop, is not charged
+ * to the event that opened the dialog, so each event is measured by the
+ * time it actually kept the thread busy.
+ * </p>
+ * <p>
+ * A watchdog thread checks the running event every few milliseconds. If one
+ * has kept the thread busy for longer than {@code econome.edt.thresholdMs}
+ * (100 ms by default), it captures the Event Dispatch Thread's stack, which
+ * shows the listener that is blocking it, and logs it to {@code System.err}.
+ * The histogram, the slowest events, and the captured stalls are printed
+ * when the JVM exits.
+ * </p>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Time every event dispatched on the Event Dispatch Thread.</li>
+ *   <li>Report events that block the thread, with the blocking stack.</li>
+ *   <li>Summarize dispatch latency in a histogram at exit.</li>
+ * </ul>
+ */
+public final class EdtMonitor {
+
+    // --- Constants ------------------------------------------------------------
+
+    /** Whether the monitor is installed at startup ({@code econome.edt.monitor}). */
+    private static final boolean ENABLED = Boolean.getBoolean("econome.edt.monitor");
+
+    /** Busy time after which an event counts as a stall ({@code econome.edt.thresholdMs}). */
+    private static final long THRESHOLD_MS = Long.getLong("econome.edt.thresholdMs", 100L);
+
+    /** Histogram buckets: bucket {@code b > 0} holds durations of {@code [2^(b-1), 2^b)} microseconds. */
+    private static final int BUCKETS = 25;
+
+    /** How many of the slowest events and stalls the report keeps. */
+    private static final int KEPT_EVENTS = 10;
+
+    /** Stack frames logged per stall. */
+    private static final int STACK_DEPTH = 20;
+
+
+    // --- Singleton ------------------------------------------------------------
+
+    /** Lazily creates the monitor the first time it is requested. */
+    private static final class Holder {
+        private static final EdtMonitor INSTANCE = new EdtMonitor();
+    }
+
+    /** @return the monitor shared by the whole process */
+    public static EdtMonitor getInstance() {
+        return Holder.INSTANCE;
+    } // End of method getInstance
+
+    /**
+     * Installs the monitor if the {@code econome.edt.monitor} system property
+     * is set. Call once at startup, before the first window is shown.
+     */
+    public static void installIfEnabled() {
+        if (ENABLED) {
+            getInstance().install();
+        }
+    } // End of method installIfEnabled
+
+
+    // --- Fields ---------------------------------------------------------------
+
+    /** An event being dispatched, possibly interrupted by a nested event loop. */
+    private static final class Dispatch {
+        final AWTEvent event;
+        final long start;
+        long pausedNanos;  // Time spent in nested loops, not charged to this event
+        long pauseStart;
+
+        Dispatch(AWTEvent event, long start) {
+            this.event = event;
+            this.start = start;
+        }
+    } // End of class Dispatch
+
+    /** A finished or stalled event kept for the report. */
+    private record Sample(String event, long nanos, String stack) {}
+
+    /** Events being dispatched, innermost first. Only touched on the Event Dispatch Thread. */
+    private final Deque<Dispatch> dispatches = new ArrayDeque<>();
+
+    // --- Shared with the watchdog ---
+    private volatile Thread dispatchThread;
+    private volatile long busySince;       // Start of the current busy stretch, or 0 when waiting
+    private volatile AWTEvent busyEvent;
+    private volatile long stretchId;       // Changes with every new busy stretch
+    private long reportedStretchId = -1;   // Watchdog only
+
+    // --- Statistics ---
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+    private final AtomicLong eventCount = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final List<Sample> slowest = new ArrayList<>();
+    private final List<Sample> stalls = new ArrayList<>();
+
+    private volatile boolean installed;
+
+
+    // --- Constructors ---------------------------------------------------------
+
+    private EdtMonitor() {
+    } // End of constructor EdtMonitor
+
+
+    // --- Public Methods -------------------------------------------------------
+
+    /**
+     * Pushes the timing event queue, starts the watchdog, and prints the
+     * report at JVM exit. Calling it again has no effect.
+     */
+    public synchronized void install() {
+        if (installed) {
+            return;
+        }
+        installed = true;
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new TimingEventQueue());
+
+        long period = Math.max(1L, THRESHOLD_MS / 4);
+        ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "econome-edt-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watchdog.scheduleAtFixedRate(this::checkForStall, period, period, TimeUnit.MILLISECONDS);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.println(report()), "econome-edt-report"));
+    } // End of method install
+
+    /** @return whether the monitor has been installed */
+    public boolean isInstalled() {
+        return installed;
+    } // End of method isInstalled
+
+    /** @return how many events have been dispatched since the monitor was installed */
+    public long getEventCount() { return eventCount.get(); }
+
+    /** @return the longest time a single event kept the thread busy, in nanoseconds */
+    public long getMaxNanos() { return maxNanos.get(); }
+
+    /**
+     * Estimates a percentile of the dispatch times from the histogram.
+     *
+     * @param percentile a value between 0 and 100
+     * @return the upper bound of the bucket holding that percentile, in nanoseconds
+     */
+    public long percentileNanos(double percentile) {
+        long count = eventCount.get();
+        if (count == 0) {
+            return 0L;
+        }
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += histogram.get(bucket);
+            if (seen >= rank) {
+                return Math.min(bucketUpperMicros(bucket) * 1_000L, maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    } // End of method percentileNanos
+
+    /**
+     * Builds a multi-line report with the latency histogram, the slowest
+     * events, and the stalls caught by the watchdog.
+     *
+     * @return the formatted report
+     */
+    public String report() {
+        StringBuilder out = new StringBuilder();
+        long count = eventCount.get();
+        out.append(String.format(Locale.ROOT,
+                "EDT dispatch: %d events, mean %.3f ms, p50 <= %.3f ms, p99 <= %.3f ms, max %.3f ms%n",
+                count, count == 0 ? 0.0 : totalNanos.get() / 1e6 / count,
+                percentileNanos(50) / 1e6, percentileNanos(99) / 1e6, maxNanos.get() / 1e6));
+
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            long n = histogram.get(bucket);
+            if (n > 0) {
+                out.append(String.format(Locale.ROOT, "  %10s - %-10s %8d%n",
+                        formatMicros(bucket == 0 ? 0 : bucketUpperMicros(bucket - 1)),
+                        formatMicros(bucketUpperMicros(bucket)), n));
+            }
+        }
+
+        synchronized (this) {
+            if (!slowest.isEmpty()) {
+                out.append("Slowest events:").append(System.lineSeparator());
+                for (Sample sample : slowest) {
+                    out.append(String.format(Locale.ROOT, "  %9.3f ms  %s%n", sample.nanos() / 1e6, sample.event()));
+                }
+            }
+            if (!stalls.isEmpty()) {
+                out.append("Stalls over ").append(THRESHOLD_MS).append(" ms:").append(System.lineSeparator());
+                for (Sample stall : stalls) {
+                    out.append("  ").append(stall.event()).append(System.lineSeparator()).append(stall.stack());
+                }
+            }
+        }
+        return out.toString();
+    } // End of method report
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "EDT monitor: %d events, max %.3f ms",
+                getEventCount(), getMaxNanos() / 1e6);
+    } // End of method toString
+
+
+    // --- Event Queue ----------------------------------------------------------
+
+    /** Event queue that reports every dispatch to the monitor. */
+    private final class TimingEventQueue extends EventQueue {
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            beginDispatch(event);
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                endDispatch();
+            }
+        }
+
+        @Override
+        public AWTEvent getNextEvent() throws InterruptedException {
+            // Called by nested (modal) event loops while an event is still running
+            beginWait();
+            try {
+                return super.getNextEvent();
+            } finally {
+                endWait();
+            }
+        }
+    } // End of class TimingEventQueue
+
+    /** Starts timing an event, pausing the event it is nested in. */
+    private void beginDispatch(AWTEvent event) {
+        long now = System.nanoTime();
+        dispatchThread = Thread.currentThread();
+        Dispatch outer = dispatches.peek();
+        if (outer != null) {
+            outer.pauseStart = now;
+        }
+        dispatches.push(new Dispatch(event, now));
+        startStretch(event, now);
+    } // End of method beginDispatch
+
+    /** Records a finished event and resumes the event it was nested in. */
+    private void endDispatch() {
+        long now = System.nanoTime();
+        Dispatch dispatch = dispatches.pop();
+        record(dispatch.event, now - dispatch.start - dispatch.pausedNanos);
+
+        Dispatch outer = dispatches.peek();
+        if (outer != null) {
+            outer.pausedNanos += now - outer.pauseStart;
+            startStretch(outer.event, now);
+        } else {
+            busySince = 0L;
+        }
+    } // End of method endDispatch
+
+    /** Marks the thread idle while a nested loop waits for its next event. */
+    private void beginWait() {
+        Dispatch outer = dispatches.peek();
+        if (outer != null) {
+            outer.pauseStart = System.nanoTime();
+        }
+        busySince = 0L;
+    } // End of method beginWait
+
+    /** Resumes charging the running event after a nested loop's wait. */
+    private void endWait() {
+        Dispatch outer = dispatches.peek();
+        if (outer != null) {
+            long now = System.nanoTime();
+            outer.pausedNanos += now - outer.pauseStart;
+            startStretch(outer.event, now);
+        }
+    } // End of method endWait
+
+    /** Publishes the start of a busy stretch to the watchdog. */
+    private void startStretch(AWTEvent event, long now) {
+        busyEvent = event;
+        stretchId++;
+        busySince = now;
+    } // End of method startStretch
+
+
+    // --- Recording ------------------------------------------------------------
+
+    /** Adds one event's busy time to the statistics. */
+    private void record(AWTEvent event, long nanos) {
+        histogram.incrementAndGet(bucketOf(nanos / 1_000L));
+        eventCount.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+
+        synchronized (this) {
+            if (slowest.size() < KEPT_EVENTS || nanos > slowest.get(slowest.size() - 1).nanos()) {
+                slowest.add(new Sample(describe(event), nanos, null));
+                slowest.sort(Comparator.comparingLong(Sample::nanos).reversed());
+                if (slowest.size() > KEPT_EVENTS) {
+                    slowest.remove(KEPT_EVENTS);
+                }
+            }
+        }
+    } // End of method record
+
+    /** Runs on the watchdog thread: captures the stack of a stretch over the threshold, once. */
+    private void checkForStall() {
+        long since = busySince;
+        long id = stretchId;
+        Thread thread = dispatchThread;
+        if (since == 0L || thread == null || id == reportedStretchId) {
+            return;
+        }
+        long busyNanos = System.nanoTime() - since;
+        if (busyNanos < TimeUnit.MILLISECONDS.toNanos(THRESHOLD_MS)) {
+            return;
+        }
+        StackTraceElement[] stack = thread.getStackTrace();
+        if (busySince != since) {
+            return; // The stretch ended while the stack was captured
+        }
+        reportedStretchId = id;
+
+        StringBuilder trace = new StringBuilder();
+        for (int i = 0; i < Math.min(STACK_DEPTH, stack.length); i++) {
+            trace.append("      at ").append(stack[i]).append(System.lineSeparator());
+        }
+        String event = String.format(Locale.ROOT, "%s (busy %d ms so far)",
+                describe(busyEvent), TimeUnit.NANOSECONDS.toMillis(busyNanos));
+        System.err.println("⚠️ [EdtMonitor] Event Dispatch Thread blocked: " + event + System.lineSeparator() + trace);
+
+        synchronized (this) {
+            if (stalls.size() == KEPT_EVENTS) {
+                stalls.remove(0);
+            }
+            stalls.add(new Sample(event, busyNanos, trace.toString()));
+        }
+    } // End of method checkForStall
+
+
+    // --- Private Helpers ------------------------------------------------------
+
+    /** @return the histogram bucket for a duration in microseconds */
+    private static int bucketOf(long micros) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    } // End of method bucketOf
+
+    /** @return the exclusive upper bound of a bucket, in microseconds */
+    private static long bucketUpperMicros(int bucket) {
+        return 1L << bucket;
+    } // End of method bucketUpperMicros
+
+    private static String formatMicros(long micros) {
+        return micros < 1_000L
+                ? micros + " µs"
+                : String.format(Locale.ROOT, "%.0f ms", micros / 1_000.0);
+    } // End of method formatMicros
+
+    /** @return a short description of an event, e.g. "MOUSE_CLICKED on JButton" */
+    private static String describe(AWTEvent event) {
+        if (event == null) {
+            return "(unknown event)";
+        }
+        String param = event.paramString();
+        if (event instanceof InvocationEvent) {
+            // "INVOCATION_DEFAULT,runnable=Foo$$Lambda/0x...@1a2b,notifier=..." -> "invokeLater Foo$$Lambda"
+            int start = param.indexOf("runnable=");
+            if (start >= 0) {
+                start += "runnable=".length();
+                int end = param.indexOf('/', start);
+                int at = param.indexOf('@', start);
+                if (end < 0 || (at >= 0 && at < end)) end = at;
+                return "invokeLater " + (end > start ? param.substring(start, end) : param.substring(start));
+            }
+        }
+        int comma = param.indexOf(',');
+        return (comma > 0 ? param.substring(0, comma) : param)
+                + " on " + event.getSource().getClass().getSimpleName();
+    } // End of method describe
+
+} // End of class EdtMonitor
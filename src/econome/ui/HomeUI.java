@@ -2,28 +2,33 @@ package econome.ui;
 
 import javax.swing.*;
 import java.awt.*;
+import econome.model.Money;
 import econome.model.Profile;
+import econome.model.TaskItem;
 
 /**
  * Represents the Home screen of the EconoMe application.
  * <p>
  * Displays key user financial information such as total balance
- * and recent activity, and provides quick access to the Needs and Wants pages.
+ * and a summary of the user's tasks, and provides quick access to the Needs and Wants pages.
  * </p>
  *
  * <h3>Responsibilities:</h3>
  * <ul>
  *   <li>Display the user’s total balance.</li>
- *   <li>List recent activity (currently placeholder text).</li>
+ *   <li>Summarize outstanding Needs, completed Wants, and the next due item.</li>
  *   <li>Provide quick navigation to Needs and Wants screens.</li>
  *   <li>Include bottom navigation for all app sections.</li>
  * </ul>
  */
-public class HomeUI {
+public class HomeUI implements NavigationController.Screen {
 
     // --- Instance Variables ---
     private final Profile userProfile;  // Active user profile
     private final SwingUI parentUI;     // Reference to parent Swing container
+    private final JPanel screen;        // Root panel shown by the NavigationController
+    private JLabel balanceAmount;       // Savings balance on the balance card
+    private JPanel overviewPanel;       // Summary of the user's tasks
 
     /**
      * Constructs the Home screen for a given profile.
@@ -34,17 +39,17 @@ public class HomeUI {
     public HomeUI(Profile profile, SwingUI parent) {
         this.userProfile = profile;
         this.parentUI = parent;
+        this.screen = SharedUI.createScreenPanel("Home");
         buildScreen();
     } // End of constructor HomeUI
 
     /**
-     * Builds and displays the Home screen layout.
-     * Includes total balance, recent activity, and quick access buttons.
+     * Builds the Home screen layout.
+     * Includes total balance, task overview, and quick access buttons.
      */
     private void buildScreen() {
-        // --- Base window styled like a mobile screen ---
-        JDialog dialog = SharedUI.createBaseScreen("Home", parentUI);
-        dialog.setLayout(new BorderLayout());
+        // --- Base panel styled like a mobile screen ---
+        screen.setLayout(new BorderLayout());
 
         // --- Scrollable Content Area ---
         JPanel scrollContent = new JPanel();
@@ -62,9 +67,9 @@ public class HomeUI {
         balanceLabel.setForeground(Color.WHITE);
         balanceLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
-        JLabel balanceAmount = new JLabel(
-                "$" + String.format("%.2f", userProfile.getSavingsBalance()), SwingConstants.CENTER);
-        balanceAmount.setFont(UITheme.TITLE_FONT.deriveFont(Font.BOLD, 26f));
+        balanceAmount = new JLabel(
+                Money.format(userProfile.getSavingsBalanceCents()), SwingConstants.CENTER);
+        balanceAmount.setFont(UITheme.font(UITheme.TITLE_FONT, Font.BOLD, 26f));
         balanceAmount.setForeground(Color.WHITE);
         balanceAmount.setAlignmentX(Component.CENTER_ALIGNMENT);
 
@@ -75,25 +80,14 @@ public class HomeUI {
         scrollContent.add(balanceCard);
         scrollContent.add(Box.createRigidArea(new Dimension(0, 20)));
 
-        // --- Recent Activity Panel ---
-        JPanel recentPanel = new JPanel();
-        recentPanel.setOpaque(false);
-        recentPanel.setLayout(new BoxLayout(recentPanel, BoxLayout.Y_AXIS));
-        recentPanel.setBorder(BorderFactory.createEmptyBorder(15, 20, 15, 20));
+        // --- Overview Panel (running totals kept by the profile) ---
+        overviewPanel = new JPanel();
+        overviewPanel.setOpaque(false);
+        overviewPanel.setLayout(new BoxLayout(overviewPanel, BoxLayout.Y_AXIS));
+        overviewPanel.setBorder(BorderFactory.createEmptyBorder(15, 20, 15, 20));
+        fillOverview();
 
-        JLabel recentLabel = new JLabel("Recent Activity", SwingConstants.CENTER);
-        recentLabel.setFont(UITheme.SUBTITLE_FONT);
-        recentLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        JLabel noActivity = new JLabel("(No activity yet)", SwingConstants.CENTER);
-        noActivity.setFont(UITheme.BODY_FONT);
-        noActivity.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-        recentPanel.add(recentLabel);
-        recentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-        recentPanel.add(noActivity);
-
-        scrollContent.add(recentPanel);
+        scrollContent.add(overviewPanel);
 
         // --- Scroll Pane Wrapper ---
         JScrollPane scrollPane = new JScrollPane(scrollContent);
@@ -101,35 +95,31 @@ public class HomeUI {
         scrollPane.getViewport().setOpaque(false);
         scrollPane.setBorder(null);
         scrollPane.getVerticalScrollBar().setUnitIncrement(16);
-        dialog.add(scrollPane, BorderLayout.CENTER);
+        screen.add(scrollPane, BorderLayout.CENTER);
 
         // --- Quick Access Button Bar (Needs / Wants) ---
         JPanel quickAccessOuter = new JPanel(new FlowLayout(FlowLayout.CENTER, 0, 8));
         quickAccessOuter.setOpaque(false);
         quickAccessOuter.setBorder(BorderFactory.createEmptyBorder(0, 20, 8, 20));
 
-        Color lightGreen = new Color(102, 187, 106);
+        Color lightGreen = UITheme.PRIMARY_LIGHT;
         Dimension bigButtonSize = new Dimension(150, 48);
 
         // Needs button
         JButton needsButton = SharedUI.createRoundedButton("🛒 Needs", lightGreen, Color.WHITE);
-        needsButton.setFont(UITheme.BODY_FONT.deriveFont(Font.BOLD, 16f));
+        needsButton.setFont(UITheme.bodyFont(Font.BOLD, 16f));
         needsButton.setPreferredSize(bigButtonSize);
-        needsButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        needsButton.addActionListener(e -> {
-            dialog.dispose();
-            new NeedsUI(userProfile, parentUI);
-        });
+        needsButton.setCursor(UITheme.HAND_CURSOR);
+        needsButton.addActionListener(e ->
+                parentUI.getNavigation().show(NavigationController.Destination.NEEDS));
 
         // Wants button
         JButton wantsButton = SharedUI.createRoundedButton("🎯 Wants", lightGreen, Color.WHITE);
-        wantsButton.setFont(UITheme.BODY_FONT.deriveFont(Font.BOLD, 16f));
+        wantsButton.setFont(UITheme.bodyFont(Font.BOLD, 16f));
         wantsButton.setPreferredSize(bigButtonSize);
-        wantsButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        wantsButton.addActionListener(e -> {
-            dialog.dispose();
-            new WantsUI(userProfile, parentUI);
-        });
+        wantsButton.setCursor(UITheme.HAND_CURSOR);
+        wantsButton.addActionListener(e ->
+                parentUI.getNavigation().show(NavigationController.Destination.WANTS));
 
         // Keep buttons side by side
         JPanel quickAccessGrid = new JPanel(new GridLayout(1, 2, 16, 0));
@@ -145,19 +135,74 @@ public class HomeUI {
         lowerWrap.add(quickAccessOuter, BorderLayout.NORTH);
 
         // --- Bottom Navigation Bar ---
-        JPanel navBar = SharedUI.createBottomSection(
-                dialog,
-                null,
-                new Runnable[]{
-                        () -> new HomeUI(userProfile, parentUI),
-                        () -> new TasksUI(userProfile, parentUI),
-                        () -> new PlanUI(userProfile, parentUI),
-                        () -> parentUI.showSettingsMenu()
-                }
-        );
+        JPanel navBar = SharedUI.createBottomSection(parentUI, null);
         lowerWrap.add(navBar, BorderLayout.SOUTH);
 
-        dialog.add(lowerWrap, BorderLayout.SOUTH);
-        dialog.setVisible(true);
+        screen.add(lowerWrap, BorderLayout.SOUTH);
     } // End of method buildScreen
+
+    /**
+     * Fills the overview panel with the profile's current task totals.
+     */
+    private void fillOverview() {
+        overviewPanel.removeAll();
+
+        JLabel recentLabel = new JLabel("Overview", SwingConstants.CENTER);
+        recentLabel.setFont(UITheme.SUBTITLE_FONT);
+        recentLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+
+        overviewPanel.add(recentLabel);
+        overviewPanel.add(Box.createRigidArea(new Dimension(0, 10)));
+
+        if (userProfile.getNeedColumns().size() == 0 && userProfile.getWantColumns().size() == 0) {
+            overviewPanel.add(createOverviewLine("(No activity yet)"));
+        } else {
+            overviewPanel.add(createOverviewLine("Needs outstanding: "
+                    + Money.format(userProfile.getOutstandingNeedsCents())
+                    + " (" + userProfile.getOpenNeedsCount() + " open)"));
+            overviewPanel.add(createOverviewLine("Wants completed: "
+                    + Money.format(userProfile.getCompletedWantsCents())
+                    + " of " + Money.format(userProfile.getCompletedWantsCents()
+                    + userProfile.getOutstandingWantsCents())));
+
+            TaskItem nextDue = userProfile.getNextDueItem();
+            overviewPanel.add(createOverviewLine(nextDue == null
+                    ? "Nothing due"
+                    : "Next due: " + nextDue.getDescription() + " on " + nextDue.getDueDate()));
+        }
+    } // End of method fillOverview
+
+    /**
+     * Creates one centered line of the overview panel.
+     *
+     * @param text the text to show
+     * @return the styled label
+     */
+    private JLabel createOverviewLine(String text) {
+        JLabel line = new JLabel(text, SwingConstants.CENTER);
+        line.setFont(UITheme.BODY_FONT);
+        line.setAlignmentX(Component.CENTER_ALIGNMENT);
+        line.setBorder(BorderFactory.createEmptyBorder(2, 0, 2, 0));
+        return line;
+    } // End of method createOverviewLine
+
+
+    // -------------------------------------------------------------------------
+    // NAVIGATION
+    // -------------------------------------------------------------------------
+
+    /** @return the root panel of this screen */
+    @Override
+    public JComponent getComponent() {
+        return screen;
+    } // End of method getComponent
+
+    /** Updates the balance and overview after the profile changed. */
+    @Override
+    public void refresh() {
+        balanceAmount.setText(Money.format(userProfile.getSavingsBalanceCents()));
+        fillOverview();
+        overviewPanel.revalidate();
+        overviewPanel.repaint();
+    } // End of method refresh
 } // End of class HomeUI
\ No newline at end of file
@@ -0,0 +1,233 @@
+package econome.ui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.EnumMap;
+import java.util.Map;
+import econome.model.Profile;
+
+/**
+ * Switches between the main screens of the EconoMe application inside a
+ * single window.
+ * <p>
+ * Each screen is built the first time it is visited and then kept alive as
+ * a card of one modal dialog, so moving between Home, Tasks, Plan, Needs,
+ * and Wants only swaps the visible card. A cached screen is refreshed when
+ * it is shown again only if the profile's revision has changed since it
+ * last displayed it.
+ * </p>
+ * <p>
+ * Every navigation is timed from the request until the new screen has been
+ * painted. The last timing is available from {@link #getLastNavigationNanos()}
+ * and is printed when the {@code econome.ui.timing} system property is set.
+ * </p>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Own the window that hosts the main screens.</li>
+ *   <li>Build screens on first use and keep them for later visits.</li>
+ *   <li>Refresh a cached screen only when the profile has changed.</li>
+ *   <li>Measure how long each navigation takes.</li>
+ * </ul>
+ */
+public class NavigationController {
+
+    /** Whether each navigation's timing is printed ({@code econome.ui.timing}). */
+    private static final boolean PRINT_TIMING = Boolean.getBoolean("econome.ui.timing");
+
+    /** The screens reachable through the controller. */
+    public enum Destination {
+        HOME("Home"),
+        TASKS("Tasks"),
+        PLAN("Plan"),
+        NEEDS("Your Needs"),
+        WANTS("Your Wants");
+
+        private final String title;
+
+        Destination(String title) {
+            this.title = title;
+        }
+
+        /** @return the window title shown with this screen */
+        public String getTitle() {
+            return title;
+        }
+    } // End of enum Destination
+
+    /** A screen that stays alive between visits. */
+    interface Screen {
+
+        /** @return the root component of the screen */
+        JComponent getComponent();
+
+        /** Updates the already built components from the profile. */
+        void refresh();
+    } // End of interface Screen
+
+    /** A built screen and the profile revision it currently displays. */
+    private static final class CachedScreen {
+        final Screen screen;
+        long revision;
+
+        CachedScreen(Screen screen, long revision) {
+            this.screen = screen;
+            this.revision = revision;
+        }
+    } // End of class CachedScreen
+
+    /** The panel holding the screens as cards; runs a one-shot action after it paints. */
+    private static final class CardPanel extends JPanel {
+        private static final long serialVersionUID = 1L;
+
+        private transient Runnable afterPaint;
+
+        CardPanel(CardLayout layout) {
+            super(layout);
+        }
+
+        /** Runs {@code action} once, right after the next time this panel is painted. */
+        void runAfterNextPaint(Runnable action) {
+            afterPaint = action;
+            repaint();
+        }
+
+        @Override
+        public void paint(Graphics g) {
+            super.paint(g);
+            Runnable action = afterPaint;
+            afterPaint = null;
+            if (action != null) {
+                action.run();
+            }
+        }
+    } // End of class CardPanel
+
+
+    // --- References ---
+    private final SwingUI parent;
+    private final Profile profile;
+    private final Map<Destination, CachedScreen> screens = new EnumMap<>(Destination.class);
+
+    // --- Window ---
+    private JDialog window;   // Created with the first navigation
+    private CardPanel cards;
+    private CardLayout cardLayout;
+    private Destination current;
+
+    // --- Statistics ---
+    private long lastNavigationNanos;
+
+
+    /**
+     * Creates a controller for the screens of one profile.
+     *
+     * @param profile the profile the screens display
+     * @param parent  the main SwingUI controller, used as the window owner
+     */
+    public NavigationController(Profile profile, SwingUI parent) {
+        this.profile = profile;
+        this.parent = parent;
+    } // End of constructor NavigationController
+
+
+    // -------------------------------------------------------------------------
+    // NAVIGATION
+    // -------------------------------------------------------------------------
+
+    /**
+     * Shows a screen, building it on the first visit and refreshing it only
+     * if the profile changed since it was last shown. If the window is not
+     * yet visible, this opens it and returns once the user closes it.
+     *
+     * @param destination the screen to show
+     */
+    public void show(Destination destination) {
+        long start = System.nanoTime();
+        if (window == null) {
+            createWindow();
+        }
+
+        // --- Build, refresh, or reuse the screen ---
+        String outcome;
+        long revision = profile.getRevision();
+        CachedScreen cached = screens.get(destination);
+        if (cached == null) {
+            cached = new CachedScreen(createScreen(destination), revision);
+            screens.put(destination, cached);
+            cards.add(cached.screen.getComponent(), destination.name());
+            outcome = "built";
+        } else if (cached.revision != revision) {
+            cached.screen.refresh();
+            cached.revision = profile.getRevision();
+            outcome = "refreshed";
+        } else {
+            outcome = "cached";
+        }
+
+        // Screens update themselves after their own actions, so the one being
+        // left is current with every change made while it was shown
+        Destination previous = current;
+        if (previous != null && previous != destination) {
+            screens.get(previous).revision = profile.getRevision();
+        }
+        current = destination;
+        window.setTitle(destination.getTitle());
+        cardLayout.show(cards, destination.name());
+
+        // --- Timing: stops once the card panel has painted the new screen ---
+        cards.runAfterNextPaint(() -> {
+            lastNavigationNanos = System.nanoTime() - start;
+            if (PRINT_TIMING) {
+                System.out.printf("[NavigationController] %s -> %s: %.3f ms (%s)%n",
+                        previous, destination, lastNavigationNanos / 1_000_000.0, outcome);
+            }
+        });
+
+        if (!window.isVisible()) {
+            window.setVisible(true); // Modal: returns when the window is closed
+        }
+    } // End of method show
+
+    /** @return the screen currently shown, or {@code null} before the first navigation */
+    public Destination getCurrent() {
+        return current;
+    } // End of method getCurrent
+
+    /** @return how long the last navigation took until its screen was painted, in nanoseconds */
+    public long getLastNavigationNanos() {
+        return lastNavigationNanos;
+    } // End of method getLastNavigationNanos
+
+    /** @return the window hosting the screens, or {@code null} before the first navigation */
+    public JDialog getWindow() {
+        return window;
+    } // End of method getWindow
+
+
+    // -------------------------------------------------------------------------
+    // SCREEN CREATION
+    // -------------------------------------------------------------------------
+
+    /** Creates the window and the card panel holding the screens. */
+    private void createWindow() {
+        window = SharedUI.createBaseScreen(Destination.HOME.getTitle(), parent);
+        window.setLayout(new BorderLayout());
+
+        cardLayout = new CardLayout();
+        cards = new CardPanel(cardLayout);
+        cards.setOpaque(false);
+        window.add(cards, BorderLayout.CENTER);
+    } // End of method createWindow
+
+    /** Builds the screen for a destination. */
+    private Screen createScreen(Destination destination) {
+        return switch (destination) {
+            case HOME -> new HomeUI(profile, parent);
+            case TASKS -> new TasksUI(profile, parent);
+            case PLAN -> new PlanUI(profile, parent);
+            case NEEDS -> new NeedsUI(profile, parent);
+            case WANTS -> new WantsUI(profile, parent);
+        };
+    } // End of method createScreen
+} // End of class NavigationController
@@ -8,22 +8,36 @@ import econome.model.Profile;
  * Represents the "Plan" screen in the EconoMe application.
  * <p>
  * Displays the user's allocation plan as a donut chart and progress indicators
- * for Needs, Wants, and Savings. Provides a button for managing allocations
- * and integrates into the app’s shared navigation structure.
+ * for Needs and Wants. Progress is read from the profile's running totals:
+ * each bar shows the share of that list's cost already completed. Provides
+ * a button for managing allocations and integrates into the app’s shared
+ * navigation structure. When the profile changes, the chart animates to the
+ * new allocations.
  * </p>
  *
  * <h3>Responsibilities:</h3>
  * <ul>
- *   <li>Visualize allocations via a donut chart and progress bars.</li>
+ *   <li>Visualize allocations via a donut chart.</li>
+ *   <li>Show how much of the Needs and Wants is completed via progress bars.</li>
  *   <li>Display allocation percentages for Needs, Wants, and Savings.</li>
  *   <li>Provide a navigation button for adjusting allocations.</li>
  * </ul>
  */
-public class PlanUI {
+public class PlanUI implements NavigationController.Screen {
 
     // --- Instance Variables ---
     private final Profile userProfile; // Active user profile
     private final SwingUI parentUI;    // Reference to parent application window
+    private final JPanel screen;       // Root panel shown by the NavigationController
+
+    // --- Components updated by refresh() ---
+    private DonutChartPanel donutChart;
+    private final JLabel[] legendLabels = new JLabel[3];
+    private final JProgressBar[] progressBars = new JProgressBar[2];
+
+    // --- Constants ---
+    private static final String[] LABELS = {"Needs", "Wants", "Savings"};
+    private static final Font LEGEND_SWATCH_FONT = new Font("Segoe UI", Font.BOLD, 16);
 
     /**
      * Constructs the Plan screen for the given user profile.
@@ -34,17 +48,15 @@ public class PlanUI {
     public PlanUI(Profile profile, SwingUI parent) {
         this.userProfile = profile;
         this.parentUI = parent;
+        this.screen = SharedUI.createScreenPanel("Plan");
         buildScreen();
     } // End of constructor PlanUI
 
     /**
-     * Builds and displays the full Plan screen layout.
+     * Builds the full Plan screen layout.
      * Includes the allocation donut chart, percentage breakdown, and navigation bar.
      */
     private void buildScreen() {
-        // --- Base Window Setup ---
-        JDialog dialog = SharedUI.createBaseScreen("Plan", parentUI);
-
         // --- Scrollable Content Wrapper ---
         JPanel contentPanel = new JPanel();
         contentPanel.setOpaque(false);
@@ -52,21 +64,15 @@ public class PlanUI {
         contentPanel.setBorder(BorderFactory.createEmptyBorder(16, 16, 16, 16));
 
         // --- Donut Chart Section ---
-        double[] allocations = {
-                userProfile.getNeedsAllocation() / 100.0,
-                userProfile.getWantsAllocation() / 100.0,
-                userProfile.getSavingsAllocation() / 100.0
-        };
-        double[] progress = {0.68, 0.40, 0.90}; // Placeholder progress (visual only)
+        double[] allocations = currentAllocations();
+        double[] progress = currentProgress();
 
         Color[] colors = {
-                new Color(56, 142, 60),   // Needs
-                new Color(102, 187, 106), // Wants
-                new Color(165, 214, 167)  // Savings
+                UITheme.NEEDS_GREEN,   // Needs
+                UITheme.PRIMARY_LIGHT, // Wants
+                UITheme.ACCENT  // Savings
         };
-        String[] labels = {"Needs", "Wants", "Savings"};
-
-        DonutChartPanel donutChart = new DonutChartPanel(allocations, progress, colors, labels);
+        donutChart = new DonutChartPanel(allocations, progress, colors, LABELS);
         donutChart.setBackground(UITheme.BACKGROUND);
         donutChart.setPreferredSize(new Dimension(280, 280));
 
@@ -81,16 +87,17 @@ public class PlanUI {
         legendPanel.setOpaque(false);
         legendPanel.setBorder(BorderFactory.createEmptyBorder(0, 20, 20, 20));
 
-        for (int i = 0; i < labels.length; i++) {
+        for (int i = 0; i < LABELS.length; i++) {
             JPanel legendItem = new JPanel(new FlowLayout(FlowLayout.LEFT));
             legendItem.setOpaque(false);
 
             JLabel colorBox = new JLabel("■");
             colorBox.setForeground(colors[i]);
-            colorBox.setFont(new Font("Segoe UI", Font.BOLD, 16));
+            colorBox.setFont(LEGEND_SWATCH_FONT);
 
-            JLabel label = new JLabel(labels[i] + ": " + (int) (allocations[i] * 100) + "% allocated");
+            JLabel label = new JLabel(legendText(i, allocations));
             label.setFont(UITheme.BODY_FONT);
+            legendLabels[i] = label;
 
             legendItem.add(colorBox);
             legendItem.add(label);
@@ -98,18 +105,18 @@ public class PlanUI {
         }
         contentPanel.add(legendPanel);
 
-        // --- Progress Bars Section ---
-        contentPanel.add(createProgressRow("Needs", (int) Math.round(userProfile.getNeedsAllocation())));
+        // --- Progress Bars Section (share of each list's cost already completed) ---
+        contentPanel.add(createProgressRow(0, (int) Math.round(progress[0] * 100)));
         contentPanel.add(Box.createRigidArea(new Dimension(0, 10)));
-        contentPanel.add(createProgressRow("Wants", (int) Math.round(userProfile.getWantsAllocation())));
+        contentPanel.add(createProgressRow(1, (int) Math.round(progress[1] * 100)));
 
         // --- Manage Allocations Button ---
         JButton manageButton = SharedUI.createRoundedButton(
                 "⚙️ Manage Allocations",
-                new Color(102, 187, 106),
+                UITheme.PRIMARY_LIGHT,
                 Color.WHITE
         );
-        manageButton.setFont(UITheme.BODY_FONT.deriveFont(Font.BOLD, 14f));
+        manageButton.setFont(UITheme.bodyFont(Font.BOLD, 14f));
         manageButton.setAlignmentX(Component.CENTER_ALIGNMENT);
         manageButton.setPreferredSize(new Dimension(200, 45));
         manageButton.addActionListener(e -> parentUI.showSettingsMenu());
@@ -128,32 +135,57 @@ public class PlanUI {
         scrollPane.setVerticalScrollBarPolicy(ScrollPaneConstants.VERTICAL_SCROLLBAR_AS_NEEDED);
         scrollPane.setHorizontalScrollBarPolicy(ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
         scrollPane.getVerticalScrollBar().setUnitIncrement(16);
-        dialog.add(scrollPane, BorderLayout.CENTER);
+        screen.add(scrollPane, BorderLayout.CENTER);
 
         // --- Bottom Navigation Bar ---
-        JPanel bottomBar = SharedUI.createBottomSection(
-                dialog,
-                null,
-                new Runnable[]{
-                        () -> new HomeUI(userProfile, parentUI),
-                        () -> new TasksUI(userProfile, parentUI),
-                        () -> new PlanUI(userProfile, parentUI),
-                        () -> parentUI.showSettingsMenu()
-                }
-        );
-        dialog.add(bottomBar, BorderLayout.SOUTH);
-
-        dialog.setVisible(true);
+        JPanel bottomBar = SharedUI.createBottomSection(parentUI, null);
+        screen.add(bottomBar, BorderLayout.SOUTH);
     } // End of method buildScreen
 
+    /** @return the Needs, Wants, and Savings allocations as fractions */
+    private double[] currentAllocations() {
+        return new double[]{
+                userProfile.getNeedsAllocation() / 100.0,
+                userProfile.getWantsAllocation() / 100.0,
+                userProfile.getSavingsAllocation() / 100.0
+        };
+    } // End of method currentAllocations
+
+    /** @return the completed share of Needs and of Wants, by cost */
+    private double[] currentProgress() {
+        return new double[]{
+                completedShare(userProfile.getCompletedNeedsCents(), userProfile.getOutstandingNeedsCents()),
+                completedShare(userProfile.getCompletedWantsCents(), userProfile.getOutstandingWantsCents())
+        };
+    } // End of method currentProgress
+
+    /** @return the legend text for one segment, e.g. "Needs: 50% allocated" */
+    private static String legendText(int index, double[] allocations) {
+        return LABELS[index] + ": " + (int) (allocations[index] * 100) + "% allocated";
+    } // End of method legendText
+
+    /**
+     * Calculates how much of a list's cost has been completed, for the
+     * progress bars.
+     *
+     * @param doneCents      the part already completed
+     * @param remainingCents the part still open (negative values count as zero)
+     * @return a fraction between 0 and 1; 0 when there is nothing to track
+     */
+    private static double completedShare(long doneCents, long remainingCents) {
+        long total = doneCents + Math.max(0L, remainingCents);
+        return total <= 0 ? 0.0 : Math.min(1.0, (double) doneCents / total);
+    } // End of method completedShare
+
     /**
-     * Creates a labeled row with a progress bar representing allocation percentage.
+     * Creates a labeled row with a progress bar showing the completed percentage.
      *
-     * @param label   the label for the row (e.g., "Needs", "Wants")
+     * @param index   the segment the row shows (0 = Needs, 1 = Wants)
      * @param percent the percentage value (0–100)
      * @return a {@link JPanel} representing the labeled progress row
      */
-    private JPanel createProgressRow(String label, int percent) {
+    private JPanel createProgressRow(int index, int percent) {
+        String label = LABELS[index];
         JPanel row = new JPanel(new BorderLayout(8, 0));
         row.setOpaque(false);
 
@@ -163,18 +195,18 @@ public class PlanUI {
         // Choose progress bar color based on label
         Color fillColor;
         switch (label.toLowerCase()) {
-            case "needs" -> fillColor = new Color(56, 142, 60);
-            case "wants" -> fillColor = new Color(102, 187, 106);
-            default -> fillColor = new Color(165, 214, 167);
+            case "needs" -> fillColor = UITheme.NEEDS_GREEN;
+            case "wants" -> fillColor = UITheme.PRIMARY_LIGHT;
+            default -> fillColor = UITheme.ACCENT;
         }
 
         // Progress bar setup
         JProgressBar progressBar = new JProgressBar(0, 100);
-        progressBar.setValue(Math.max(0, Math.min(100, percent)));
+        setCompleted(progressBar, percent);
         progressBar.setStringPainted(true);
-        progressBar.setFont(UITheme.BODY_FONT.deriveFont(Font.BOLD, 13f));
+        progressBar.setFont(UITheme.bodyFont(Font.BOLD, 13f));
         progressBar.setForeground(fillColor);
-        progressBar.setBackground(new Color(220, 225, 220));
+        progressBar.setBackground(UITheme.TRACK);
         progressBar.setPreferredSize(new Dimension(250, 22));
         progressBar.setBorder(BorderFactory.createEmptyBorder(4, 6, 4, 6));
 
@@ -182,17 +214,51 @@ public class PlanUI {
         progressBar.setUI(new javax.swing.plaf.basic.BasicProgressBarUI() {
             @Override
             protected Color getSelectionForeground() {
-                return new Color(40, 40, 40);
+                return UITheme.TEXT_DARK;
             }
 
             @Override
             protected Color getSelectionBackground() {
-                return new Color(40, 40, 40);
+                return UITheme.TEXT_DARK;
             }
         });
 
+        progressBars[index] = progressBar;
         row.add(nameLabel, BorderLayout.WEST);
         row.add(progressBar, BorderLayout.CENTER);
         return row;
     } // End of method createProgressRow
+
+    /** Shows a completed percentage on a progress bar, e.g. "40% completed". */
+    private static void setCompleted(JProgressBar progressBar, int percent) {
+        int clamped = Math.max(0, Math.min(100, percent));
+        progressBar.setValue(clamped);
+        progressBar.setString(clamped + "% completed");
+    } // End of method setCompleted
+
+
+    // -------------------------------------------------------------------------
+    // NAVIGATION
+    // -------------------------------------------------------------------------
+
+    /** @return the root panel of this screen */
+    @Override
+    public JComponent getComponent() {
+        return screen;
+    } // End of method getComponent
+
+    /** Animates the chart to the current allocations and updates the legend and progress bars. */
+    @Override
+    public void refresh() {
+        double[] allocations = currentAllocations();
+        double[] progress = currentProgress();
+
+        donutChart.setAllocations(allocations);
+        for (int i = 0; i < legendLabels.length; i++) {
+            legendLabels[i].setText(legendText(i, allocations));
+        }
+        for (int i = 0; i < progressBars.length; i++) {
+            setCompleted(progressBars[i], (int) Math.round(progress[i] * 100));
+        }
+    } // End of method refresh
 } // End of class PlanUI
\ No newline at end of file
@@ -2,13 +2,23 @@ package econome.ui;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import econome.logic.AutosaveScheduler;
+import econome.logic.PersistenceService;
 
 /**
  * Provides shared UI components and helper methods for consistent
  * styling across the EconoMe application.
  * <p>
  * This includes reusable widgets such as rounded panels, styled buttons,
- * and navigation bars used across all screens.
+ * and navigation bars used across all screens. Rounded backgrounds are
+ * rendered once per size and color and then copied, and all rounded
+ * buttons share one painter.
  * </p>
  *
  * <h3>Responsibilities:</h3>
@@ -20,6 +30,91 @@ import java.awt.*;
  */
 public class SharedUI {
 
+    // -------------------------------------------------------------------------
+    // PRE-RENDERED BACKGROUNDS
+    // -------------------------------------------------------------------------
+
+    /** Shapes painted by the rounded panels, buttons, and cards. */
+    private enum Background { PANEL, BUTTON, CARD }
+
+    /** Identifies one rendered background image. */
+    private record BackgroundKey(Background kind, int width, int height, int argb, int radius,
+                                 int pixelWidth, int pixelHeight) {}
+
+    /** Most backgrounds that are kept; a screen uses a handful of sizes and colors. */
+    private static final int MAX_CACHED_BACKGROUNDS = 128;
+
+    /**
+     * Rendered backgrounds, least recently used first. Only touched while
+     * painting, so it is confined to the Event Dispatch Thread.
+     */
+    private static final Map<BackgroundKey, BufferedImage> BACKGROUNDS =
+            new LinkedHashMap<>(32, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<BackgroundKey, BufferedImage> eldest) {
+                    return size() > MAX_CACHED_BACKGROUNDS;
+                }
+            };
+
+    /**
+     * Paints a rounded background from an image rendered once per shape,
+     * size, color, and display scale, instead of filling antialiased shapes
+     * on every repaint.
+     */
+    private static void paintBackground(Graphics g, Background kind, int width, int height,
+                                        Color color, int radius) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        AffineTransform transform = ((Graphics2D) g).getTransform();
+        int pixelWidth = (int) Math.ceil(width * Math.abs(transform.getScaleX()));
+        int pixelHeight = (int) Math.ceil(height * Math.abs(transform.getScaleY()));
+        BackgroundKey key = new BackgroundKey(kind, width, height, color.getRGB(), radius,
+                pixelWidth, pixelHeight);
+        BufferedImage image = BACKGROUNDS.computeIfAbsent(key, SharedUI::renderBackground);
+        g.drawImage(image, 0, 0, width, height, null);
+    } // End of method paintBackground
+
+    /** Renders one background image at device resolution. */
+    private static BufferedImage renderBackground(BackgroundKey key) {
+        BufferedImage image = new BufferedImage(Math.max(1, key.pixelWidth()), Math.max(1, key.pixelHeight()),
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.scale((double) key.pixelWidth() / key.width(), (double) key.pixelHeight() / key.height());
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        int w = key.width();
+        int h = key.height();
+        Color color = new Color(key.argb(), true);
+        switch (key.kind()) {
+            case PANEL -> {
+                g2.setColor(color);
+                g2.fillRoundRect(0, 0, w, h, key.radius(), key.radius());
+            }
+            case BUTTON -> {
+                // Background fill
+                g2.setColor(color);
+                g2.fillRoundRect(0, 0, w, h, key.radius(), key.radius());
+
+                // Soft shadow outline
+                g2.setColor(UITheme.BUTTON_OUTLINE);
+                g2.drawRoundRect(0, 0, w - 1, h - 1, key.radius(), key.radius());
+            }
+            case CARD -> {
+                // Drop shadow
+                g2.setColor(UITheme.CARD_SHADOW);
+                g2.fillRoundRect(3, 3, w - 6, h - 3, key.radius(), key.radius());
+
+                // Card body
+                g2.setColor(color);
+                g2.fillRoundRect(0, 0, w - 6, h - 6, key.radius(), key.radius());
+            }
+        }
+        g2.dispose();
+        return image;
+    } // End of method renderBackground
+
+
     // -------------------------------------------------------------------------
     // ROUNDED PANELS
     // -------------------------------------------------------------------------
@@ -36,10 +131,7 @@ public class SharedUI {
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g;
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                g2.setColor(color);
-                g2.fillRoundRect(0, 0, getWidth(), getHeight(), radius, radius);
+                paintBackground(g, Background.PANEL, getWidth(), getHeight(), color, radius);
             }
         };
         panel.setOpaque(false);
@@ -51,10 +143,47 @@ public class SharedUI {
     // ROUNDED BUTTONS
     // -------------------------------------------------------------------------
 
+    /** Corner radius of rounded buttons. */
+    private static final int BUTTON_RADIUS = 30;
+
+    /**
+     * Paints a button as a rounded rectangle in its background color with
+     * centered text in its foreground color. It keeps no per-button state, so
+     * every rounded button shares {@link #ROUNDED_BUTTON_UI}.
+     */
+    private static final class RoundedButtonUI extends javax.swing.plaf.basic.BasicButtonUI {
+        @Override
+        public void paint(Graphics g, JComponent c) {
+            AbstractButton button = (AbstractButton) c;
+            int width = c.getWidth();
+            int height = c.getHeight();
+
+            // Background fill and outline
+            paintBackground(g, Background.BUTTON, width, height, c.getBackground(), BUTTON_RADIUS);
+
+            // Centered text
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            FontMetrics fm = g2.getFontMetrics(c.getFont());
+            int textWidth = fm.stringWidth(button.getText());
+            int textHeight = fm.getAscent();
+            int x = (width - textWidth) / 2;
+            int y = (height + textHeight) / 2 - 3;
+
+            g2.setFont(c.getFont());
+            g2.setColor(c.getForeground());
+            g2.drawString(button.getText(), x, y);
+            g2.dispose();
+        }
+    } // End of class RoundedButtonUI
+
+    private static final RoundedButtonUI ROUNDED_BUTTON_UI = new RoundedButtonUI();
+
     /**
      * Creates a rounded button with smooth edges and custom colors.
      * <p>
      * Commonly used for main UI actions such as "Add Need" or "Mark Complete".
+     * All rounded buttons share one painter and cached background images.
      * </p>
      *
      * @param text the button label
@@ -67,43 +196,15 @@ public class SharedUI {
         button.setFocusPainted(false);
         button.setBackground(bg);
         button.setForeground(fg);
-        button.setFont(UITheme.BODY_FONT.deriveFont(Font.BOLD, 15f));
-        button.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        button.setFont(UITheme.bodyFont(Font.BOLD, 15f));
+        button.setCursor(UITheme.HAND_CURSOR);
         button.setContentAreaFilled(false);
         button.setOpaque(false);
         button.setPreferredSize(new Dimension(140, 48));
         button.setBorder(BorderFactory.createEmptyBorder(10, 18, 10, 18));
 
         // Custom rounded paint
-        button.setUI(new javax.swing.plaf.basic.BasicButtonUI() {
-            @Override
-            public void paint(Graphics g, JComponent c) {
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                int width = c.getWidth();
-                int height = c.getHeight();
-
-                // Background fill
-                g2.setColor(bg);
-                g2.fillRoundRect(0, 0, width, height, 30, 30);
-
-                // Soft shadow outline
-                g2.setColor(new Color(0, 0, 0, 25));
-                g2.drawRoundRect(0, 0, width - 1, height - 1, 30, 30);
-
-                // Centered text
-                FontMetrics fm = g2.getFontMetrics();
-                int textWidth = fm.stringWidth(button.getText());
-                int textHeight = fm.getAscent();
-                int x = (width - textWidth) / 2;
-                int y = (height + textHeight) / 2 - 3;
-
-                g2.setColor(fg);
-                g2.drawString(button.getText(), x, y);
-                g2.dispose();
-            }
-        });
+        button.setUI(ROUNDED_BUTTON_UI);
 
         return button;
     } // End of method createRoundedButton
@@ -124,21 +225,7 @@ public class SharedUI {
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g.create();
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                int w = getWidth();
-                int h = getHeight();
-
-                // Drop shadow
-                g2.setColor(new Color(0, 0, 0, 35));
-                g2.fillRoundRect(3, 3, w - 6, h - 3, 20, 20);
-
-                // Card body
-                g2.setColor(UITheme.CARD_BACKGROUND);
-                g2.fillRoundRect(0, 0, w - 6, h - 6, 20, 20);
-
-                g2.dispose();
+                paintBackground(g, Background.CARD, getWidth(), getHeight(), UITheme.CARD_BACKGROUND, 20);
             }
         };
 
@@ -164,24 +251,25 @@ public class SharedUI {
      */
     public static JButton createNavButton(String label, String emoji) {
         JButton button = new JButton(emoji + " " + label);
-        button.setFont(UITheme.BODY_FONT.deriveFont(Font.BOLD, 13f));
+        button.setFont(UITheme.bodyFont(Font.BOLD, 13f));
         button.setBackground(UITheme.PRIMARY);
         button.setForeground(Color.WHITE);
         button.setFocusPainted(false);
         button.setBorder(BorderFactory.createEmptyBorder(10, 5, 10, 5));
-        button.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        button.setCursor(UITheme.HAND_CURSOR);
         return button;
     } // End of method createNavButton
 
 
     /**
      * Creates a standard navigation bar with four buttons (Home, Tasks, Plan, Settings).
+     * Home, Tasks, and Plan switch screens through the parent's
+     * {@link NavigationController}, which reuses screens already built.
      *
-     * @param parent  reference to the parent window
-     * @param actions an array of navigation actions
+     * @param parent the main SwingUI controller
      * @return a fully styled navigation {@link JPanel}
      */
-    public static JPanel createNavigationBar(Window parent, Runnable[] actions) {
+    public static JPanel createNavigationBar(SwingUI parent) {
         JPanel navBar = new JPanel(new GridLayout(1, 4, 8, 0));
         navBar.setBackground(UITheme.PRIMARY);
         navBar.setBorder(BorderFactory.createEmptyBorder(8, 10, 8, 10));
@@ -194,30 +282,19 @@ public class SharedUI {
             button.setFocusPainted(false);
             button.setBackground(UITheme.PRIMARY_LIGHT);
             button.setForeground(Color.WHITE);
-            button.setFont(UITheme.BODY_FONT.deriveFont(Font.BOLD, 14f));
+            button.setFont(UITheme.bodyFont(Font.BOLD, 14f));
             button.setBorder(BorderFactory.createEmptyBorder(12, 5, 12, 5));
-            button.setCursor(new Cursor(Cursor.HAND_CURSOR));
+            button.setCursor(UITheme.HAND_CURSOR);
             button.setPreferredSize(new Dimension(85, 45));
 
             int index = i;
             button.addActionListener(e -> {
-                if (parent instanceof JDialog dialog) {
-                    dialog.dispose();
-                }
-
-                Window ancestor = SwingUtilities.getWindowAncestor(parent);
-                SwingUI root = (ancestor instanceof SwingUI sw) ? sw :
-                               (parent instanceof SwingUI sw) ? sw : null;
-
-                if (root != null) {
-                    switch (index) {
-                        case 0 -> new HomeUI(root.getProfile(), root);
-                        case 1 -> new TasksUI(root.getProfile(), root);
-                        case 2 -> new PlanUI(root.getProfile(), root);
-                        case 3 -> root.showSettingsMenu();
-                    }
-                } else {
-                    System.err.println("⚠ Navigation failed — SwingUI parent not found.");
+                NavigationController navigation = parent.getNavigation();
+                switch (index) {
+                    case 0 -> navigation.show(NavigationController.Destination.HOME);
+                    case 1 -> navigation.show(NavigationController.Destination.TASKS);
+                    case 2 -> navigation.show(NavigationController.Destination.PLAN);
+                    case 3 -> parent.showSettingsMenu();
                 }
             });
 
@@ -234,8 +311,9 @@ public class SharedUI {
 
     /**
      * Creates a standard base dialog window styled for EconoMe’s mobile layout.
+     * The {@link NavigationController} shows its screens inside this window.
      *
-     * @param title  the title of the screen
+     * @param title  the title of the window
      * @param parent the parent window
      * @return a styled {@link JDialog} ready for content
      */
@@ -247,13 +325,58 @@ public class SharedUI {
         dialog.setLocationRelativeTo(parent);
         dialog.getContentPane().setBackground(UITheme.BACKGROUND);
 
+        flushOnClose(dialog);
+        return dialog;
+    } // End of method createBaseScreen
+
+
+    /**
+     * Creates the root panel of a screen, with the screen title at the top.
+     *
+     * @param title the title of the screen
+     * @return a styled {@link JPanel} ready for content
+     */
+    public static JPanel createScreenPanel(String title) {
+        JPanel screen = new JPanel(new BorderLayout(10, 10));
+        screen.setBackground(UITheme.BACKGROUND);
+
         JLabel titleLabel = new JLabel(title, SwingConstants.CENTER);
         titleLabel.setFont(UITheme.TITLE_FONT);
         titleLabel.setBorder(BorderFactory.createEmptyBorder(15, 0, 10, 0));
-        dialog.add(titleLabel, BorderLayout.NORTH);
+        screen.add(titleLabel, BorderLayout.NORTH);
+        return screen;
+    } // End of method createScreenPanel
 
-        return dialog;
-    } // End of method createBaseScreen
+
+    /**
+     * Starts writing pending profile changes as soon as the user closes the
+     * window, instead of waiting for the autosave window to elapse.
+     *
+     * @param window the window to watch
+     */
+    public static void flushOnClose(Window window) {
+        window.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                AutosaveScheduler.getInstance().flushSoon();
+            }
+        });
+    } // End of method flushOnClose
+
+
+    /**
+     * Routes storage results to the Event Dispatch Thread and shows an error
+     * dialog whenever loading or saving fails in the background.
+     */
+    public static void installPersistenceFeedback() {
+        PersistenceService persistence = PersistenceService.getInstance();
+        persistence.setCallbackExecutor(SwingUtilities::invokeLater);
+        persistence.setFailureHandler(error -> JOptionPane.showMessageDialog(
+                null,
+                error.getMessage() + "\nYour recent changes may not be saved.",
+                "EconoMe — Storage Problem",
+                JOptionPane.ERROR_MESSAGE));
+    } // End of method installPersistenceFeedback
 
 
     /**
@@ -266,10 +389,10 @@ public class SharedUI {
         JButton button = new JButton(text);
         button.setBackground(UITheme.PRIMARY_LIGHT);
         button.setForeground(Color.WHITE);
-        button.setFont(UITheme.BODY_FONT.deriveFont(Font.BOLD, 16f));
+        button.setFont(UITheme.bodyFont(Font.BOLD, 16f));
         button.setFocusPainted(false);
         button.setBorder(BorderFactory.createEmptyBorder(12, 12, 12, 12));
-        button.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        button.setCursor(UITheme.HAND_CURSOR);
         return button;
     } // End of method createPrimaryButton
 
@@ -278,12 +401,11 @@ public class SharedUI {
      * Creates a reusable bottom section combining an optional main action button
      * and the persistent navigation bar.
      *
-     * @param parent      the parent window
+     * @param parent       the main SwingUI controller
      * @param actionButton an optional main action button (e.g., “Add Need”)
-     * @param navActions   an array of navigation actions for each nav button
      * @return a combined bottom section {@link JPanel}
      */
-    public static JPanel createBottomSection(Window parent, JButton actionButton, Runnable[] navActions) {
+    public static JPanel createBottomSection(SwingUI parent, JButton actionButton) {
         JPanel bottomWrapper = new JPanel(new BorderLayout());
         bottomWrapper.setOpaque(false);
 
@@ -297,7 +419,7 @@ public class SharedUI {
         }
 
         // Persistent bottom navigation bar
-        bottomWrapper.add(createNavigationBar(parent, navActions), BorderLayout.SOUTH);
+        bottomWrapper.add(createNavigationBar(parent), BorderLayout.SOUTH);
         return bottomWrapper;
     } // End of method createBottomSection
 } // End of class SharedUI
\ No newline at end of file
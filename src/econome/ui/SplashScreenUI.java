@@ -1,9 +1,11 @@
 package econome.ui;
 
-import econome.logic.ProfileManager;
+import econome.logic.PersistenceService;
 import econome.model.Profile;
 import javax.swing.*;
 import java.awt.*;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents the splash (entry) screen for the EconoMe application.
@@ -21,23 +23,26 @@ public class SplashScreenUI extends JFrame {
     private static final long serialVersionUID = 1L;
 
     // --- Instance Variables ---
-    private final ProfileManager profileManager;
+    private final transient PersistenceService persistence;
+    private JLabel loadingLabel;
     private JComboBox<Profile> profileDropdown;
     private JButton deleteButton;
 
     /**
      * Constructs and displays the splash screen for EconoMe.
-     * Initializes the UI and loads saved profiles from disk.
+     * Initializes the UI and loads saved profiles from disk in the
+     * background; the center section appears once they are read.
      */
     public SplashScreenUI() {
         super("Welcome to EconoMe");
-        profileManager = new ProfileManager();
+        SharedUI.installPersistenceFeedback();
+        persistence = PersistenceService.getInstance();
 
         setLayout(new BorderLayout());
         getContentPane().setBackground(UITheme.BACKGROUND);
 
         buildHeaderSection();
-        buildCenterSection();
+        buildLoadingSection();
         buildFooterSection();
 
         // --- Window Setup ---
@@ -46,6 +51,9 @@ public class SplashScreenUI extends JFrame {
         setLocationRelativeTo(null);
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setVisible(true);
+
+        persistence.loadProfiles().whenComplete((profiles, error) ->
+                buildCenterSection(profiles != null ? profiles : List.of()));
     } // End of constructor SplashScreenUI
 
 
@@ -74,20 +82,35 @@ public class SplashScreenUI extends JFrame {
 
 
     /**
-     * Builds the main content area of the splash screen.
+     * Shows a placeholder while saved profiles are read.
+     */
+    private void buildLoadingSection() {
+        loadingLabel = new JLabel("Loading profiles…", SwingConstants.CENTER);
+        loadingLabel.setFont(UITheme.bodyFont(Font.PLAIN, 14f));
+        add(loadingLabel, BorderLayout.CENTER);
+    } // End of method buildLoadingSection
+
+
+    /**
+     * Builds the main content area of the splash screen, replacing the
+     * loading placeholder.
      * Displays either a “Create Profile” prompt or profile selection options.
+     *
+     * @param profiles the saved profiles
      */
-    private void buildCenterSection() {
+    private void buildCenterSection(List<Profile> profiles) {
+        remove(loadingLabel);
+
         JPanel centerPanel = new JPanel();
         centerPanel.setOpaque(false);
         centerPanel.setLayout(new BoxLayout(centerPanel, BoxLayout.Y_AXIS));
         centerPanel.setBorder(BorderFactory.createEmptyBorder(20, 50, 20, 50));
 
-        if (profileManager.getProfiles().isEmpty()) {
+        if (profiles.isEmpty()) {
             // No profiles yet — only show Create Profile button
             JButton createButton = SharedUI.createRoundedButton("➕ Create Profile",
-                    new Color(102, 187, 106), Color.WHITE);
-            createButton.setFont(UITheme.BODY_FONT.deriveFont(Font.BOLD, 16f));
+                    UITheme.PRIMARY_LIGHT, Color.WHITE);
+            createButton.setFont(UITheme.bodyFont(Font.BOLD, 16f));
             createButton.setAlignmentX(Component.CENTER_ALIGNMENT);
             createButton.addActionListener(e -> createProfile());
 
@@ -103,15 +126,15 @@ public class SplashScreenUI extends JFrame {
             // Existing profiles found — show dropdown and controls
             JLabel chooseLabel = new JLabel("Select a profile:");
             chooseLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            chooseLabel.setFont(UITheme.BODY_FONT.deriveFont(Font.PLAIN, 14f));
+            chooseLabel.setFont(UITheme.bodyFont(Font.PLAIN, 14f));
             chooseLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 10, 0));
 
-            profileDropdown = new JComboBox<>(profileManager.getProfiles().toArray(new Profile[0]));
+            profileDropdown = new JComboBox<>(profiles.toArray(new Profile[0]));
             profileDropdown.setFont(UITheme.BODY_FONT);
             profileDropdown.setForeground(Color.DARK_GRAY);
             profileDropdown.setBackground(Color.WHITE);
             profileDropdown.setFocusable(false);
-            profileDropdown.setCursor(new Cursor(Cursor.HAND_CURSOR));
+            profileDropdown.setCursor(UITheme.HAND_CURSOR);
             profileDropdown.setBorder(BorderFactory.createEmptyBorder(6, 12, 6, 12));
 
             // Custom rounded dropdown style
@@ -122,7 +145,7 @@ public class SplashScreenUI extends JFrame {
                     g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
                     g2.setColor(Color.WHITE);
                     g2.fillRoundRect(bounds.x, bounds.y, bounds.width, bounds.height, 20, 20);
-                    g2.setColor(new Color(200, 200, 200));
+                    g2.setColor(UITheme.CARD_BORDER);
                     g2.drawRoundRect(bounds.x, bounds.y, bounds.width - 1, bounds.height - 1, 20, 20);
                     g2.dispose();
                 }
@@ -134,14 +157,14 @@ public class SplashScreenUI extends JFrame {
 
             // Action buttons
             JButton loadButton = SharedUI.createRoundedButton("▶ Load Profile",
-                    new Color(102, 187, 106), Color.WHITE);
+                    UITheme.PRIMARY_LIGHT, Color.WHITE);
             deleteButton = SharedUI.createRoundedButton("🗑️ Delete Profile",
-                    new Color(200, 80, 80), Color.WHITE);
+                    UITheme.DANGER, Color.WHITE);
             JButton newButton = SharedUI.createRoundedButton("➕ Create New Profile",
-                    new Color(102, 187, 106), Color.WHITE);
+                    UITheme.PRIMARY_LIGHT, Color.WHITE);
 
             for (JButton button : new JButton[]{loadButton, deleteButton, newButton}) {
-                button.setFont(UITheme.BODY_FONT.deriveFont(Font.BOLD, 16f));
+                button.setFont(UITheme.bodyFont(Font.BOLD, 16f));
                 button.setAlignmentX(Component.CENTER_ALIGNMENT);
                 button.setPreferredSize(buttonSize);
                 button.setMaximumSize(buttonSize);
@@ -168,6 +191,8 @@ public class SplashScreenUI extends JFrame {
         }
 
         add(centerPanel, BorderLayout.CENTER);
+        revalidate();
+        repaint();
     } // End of method buildCenterSection
 
 
@@ -200,7 +225,7 @@ public class SplashScreenUI extends JFrame {
         try {
             double income = Double.parseDouble(incomeStr);
             Profile newProfile = new Profile(name, income, 0.0);
-            profileManager.addProfile(newProfile);
+            persistence.addProfile(newProfile); // Written in the background
 
             JOptionPane.showMessageDialog(this, "Profile created for " + name + ".");
             refreshSplash();
@@ -229,11 +254,11 @@ public class SplashScreenUI extends JFrame {
         );
 
         if (confirm == JOptionPane.YES_OPTION) {
-            profileManager.deleteProfile(selectedProfile);
+            persistence.deleteProfile(selectedProfile); // Removed from disk in the background
             JOptionPane.showMessageDialog(this,
                     "Profile \"" + selectedProfile.getName() + "\" has been deleted.");
 
-            if (profileManager.getProfiles().isEmpty()) {
+            if (profileDropdown.getItemCount() <= 1) {
                 dispose();
                 new SplashScreenUI(); // Show Create-only screen
             } else {
@@ -253,8 +278,17 @@ public class SplashScreenUI extends JFrame {
             return;
         }
 
+        // Only headers are read at startup; read the tasks while the message is shown
+        CompletableFuture<Profile> loading = persistence.loadTasks(selectedProfile);
         JOptionPane.showMessageDialog(this, "Loading profile: " + selectedProfile.getName());
-        openDashboard(selectedProfile);
+
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        loading.whenComplete((profile, error) -> {
+            setCursor(Cursor.getDefaultCursor());
+            if (error == null) {
+                openDashboard(profile);
+            }
+        });
     } // End of method loadSelectedProfile
 
 
@@ -6,6 +6,7 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import econome.model.*;
 import econome.logic.BudgetManager;
+import econome.logic.ProfileRepository;
 import java.time.LocalDate;
 
 /**
@@ -28,6 +29,7 @@ public class SwingUI extends JFrame implements ActionListener {
     // --- Core Application References ---
     private final BudgetManager budgetManager;
     private final Profile profile;
+    private final transient NavigationController navigation; // Keeps the main screens alive
 
     // --- Buttons (not currently shown on Home, but preserved for future use) ---
     private final JButton needsButton = new JButton("Needs");
@@ -38,15 +40,22 @@ public class SwingUI extends JFrame implements ActionListener {
     /**
      * Constructs the SwingUI controller for a specific profile.
      * Automatically opens the Home screen upon creation.
+     * <p>
+     * The profile is resolved through the shared {@link ProfileRepository}
+     * so every screen works on the same instance. Screens are shown through a
+     * {@link NavigationController}, which reuses them between visits.
+     * </p>
      *
      * @param profile the user profile currently in use
      */
     public SwingUI(Profile profile) {
-        this.profile = profile;
+        this.profile = ProfileRepository.getInstance().attach(profile);
         this.budgetManager = new BudgetManager();
+        this.navigation = new NavigationController(this.profile, this);
+        SharedUI.flushOnClose(this);
 
         // Launch main Home screen immediately
-        new HomeUI(profile, this);
+        navigation.show(NavigationController.Destination.HOME);
     } // End of constructor SwingUI
 
 
@@ -64,9 +73,9 @@ public class SwingUI extends JFrame implements ActionListener {
         button.setFocusPainted(false);
         button.setBackground(bgColor);
         button.setForeground(Color.WHITE);
-        button.setFont(UITheme.BODY_FONT.deriveFont(Font.BOLD, 16f));
+        button.setFont(UITheme.bodyFont(Font.BOLD, 16f));
         button.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
-        button.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        button.setCursor(UITheme.HAND_CURSOR);
     } // End of method styleMainButton
 
 
@@ -80,6 +89,16 @@ public class SwingUI extends JFrame implements ActionListener {
     } // End of method getProfile
 
 
+    /**
+     * Returns the controller that switches between the main screens.
+     *
+     * @return the {@link NavigationController} for this window
+     */
+    public NavigationController getNavigation() {
+        return navigation;
+    } // End of method getNavigation
+
+
     // -------------------------------------------------------------------------
     // ACTION HANDLING
     // -------------------------------------------------------------------------
@@ -92,7 +111,7 @@ public class SwingUI extends JFrame implements ActionListener {
         Object source = e.getSource();
 
         if (source == needsButton) {
-            new NeedsUI(profile, this);
+            navigation.show(NavigationController.Destination.NEEDS);
         } else if (source == wantsButton) {
             JOptionPane.showMessageDialog(this, "Wants section coming soon!");
         } else if (source == savingsButton) {
@@ -292,7 +311,7 @@ public class SwingUI extends JFrame implements ActionListener {
         cancelButton.setFocusPainted(false);
 
         JButton saveButton = new JButton("Save");
-        saveButton.setFont(UITheme.BODY_FONT.deriveFont(Font.BOLD, 15f));
+        saveButton.setFont(UITheme.bodyFont(Font.BOLD, 15f));
         saveButton.setBackground(UITheme.PRIMARY);
         saveButton.setForeground(Color.WHITE);
         saveButton.setFocusPainted(false);
@@ -313,7 +332,7 @@ public class SwingUI extends JFrame implements ActionListener {
 
     /** Opens the dashboard (Home page). */
     public void showDashMenu() {
-        new HomeUI(profile, this);
+        navigation.show(NavigationController.Destination.HOME);
     } // End of method showDashMenu
 
 
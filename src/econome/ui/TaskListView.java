@@ -0,0 +1,749 @@
+package econome.ui;
+
+import econome.model.Money;
+import econome.model.Needs;
+import econome.model.TaskColumns;
+import econome.model.TaskItem;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Virtualized list of task cards shared by the Needs, Wants, and Tasks screens.
+ * <p>
+ * One reusable renderer paints every card, so no components are created per
+ * item and only the rows inside the viewport are ever painted: a list of
+ * 100,000 tasks opens and scrolls like a list of ten. Because a renderer only
+ * paints, the card buttons are hit-tested: a click is mapped to its row, the
+ * renderer is laid out for that row, and the button under the pointer (if
+ * any) triggers its action.
+ * </p>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Show Needs and Wants as styled cards with fixed-height rows.</li>
+ *   <li>Route clicks on the painted Complete and Delete buttons to callbacks.</li>
+ *   <li>Update the changed items from the profile when asked to reload.</li>
+ * </ul>
+ *
+ * @param <T> the type of task shown
+ */
+public class TaskListView<T extends TaskItem> extends JList<T> {
+    private static final long serialVersionUID = 1L;
+
+    // --- Layout Constants ---
+    private static final int CARD_HEIGHT = 85;
+    private static final int TAGGED_CARD_HEIGHT = 90;
+    private static final int CARD_WIDTH = 300;
+    private static final int CARD_GAP = 10;
+    private static final Dimension BUTTON_SIZE = new Dimension(110, 29);
+
+    // --- Colors ---
+    private static final Color NEED_TAG_COLOR = UITheme.PRIMARY_LIGHT;
+    private static final Color WANT_TAG_COLOR = new Color(66, 165, 245);
+    private static final Color DONE_COLOR = new Color(180, 180, 180);
+    private static final Color DELETE_COLOR = UITheme.DANGER;
+    private static final Color OVERDUE_COLOR = new Color(198, 40, 40);
+
+    // --- State ---
+    private final TaskListModel<T> listModel;
+    private final transient CardRenderer renderer;
+    private final transient Consumer<T> onComplete;
+    private final transient Consumer<T> onDelete;
+
+
+    // --- Constructors ---
+
+    /**
+     * Creates a list of the rows of one column set, in row order. Call
+     * {@link #reload()} to read the items.
+     *
+     * @param columns     supplies the Needs or Wants columns to show
+     * @param showTypeTag {@code true} to label each card "Need" or "Want"
+     * @param onComplete  called when a card's Complete button is clicked
+     * @param onDelete    called when a card's Delete button is clicked, or
+     *                    {@code null} to show no Delete button
+     */
+    public TaskListView(Supplier<TaskColumns<T>> columns, boolean showTypeTag,
+                        Consumer<T> onComplete, Consumer<T> onDelete) {
+        this(() -> columns.get().asList(), () -> List.of(columns.get()), item -> 0L,
+                showTypeTag, onComplete, onDelete);
+    } // End of constructor TaskListView
+
+    /**
+     * Creates a list of the rows of several column sets. Call {@link #reload()}
+     * to read the items.
+     *
+     * @param source      supplies every item to show, in display order
+     * @param columns     supplies the column sets the items come from
+     * @param rank        the display order: items are sorted by rank, then by
+     *                    their column set's position in {@code columns}, then
+     *                    by row
+     * @param showTypeTag {@code true} to label each card "Need" or "Want"
+     * @param onComplete  called when a card's Complete button is clicked
+     * @param onDelete    called when a card's Delete button is clicked, or
+     *                    {@code null} to show no Delete button
+     */
+    public TaskListView(Supplier<List<T>> source,
+                        Supplier<? extends List<? extends TaskColumns<? extends T>>> columns,
+                        ToLongFunction<? super T> rank, boolean showTypeTag,
+                        Consumer<T> onComplete, Consumer<T> onDelete) {
+        this.listModel = new TaskListModel<>(source, columns, rank);
+        this.renderer = new CardRenderer(showTypeTag, onDelete != null);
+        this.onComplete = onComplete;
+        this.onDelete = onDelete;
+
+        setModel(listModel);
+        setCellRenderer(renderer);
+        setOpaque(false);
+        setFocusable(false);
+        setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+
+        // Fixed row sizes keep layout O(1) no matter how many items there are
+        setFixedCellHeight((showTypeTag ? TAGGED_CARD_HEIGHT : CARD_HEIGHT) + CARD_GAP);
+        setFixedCellWidth(CARD_WIDTH);
+
+        MouseAdapter mouseHandler = new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                handleClick(e.getPoint());
+            }
+
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                setCursor(buttonAt(e.getPoint()) != null
+                        ? UITheme.HAND_CURSOR
+                        : Cursor.getDefaultCursor());
+            }
+        };
+        addMouseListener(mouseHandler);
+        addMouseMotionListener(mouseHandler);
+    } // End of constructor TaskListView
+
+
+    // --- Public Methods ---
+
+    /**
+     * Brings the items up to date with their columns. Only rows that were
+     * added, removed, or changed since the last reload are read, reported to
+     * the list, and repainted; if nothing changed this does no work.
+     */
+    public void reload() {
+        listModel.reload();
+    } // End of method reload
+
+    /** @return how long the last {@link #reload()} took, in nanoseconds */
+    public long getLastReloadNanos() {
+        return listModel.lastReloadNanos;
+    } // End of method getLastReloadNanos
+
+    /** @return how many rows the last {@link #reload()} reported as added, removed, or changed */
+    public int getLastChangedRows() {
+        return listModel.lastChangedRows;
+    } // End of method getLastChangedRows
+
+    /**
+     * Wraps the list in a scroll pane styled like the rest of the app.
+     *
+     * @return a scroll pane showing this list
+     */
+    public JScrollPane createScrollPane() {
+        JScrollPane scrollPane = new JScrollPane(this);
+        scrollPane.setVerticalScrollBarPolicy(ScrollPaneConstants.VERTICAL_SCROLLBAR_AS_NEEDED);
+        scrollPane.setHorizontalScrollBarPolicy(ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder());
+        scrollPane.setOpaque(false);
+        scrollPane.getViewport().setOpaque(false);
+        scrollPane.getVerticalScrollBar().setUnitIncrement(16);
+        scrollPane.getVerticalScrollBar().setPreferredSize(new Dimension(12, 0));
+        return scrollPane;
+    } // End of method createScrollPane
+
+
+    // --- Hit Testing ---
+
+    /** Runs the action of the button under {@code point}, if any. */
+    private void handleClick(Point point) {
+        JButton button = buttonAt(point);
+        if (button == null) {
+            return;
+        }
+        T item = listModel.getElementAt(locationToIndex(point));
+        if (button == renderer.completeButton) {
+            onComplete.accept(item);
+        } else if (button == renderer.deleteButton) {
+            onDelete.accept(item);
+        }
+    } // End of method handleClick
+
+    /**
+     * Finds the enabled card button under a point.
+     *
+     * @param point a point in list coordinates
+     * @return the renderer's button at that point, or {@code null}
+     */
+    private JButton buttonAt(Point point) {
+        int index = locationToIndex(point);
+        Rectangle cell = index >= 0 ? getCellBounds(index, index) : null;
+        if (cell == null || !cell.contains(point)) {
+            return null;
+        }
+
+        // Lay the renderer out exactly as it is painted for this row
+        Component card = renderer.getListCellRendererComponent(
+                this, listModel.getElementAt(index), index, false, false);
+        card.setBounds(0, 0, cell.width, cell.height);
+        layoutTree(card);
+
+        Point local = new Point(point.x - cell.x, point.y - cell.y);
+        for (JButton button : renderer.actionButtons) {
+            if (button.isVisible() && button.isEnabled() && boundsIn(button, card).contains(local)) {
+                return button;
+            }
+        }
+        return null;
+    } // End of method buttonAt
+
+    /** Lays out a component tree that is not part of a window. */
+    private static void layoutTree(Component component) {
+        if (component instanceof Container container) {
+            container.doLayout();
+            for (Component child : container.getComponents()) {
+                layoutTree(child);
+            }
+        }
+    } // End of method layoutTree
+
+    /** @return the bounds of {@code component} relative to {@code ancestor} */
+    private static Rectangle boundsIn(Component component, Component ancestor) {
+        Rectangle bounds = new Rectangle(component.getSize());
+        for (Component c = component; c != null && c != ancestor; c = c.getParent()) {
+            bounds.translate(c.getX(), c.getY());
+        }
+        return bounds;
+    } // End of method boundsIn
+
+
+    // --- List Model ---
+
+    /**
+     * Holds the shown items in display order and keeps them in step with the
+     * task columns they come from.
+     * <p>
+     * Each row is identified by its columns and stable row key, and carries
+     * the rank it is sorted by and a fingerprint of the values a card shows.
+     * A reload first compares each column set's {@link TaskColumns#revision()}
+     * with the one last seen: if none changed there is nothing to do. Otherwise
+     * it asks the columns which keys changed since and moves, inserts, removes,
+     * or repaints just those rows, so only they are read and fingerprinted.
+     * Only when the columns were replaced, or too much changed for their change
+     * log, is the source read in full and reconciled against the old snapshot.
+     * </p>
+     */
+    private static final class TaskListModel<T extends TaskItem> extends AbstractListModel<T> {
+        private static final long serialVersionUID = 1L;
+
+        /** Whether each reload's timing is printed ({@code econome.ui.timing}). */
+        private static final boolean PRINT_TIMING = Boolean.getBoolean("econome.ui.timing");
+
+        private final transient Supplier<List<T>> source;
+        private final transient Supplier<? extends List<? extends TaskColumns<? extends T>>> columns;
+        private final transient ToLongFunction<? super T> rank;
+
+        // --- Rows, in display order (sorted by rank, then id) ---
+        private transient Object[] items = new Object[0];
+        private long[] ids = new long[0];          // Columns index << 32 | row key
+        private long[] ranks = new long[0];
+        private long[] fingerprints = new long[0];
+        private int size;
+
+        // --- Columns as of the last reload ---
+        private transient Object[] seenColumns = new Object[0];
+        private long[] seenRevisions = new long[0];
+
+        // --- Statistics from the last reload ---
+        private long lastReloadNanos;
+        private int lastChangedRows;
+
+        TaskListModel(Supplier<List<T>> source, Supplier<? extends List<? extends TaskColumns<? extends T>>> columns,
+                      ToLongFunction<? super T> rank) {
+            this.source = source;
+            this.columns = columns;
+            this.rank = rank;
+        }
+
+        @Override
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T getElementAt(int index) {
+            return (T) items[index];
+        }
+
+        /** Brings the rows up to date and fires events for the rows that differ. */
+        void reload() {
+            long start = System.nanoTime();
+
+            List<? extends TaskColumns<? extends T>> current = columns.get();
+            int[][] changedKeys = changedKeys(current);
+            String mode;
+            if (changedKeys == null) {
+                lastChangedRows = rebuild(current);
+                mode = "rebuilt";
+            } else if (Arrays.stream(changedKeys).allMatch(keys -> keys.length == 0)) {
+                lastChangedRows = 0;
+                mode = "skipped";
+            } else {
+                lastChangedRows = applyChanges(current, changedKeys);
+                mode = "incremental";
+            }
+            for (int c = 0; c < current.size(); c++) {
+                seenRevisions[c] = current.get(c).revision();
+            }
+
+            lastReloadNanos = System.nanoTime() - start;
+            if (PRINT_TIMING) {
+                System.out.printf("[TaskListView] reload (%s): %d items, %d rows changed, %.3f ms%n",
+                        mode, size, lastChangedRows, lastReloadNanos / 1_000_000.0);
+            }
+        } // End of method reload
+
+        /**
+         * Asks each column set which row keys changed since the last reload.
+         *
+         * @return the changed keys per column set, or {@code null} if the rows
+         *         must be rebuilt from the source
+         */
+        private int[][] changedKeys(List<? extends TaskColumns<? extends T>> current) {
+            if (current.size() != seenColumns.length) {
+                return null;
+            }
+            int[][] changed = new int[current.size()][];
+            for (int c = 0; c < changed.length; c++) {
+                TaskColumns<? extends T> columnSet = current.get(c);
+                if (columnSet != seenColumns[c]) {
+                    return null; // Replaced, e.g. by loading the profile's tasks
+                }
+                changed[c] = columnSet.revision() == seenRevisions[c]
+                        ? new int[0]
+                        : columnSet.keysChangedSince(seenRevisions[c]);
+                if (changed[c] == null) {
+                    return null;
+                }
+            }
+            return changed;
+        } // End of method changedKeys
+
+        /**
+         * Re-reads every item from the source and reconciles the new snapshot
+         * against the old one.
+         *
+         * @return the number of rows reported as added, removed, or changed
+         */
+        private int rebuild(List<? extends TaskColumns<? extends T>> current) {
+            List<T> source = this.source.get();
+            int newSize = source.size();
+            Object[] newItems = new Object[newSize];
+            long[] newIds = new long[newSize];
+            long[] newRanks = new long[newSize];
+            long[] newFingerprints = new long[newSize];
+            for (int i = 0; i < newSize; i++) {
+                T item = source.get(i);
+                newItems[i] = item;
+                newIds[i] = idOf(current, item);
+                newRanks[i] = rank.applyAsLong(item);
+                newFingerprints[i] = fingerprint(item);
+            }
+
+            Object[] oldItems = Arrays.copyOf(items, size);
+            long[] oldFingerprints = Arrays.copyOf(fingerprints, size);
+            items = newItems;
+            ids = newIds;
+            ranks = newRanks;
+            fingerprints = newFingerprints;
+            size = newSize;
+            seenColumns = current.toArray();
+            seenRevisions = new long[seenColumns.length];
+            return reconcile(oldItems, oldFingerprints, newItems, newFingerprints);
+        } // End of method rebuild
+
+        /**
+         * Updates the rows whose keys changed: each one is removed, repainted
+         * in place, or moved to where its new rank sorts.
+         *
+         * @return the number of rows reported as added, removed, or changed
+         */
+        private int applyChanges(List<? extends TaskColumns<? extends T>> current, int[][] changedKeys) {
+            int changed = 0;
+            for (int c = 0; c < changedKeys.length; c++) {
+                TaskColumns<? extends T> columnSet = current.get(c);
+                for (int key : changedKeys[c]) {
+                    long id = ((long) c << 32) | key;
+                    T item = columnSet.itemWithKey(key);
+                    long newRank = item != null ? rank.applyAsLong(item) : 0L;
+                    int index = item != null ? indexOf(newRank, id) : -1;
+                    if (index < 0) {
+                        index = scanFor(id); // Rank changed (or row removed): look it up by id
+                    }
+
+                    if (item == null) {
+                        if (index >= 0) {
+                            removeAt(index);
+                            fireIntervalRemoved(this, index, index);
+                            changed++;
+                        }
+                        continue;
+                    }
+
+                    long print = fingerprint(item);
+                    if (index >= 0 && fitsAt(index, newRank, id)) {
+                        items[index] = item;
+                        ranks[index] = newRank;
+                        if (fingerprints[index] != print) {
+                            fingerprints[index] = print;
+                            fireContentsChanged(this, index, index);
+                            changed++;
+                        }
+                        continue;
+                    }
+                    if (index >= 0) {
+                        removeAt(index);
+                        fireIntervalRemoved(this, index, index);
+                    }
+                    int insertAt = -indexOf(newRank, id) - 1;
+                    insertAt(insertAt, item, id, newRank, print);
+                    fireIntervalAdded(this, insertAt, insertAt);
+                    changed++;
+                }
+            }
+            return changed;
+        } // End of method applyChanges
+
+        /**
+         * Binary-searches the rows by (rank, id).
+         *
+         * @return the row's index, or {@code -(insertion point) - 1} if absent
+         */
+        private int indexOf(long rank, long id) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int order = compare(ranks[mid], ids[mid], rank, id);
+                if (order < 0) {
+                    low = mid + 1;
+                } else if (order > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        } // End of method indexOf
+
+        /** @return the index of the row with {@code id}, or {@code -1} */
+        private int scanFor(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        } // End of method scanFor
+
+        /** @return whether a row ranked {@code rank} still sorts between the neighbours of {@code index} */
+        private boolean fitsAt(int index, long rank, long id) {
+            return (index == 0 || compare(ranks[index - 1], ids[index - 1], rank, id) < 0)
+                    && (index == size - 1 || compare(ranks[index + 1], ids[index + 1], rank, id) > 0);
+        } // End of method fitsAt
+
+        private static int compare(long rankA, long idA, long rankB, long idB) {
+            int order = Long.compare(rankA, rankB);
+            return order != 0 ? order : Long.compare(idA, idB);
+        } // End of method compare
+
+        private void removeAt(int index) {
+            int tail = size - index - 1;
+            System.arraycopy(items, index + 1, items, index, tail);
+            System.arraycopy(ids, index + 1, ids, index, tail);
+            System.arraycopy(ranks, index + 1, ranks, index, tail);
+            System.arraycopy(fingerprints, index + 1, fingerprints, index, tail);
+            items[--size] = null;
+        } // End of method removeAt
+
+        private void insertAt(int index, T item, long id, long rank, long print) {
+            if (size == items.length) {
+                int capacity = Math.max(16, size + (size >> 1));
+                items = Arrays.copyOf(items, capacity);
+                ids = Arrays.copyOf(ids, capacity);
+                ranks = Arrays.copyOf(ranks, capacity);
+                fingerprints = Arrays.copyOf(fingerprints, capacity);
+            }
+            int tail = size - index;
+            System.arraycopy(items, index, items, index + 1, tail);
+            System.arraycopy(ids, index, ids, index + 1, tail);
+            System.arraycopy(ranks, index, ranks, index + 1, tail);
+            System.arraycopy(fingerprints, index, fingerprints, index + 1, tail);
+            items[index] = item;
+            ids[index] = id;
+            ranks[index] = rank;
+            fingerprints[index] = print;
+            size++;
+        } // End of method insertAt
+
+        /** @return the columns index and row key of {@code item}, packed as an id */
+        private static long idOf(List<? extends TaskColumns<?>> current, TaskItem item) {
+            for (int c = 0; c < current.size(); c++) {
+                int key = current.get(c).keyOf(item);
+                if (key >= 0) {
+                    return ((long) c << 32) | key;
+                }
+            }
+            throw new IllegalStateException("Item is not bound to the listed columns: " + item);
+        } // End of method idOf
+
+        /**
+         * Compares two snapshots by key and fires the matching list events.
+         *
+         * @return the number of rows reported as added, removed, or changed
+         */
+        private int reconcile(Object[] oldItems, long[] oldPrints, Object[] newItems, long[] newPrints) {
+            int oldSize = oldItems.length;
+            int newSize = newItems.length;
+
+            // --- Common prefix and suffix (same keys, values may differ) ---
+            int prefix = 0;
+            int maxPrefix = Math.min(oldSize, newSize);
+            while (prefix < maxPrefix && oldItems[prefix].equals(newItems[prefix])) {
+                prefix++;
+            }
+            int suffix = 0;
+            int maxSuffix = maxPrefix - prefix;
+            while (suffix < maxSuffix
+                    && oldItems[oldSize - 1 - suffix].equals(newItems[newSize - 1 - suffix])) {
+                suffix++;
+            }
+            int oldEnd = oldSize - suffix; // exclusive end of the differing window
+            int newEnd = newSize - suffix;
+
+            int changed = fireChangedRuns(oldPrints, newPrints, 0, 0, prefix);
+
+            // --- Differing window ---
+            int oldWindow = oldEnd - prefix;
+            int newWindow = newEnd - prefix;
+            if (oldWindow == 0 && newWindow > 0) {
+                fireIntervalAdded(this, prefix, newEnd - 1);
+                changed += newWindow;
+            } else if (newWindow == 0 && oldWindow > 0) {
+                fireIntervalRemoved(this, prefix, oldEnd - 1);
+                changed += oldWindow;
+            } else if (oldWindow > 0) {
+                int shift = movedShift(oldItems, newItems, prefix, oldEnd);
+                if (shift != 0) {
+                    // One item moved; the rows it passed keep their content
+                    int from = shift > 0 ? prefix : oldEnd - 1;
+                    int to = shift > 0 ? oldEnd - 1 : prefix;
+                    fireIntervalRemoved(this, from, from);
+                    fireIntervalAdded(this, to, to);
+                    int shifted = shift > 0 ? 1 : 0;
+                    changed += 1 + fireChangedRuns(oldPrints, newPrints,
+                            prefix + shifted, prefix + 1 - shifted, oldWindow - 1);
+                } else {
+                    int common = Math.min(oldWindow, newWindow);
+                    fireContentsChanged(this, prefix, prefix + common - 1);
+                    if (newWindow > common) {
+                        fireIntervalAdded(this, prefix + common, newEnd - 1);
+                    } else if (oldWindow > common) {
+                        fireIntervalRemoved(this, prefix + common, oldEnd - 1);
+                    }
+                    changed += Math.max(oldWindow, newWindow);
+                }
+            }
+
+            return changed + fireChangedRuns(oldPrints, newPrints, oldEnd, newEnd, suffix);
+        } // End of method reconcile
+
+        /**
+         * Checks whether the window {@code [from, to)} differs only by one item
+         * moving from one end to the other.
+         *
+         * @return {@code 1} if the first old item moved to the end, {@code -1} if
+         *         the last old item moved to the front, {@code 0} otherwise
+         */
+        private static int movedShift(Object[] oldItems, Object[] newItems, int from, int to) {
+            if (to - from < 2 || oldItems.length != newItems.length) {
+                return 0;
+            }
+            if (oldItems[from].equals(newItems[to - 1])
+                    && Arrays.equals(oldItems, from + 1, to, newItems, from, to - 1)) {
+                return 1;
+            }
+            if (oldItems[to - 1].equals(newItems[from])
+                    && Arrays.equals(oldItems, from, to - 1, newItems, from + 1, to)) {
+                return -1;
+            }
+            return 0;
+        } // End of method movedShift
+
+        /**
+         * Fires a contents-changed event for each run of rows whose fingerprint
+         * changed, comparing {@code count} rows pairwise.
+         *
+         * @return the number of changed rows
+         */
+        private int fireChangedRuns(long[] oldPrints, long[] newPrints, int oldFrom, int newFrom, int count) {
+            int changed = 0;
+            int runStart = -1;
+            for (int i = 0; i <= count; i++) {
+                boolean differs = i < count && oldPrints[oldFrom + i] != newPrints[newFrom + i];
+                if (differs && runStart < 0) {
+                    runStart = i;
+                } else if (!differs && runStart >= 0) {
+                    fireContentsChanged(this, newFrom + runStart, newFrom + i - 1);
+                    changed += i - runStart;
+                    runStart = -1;
+                }
+            }
+            return changed;
+        } // End of method fireChangedRuns
+
+        /** @return a hash of everything a card shows for {@code item} */
+        private static long fingerprint(TaskItem item) {
+            LocalDate dueDate = item.getDueDate();
+            long hash = Objects.hashCode(item.getDescription());
+            hash = 31 * hash + item.getCostCents();
+            hash = 31 * hash + (dueDate != null ? dueDate.toEpochDay() : Long.MIN_VALUE);
+            return 2 * hash + (item.isComplete() ? 1 : 0);
+        } // End of method fingerprint
+    } // End of class TaskListModel
+
+
+    // --- Card Renderer ---
+
+    /** Paints every card with one set of components, refilled for each row. */
+    private final class CardRenderer implements ListCellRenderer<T> {
+        private final JPanel root;
+        private final JLabel descriptionLabel = new JLabel();
+        private final JLabel costLabel = new JLabel();
+        private final JLabel dateLabel = new JLabel();
+        private final JLabel tagLabel = new JLabel("", SwingConstants.CENTER);
+        private final JButton completeButton;
+        private final JButton doneButton;
+        private final JButton deleteButton;
+        private final JButton[] actionButtons;
+
+        CardRenderer(boolean showTypeTag, boolean deletable) {
+            int cardHeight = showTypeTag ? TAGGED_CARD_HEIGHT : CARD_HEIGHT;
+            JPanel card = SharedUI.createCardPanel(cardHeight);
+            card.setLayout(new BorderLayout());
+
+            // --- Left Side: Text Info ---
+            descriptionLabel.setFont(UITheme.bodyFont(Font.BOLD, 13f));
+            costLabel.setFont(UITheme.BODY_FONT);
+            dateLabel.setFont(UITheme.bodyFont(Font.PLAIN, 11f));
+
+            JPanel textPanel = new JPanel();
+            textPanel.setOpaque(false);
+            textPanel.setLayout(new BoxLayout(textPanel, BoxLayout.Y_AXIS));
+            textPanel.add(descriptionLabel);
+            textPanel.add(costLabel);
+            textPanel.add(dateLabel);
+
+            JPanel infoPanel = new JPanel(new GridBagLayout());
+            infoPanel.setOpaque(false);
+            infoPanel.setBorder(BorderFactory.createEmptyBorder(0, 10, 0, 0));
+            GridBagConstraints gbcInfo = new GridBagConstraints();
+            gbcInfo.weightx = 1.0;
+            gbcInfo.weighty = 1.0;
+            gbcInfo.anchor = GridBagConstraints.WEST;
+            infoPanel.add(textPanel, gbcInfo);
+
+            // --- Right Side: Tag and Action Buttons ---
+            completeButton = createCardButton("Mark Complete", UITheme.PRIMARY_LIGHT);
+            doneButton = createCardButton("✓ Done", DONE_COLOR);
+            doneButton.setEnabled(false);
+            deleteButton = createCardButton("🗑 Delete", DELETE_COLOR);
+
+            JPanel buttonsPanel = new JPanel();
+            buttonsPanel.setOpaque(false);
+            buttonsPanel.setLayout(new BoxLayout(buttonsPanel, BoxLayout.Y_AXIS));
+            if (showTypeTag) {
+                tagLabel.setFont(UITheme.bodyFont(Font.BOLD, 11f));
+                tagLabel.setForeground(Color.WHITE);
+                tagLabel.setOpaque(true);
+                tagLabel.setBorder(BorderFactory.createEmptyBorder(4, 8, 4, 8));
+                tagLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+                buttonsPanel.add(tagLabel);
+                buttonsPanel.add(Box.createRigidArea(new Dimension(0, 6)));
+            }
+            buttonsPanel.add(completeButton);
+            buttonsPanel.add(doneButton);
+            if (deletable) {
+                buttonsPanel.add(Box.createRigidArea(new Dimension(0, 6)));
+                buttonsPanel.add(deleteButton);
+            }
+
+            JPanel rightPanel = new JPanel(new GridBagLayout());
+            rightPanel.setOpaque(false);
+            rightPanel.setBorder(BorderFactory.createEmptyBorder(6, 6, 6, 10));
+            rightPanel.add(buttonsPanel, new GridBagConstraints());
+
+            card.add(infoPanel, BorderLayout.CENTER);
+            card.add(rightPanel, BorderLayout.EAST);
+
+            // --- Gap between cards ---
+            root = new JPanel(new BorderLayout());
+            root.setOpaque(false);
+            root.setBorder(BorderFactory.createEmptyBorder(CARD_GAP / 2, 0, CARD_GAP / 2, 0));
+            root.add(card, BorderLayout.CENTER);
+
+            actionButtons = deletable
+                    ? new JButton[]{completeButton, deleteButton}
+                    : new JButton[]{completeButton};
+        } // End of constructor CardRenderer
+
+        @Override
+        public Component getListCellRendererComponent(JList<? extends T> list, T item, int index,
+                                                      boolean isSelected, boolean cellHasFocus) {
+            boolean isNeed = item instanceof Needs;
+            boolean complete = item.isComplete();
+            LocalDate dueDate = item.getDueDate();
+            boolean overdue = !complete && dueDate != null && dueDate.isBefore(LocalDate.now());
+
+            descriptionLabel.setText("• " + item.getDescription());
+            costLabel.setText(Money.format(item.getCostCents()));
+            dateLabel.setText((isNeed ? "Due: " : "Target: ") + dueDate);
+            dateLabel.setForeground(overdue ? OVERDUE_COLOR : Color.DARK_GRAY);
+
+            tagLabel.setText(isNeed ? "Need" : "Want");
+            tagLabel.setBackground(isNeed ? NEED_TAG_COLOR : WANT_TAG_COLOR);
+
+            completeButton.setVisible(!complete);
+            doneButton.setVisible(complete);
+            return root;
+        } // End of method getListCellRendererComponent
+
+        /** Creates one of the small rounded buttons shown on a card. */
+        private JButton createCardButton(String text, Color background) {
+            JButton button = SharedUI.createRoundedButton(text, background, Color.WHITE);
+            button.setFont(UITheme.bodyFont(Font.PLAIN, 11f));
+            button.setPreferredSize(BUTTON_SIZE);
+            button.setMinimumSize(BUTTON_SIZE);
+            button.setMaximumSize(BUTTON_SIZE);
+            button.setAlignmentX(Component.CENTER_ALIGNMENT);
+            return button;
+        } // End of method createCardButton
+    } // End of class CardRenderer
+
+} // End of class TaskListView
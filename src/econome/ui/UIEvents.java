@@ -0,0 +1,133 @@
+package econome.ui;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events emitted by the EconoMe user interface.
+ * <p>
+ * They time the work the screens do on the Event Dispatch Thread when their
+ * content changes and when the donut chart is painted, alongside the
+ * persistence events of the logic layer. Like those, they cost next to
+ * nothing unless a recording is running, and appear in the
+ * "EconoMe / UI" category under names starting with {@code econome.}.
+ * </p>
+ *
+ * <h3>Responsibilities:</h3>
+ * <ul>
+ *   <li>Define the event for refreshing a screen's task list.</li>
+ *   <li>Define the event for painting the donut chart.</li>
+ * </ul>
+ */
+final class UIEvents {
+
+    private UIEvents() {
+    } // End of constructor UIEvents
+
+
+    // --- Content Refresh ------------------------------------------------------
+
+    @Name("econome.ContentRefresh")
+    @Label("Refresh Screen Content")
+    @Category({"EconoMe", "UI"})
+    @Description("Updates a screen's task list, or rebuilds its content when switching to or from the empty state")
+    @StackTrace(false)
+    static final class ContentRefresh extends Event {
+        @Label("Screen")
+        String screen;
+
+        @Label("Items")
+        int items;
+
+        @Label("Changed Rows")
+        @Description("Rows the list reconciled as added, removed, or changed")
+        int changedRows;
+
+        @Label("Rebuilt")
+        @Description("Whether the content panel was rebuilt rather than only the list updated")
+        boolean rebuilt;
+
+        /**
+         * Starts timing a refresh.
+         *
+         * @param screen the screen being refreshed, e.g. "Needs"
+         * @return the started event
+         */
+        static ContentRefresh start(String screen) {
+            ContentRefresh event = new ContentRefresh();
+            event.screen = screen;
+            event.begin();
+            return event;
+        } // End of method start
+
+        /**
+         * Ends the refresh and records it if a recording wants it.
+         *
+         * @param view    the list that was reloaded, or {@code null} if the empty state is shown
+         * @param rebuilt whether the content panel was rebuilt
+         */
+        void finish(TaskListView<?> view, boolean rebuilt) {
+            end();
+            if (shouldCommit()) {
+                this.items = view != null ? view.getModel().getSize() : 0;
+                this.changedRows = view != null ? view.getLastChangedRows() : 0;
+                this.rebuilt = rebuilt;
+                commit();
+            }
+        } // End of method finish
+    } // End of class ContentRefresh
+
+
+    // --- Chart Painting -------------------------------------------------------
+
+    @Name("econome.DonutPaint")
+    @Label("Paint Donut Chart")
+    @Category({"EconoMe", "UI"})
+    @Description("Paints the allocation donut chart, redrawing its cached image if needed")
+    @StackTrace(false)
+    static final class DonutPaint extends Event {
+        @Label("Width")
+        int width;
+
+        @Label("Height")
+        int height;
+
+        @Label("Segments")
+        int segments;
+
+        @Label("Redrawn")
+        @Description("Whether the cached ring image was redrawn rather than only copied")
+        boolean redrawn;
+
+        /** @return a started event timing one paint */
+        static DonutPaint start() {
+            DonutPaint event = new DonutPaint();
+            event.begin();
+            return event;
+        } // End of method start
+
+        /**
+         * Ends the paint and records it if a recording wants it.
+         *
+         * @param width    the panel width
+         * @param height   the panel height
+         * @param segments the number of allocation segments
+         * @param redrawn  whether the cached ring image was redrawn
+         */
+        void finish(int width, int height, int segments, boolean redrawn) {
+            end();
+            if (shouldCommit()) {
+                this.width = width;
+                this.height = height;
+                this.segments = segments;
+                this.redrawn = redrawn;
+                commit();
+            }
+        } // End of method finish
+    } // End of class DonutPaint
+
+} // End of class UIEvents
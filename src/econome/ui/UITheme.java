@@ -1,6 +1,8 @@
 package econome.ui;
 
 import java.awt.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@code UITheme} defines all shared colors and fonts used across
@@ -10,6 +12,12 @@ import java.awt.*;
  * can be updated consistently across all UI classes without modifying
  * individual components.
  * </p>
+ * <p>
+ * It also caches derived resources. {@link #font(Font, int, float)} returns
+ * one shared instance for each base font, style, and size, so building many
+ * components does not create identical {@code Font} objects. Colors and the
+ * hand cursor are shared constants for the same reason.
+ * </p>
  *
  * <h3>Usage Guidelines:</h3>
  * <ul>
@@ -45,6 +53,32 @@ public class UITheme {
     /** Action-oriented green (e.g., Add or Save buttons). */
     public static final Color ACTION_GREEN = new Color(102, 187, 106);
 
+    /** Dark green for the Needs segment of charts and progress bars. */
+    public static final Color NEEDS_GREEN = new Color(56, 142, 60);
+
+    /** Destructive actions (e.g., Delete buttons). */
+    public static final Color DANGER = new Color(200, 80, 80);
+
+    /** Unfilled part of rings and progress bars. */
+    public static final Color TRACK = new Color(220, 225, 220);
+
+    /** Near-black text on light backgrounds. */
+    public static final Color TEXT_DARK = new Color(40, 40, 40);
+
+    /** Faint outline drawn around rounded buttons. */
+    public static final Color BUTTON_OUTLINE = new Color(0, 0, 0, 25);
+
+    /** Soft drop shadow under cards. */
+    public static final Color CARD_SHADOW = new Color(0, 0, 0, 35);
+
+
+    // ---------------------------------------------------------------------
+    // CURSORS
+    // ---------------------------------------------------------------------
+
+    /** Pointer shown over clickable elements. */
+    public static final Cursor HAND_CURSOR = Cursor.getPredefinedCursor(Cursor.HAND_CURSOR);
+
 
     // ---------------------------------------------------------------------
     // TYPOGRAPHY
@@ -58,4 +92,39 @@ public class UITheme {
 
     /** Standard text for body labels and general UI elements. */
     public static final Font BODY_FONT = new Font("SansSerif", Font.PLAIN, 14);
+
+
+    // ---------------------------------------------------------------------
+    // DERIVED FONTS
+    // ---------------------------------------------------------------------
+
+    /** Identifies a derived font. */
+    private record FontKey(Font base, int style, float size) {}
+
+    /** Derived fonts, shared by every component that asks for the same variant. */
+    private static final Map<FontKey, Font> DERIVED_FONTS = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a style and size variant of a theme font, creating it only once.
+     *
+     * @param base  the theme font to derive from (e.g., {@link #BODY_FONT})
+     * @param style the font style ({@link Font#PLAIN}, {@link Font#BOLD}, ...)
+     * @param size  the point size
+     * @return the shared derived font
+     */
+    public static Font font(Font base, int style, float size) {
+        return DERIVED_FONTS.computeIfAbsent(new FontKey(base, style, size),
+                key -> key.base().deriveFont(key.style(), key.size()));
+    } // End of method font
+
+    /**
+     * Returns a variant of {@link #BODY_FONT}, creating it only once.
+     *
+     * @param style the font style ({@link Font#PLAIN}, {@link Font#BOLD}, ...)
+     * @param size  the point size
+     * @return the shared derived font
+     */
+    public static Font bodyFont(int style, float size) {
+        return font(BODY_FONT, style, size);
+    } // End of method bodyFont
 } // End of class UITheme
\ No newline at end of file
@@ -2,7 +2,6 @@ package econome.ui;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.List;
 import econome.model.Profile;
 import econome.model.Wants;
 
@@ -15,15 +14,19 @@ import econome.model.Wants;
  *
  * <h3>Responsibilities:</h3>
  * <ul>
- *   <li>Display all recorded Want items as styled cards.</li>
+ *   <li>Display all recorded Want items as styled cards in a virtualized list.</li>
  *   <li>Allow users to add, mark complete, or delete Wants.</li>
  *   <li>Persist all changes to the active user profile.</li>
  * </ul>
  */
-public class WantsUI {
+public class WantsUI implements NavigationController.Screen {
     // --- Instance Variables ---
     private final Profile profile;
     private final SwingUI parent; // Reference to main dashboard
+    private TaskListView<Wants> wantsView; // Created with the first Want
+    private JScrollPane wantsScroll;
+    private final JPanel screen;       // Root panel shown by the NavigationController
+    private final JPanel contentPanel; // Holds the list or the empty-state label
 
     /**
      * Constructs the Wants screen for the given user profile.
@@ -34,213 +37,111 @@ public class WantsUI {
     public WantsUI(Profile profile, SwingUI parent) {
         this.profile = profile;
         this.parent = parent;
+        this.screen = SharedUI.createScreenPanel("Your Wants");
+        this.contentPanel = new JPanel(new BorderLayout());
         buildScreen();
     } // End of constructor
     
     /**
-     * Builds and displays the main Wants management screen.
+     * Builds the main Wants management screen.
      */
     private void buildScreen() {
-        // Create base mobile-sized dialog
-        JDialog dialog = SharedUI.createBaseScreen("Your Wants", parent);
-
         // --- Content area for listing wants ---
-        JPanel contentPanel = new JPanel(new BorderLayout());
         contentPanel.setOpaque(false);
         contentPanel.setBorder(BorderFactory.createEmptyBorder(10, 15, 10, 15));
-        dialog.add(contentPanel, BorderLayout.CENTER);
+        screen.add(contentPanel, BorderLayout.CENTER);
 
         // --- Add Want button ---
         JButton addButton = SharedUI.createRoundedButton("➕ Add Want",
-                new Color(102, 187, 106), Color.WHITE);
-        addButton.setFont(UITheme.BODY_FONT.deriveFont(Font.BOLD, 16f));
-        addButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
+                UITheme.PRIMARY_LIGHT, Color.WHITE);
+        addButton.setFont(UITheme.bodyFont(Font.BOLD, 16f));
+        addButton.setCursor(UITheme.HAND_CURSOR);
         addButton.addActionListener(e ->
-                parent.showAddWantDialog(() -> refreshWantsContent(dialog, contentPanel))
+                parent.showAddWantDialog(this::refreshWantsContent)
         );
 
         // --- Bottom section (Add button + Navigation bar) ---
-        JPanel bottom = SharedUI.createBottomSection(
-                dialog,
-                addButton,
-                new Runnable[]{
-                        () -> new NeedsUI(profile, parent),
-                        () -> new WantsUI(profile, parent),
-                        () -> parent.showSavingsMenu(),
-                        () -> parent.showSettingsMenu()
-                }
-        );
-        dialog.add(bottom, BorderLayout.SOUTH);
+        JPanel bottom = SharedUI.createBottomSection(parent, addButton);
+        screen.add(bottom, BorderLayout.SOUTH);
 
         // --- Load Wants ---
-        refreshWantsContent(dialog, contentPanel);
-        dialog.setVisible(true);
+        refreshWantsContent();
     } // End of method
 
     /**
-     * Refreshes and rebuilds the list of Wants displayed on screen.
+     * Refreshes the list of Wants displayed on screen.
      * Called whenever a Want is added, updated, or deleted.
-     *
-     * @param dialog        the parent dialog window
-     * @param contentPanel  the main content area container
+     * <p>
+     * While the list is showing, only the list's rows are reconciled; the
+     * content panel is rebuilt only when switching to or from the empty state.
+     * </p>
      */
-    private void refreshWantsContent(JDialog dialog, JPanel contentPanel) {
-        contentPanel.removeAll();
+    private void refreshWantsContent() {
+        UIEvents.ContentRefresh event = UIEvents.ContentRefresh.start("Wants");
+        boolean empty = profile.getWantsList().isEmpty();
+
+        // --- List already showing: update only the rows that changed ---
+        if (!empty && wantsScroll != null && wantsScroll.getParent() == contentPanel) {
+            wantsView.reload();
+            event.finish(wantsView, false);
+            return;
+        }
 
-        List<Wants> wants = profile.getWantsList();
+        contentPanel.removeAll();
 
         // --- Empty State ---
-        if (wants.isEmpty()) {
+        if (empty) {
             JLabel emptyLabel = new JLabel("(No wants yet)", SwingConstants.CENTER);
             emptyLabel.setFont(UITheme.BODY_FONT);
             contentPanel.add(emptyLabel, BorderLayout.CENTER);
         } else {
-            // --- Wants List ---
-            JPanel listPanel = new JPanel(new GridBagLayout());
-            listPanel.setOpaque(false);
-
-            GridBagConstraints gbc = new GridBagConstraints();
-            gbc.gridx = 0;
-            gbc.anchor = GridBagConstraints.NORTH;
-            gbc.fill = GridBagConstraints.HORIZONTAL;
-            gbc.weightx = 1.0;
-            gbc.insets = new Insets(5, 0, 5, 0);
-
-            int cardHeight = 85;
-
-            for (Wants wantItem : wants) {
-                // --- Card wrapper ---
-                JPanel card = SharedUI.createCardPanel(cardHeight);
-                card.setLayout(new BorderLayout());
-                card.setPreferredSize(new Dimension(320, cardHeight));
-                card.setMaximumSize(new Dimension(320, cardHeight));
-                card.setMinimumSize(new Dimension(320, cardHeight));
-
-                // --- Info section (LEFT: vertically centered, left-aligned) ---
-                JPanel textPanel = new JPanel();
-                textPanel.setOpaque(false);
-                textPanel.setLayout(new BoxLayout(textPanel, BoxLayout.Y_AXIS));
-
-                JLabel desc = new JLabel("• " + wantItem.getDescription());
-                desc.setFont(UITheme.BODY_FONT.deriveFont(Font.BOLD, 13f));
-
-                JLabel cost = new JLabel("$" + String.format("%.2f", wantItem.getCost()));
-                cost.setFont(UITheme.BODY_FONT);
-
-                JLabel date = new JLabel("Target: " + wantItem.getDueDate());
-                date.setFont(UITheme.BODY_FONT.deriveFont(11f));
-                date.setForeground(Color.DARK_GRAY);
-
-                textPanel.add(desc);
-                textPanel.add(cost);
-                textPanel.add(date);
-
-                JPanel infoPanel = new JPanel(new GridBagLayout());
-                infoPanel.setOpaque(false);
-                infoPanel.setBorder(BorderFactory.createEmptyBorder(0, 10, 0, 0));
-
-                GridBagConstraints gbcInfo = new GridBagConstraints();
-                gbcInfo.gridx = 0;
-                gbcInfo.gridy = 0;
-                gbcInfo.weightx = 1.0;
-                gbcInfo.weighty = 1.0;
-                gbcInfo.fill = GridBagConstraints.NONE;
-                gbcInfo.anchor = GridBagConstraints.WEST;
-                infoPanel.add(textPanel, gbcInfo);
-
-                // --- Right side: Buttons ---
-                JPanel rightPanel = new JPanel(new GridBagLayout());
-                rightPanel.setOpaque(false);
-                rightPanel.setBorder(BorderFactory.createEmptyBorder(6, 6, 6, 10));
-
-                JPanel buttonsPanel = new JPanel();
-                buttonsPanel.setOpaque(false);
-                buttonsPanel.setLayout(new BoxLayout(buttonsPanel, BoxLayout.Y_AXIS));
-
-                Dimension buttonSize = new Dimension(110, 29);
-
-                // Complete Button
-                JButton completeBtn = SharedUI.createRoundedButton(
-                		wantItem.isComplete() ? "✓ Done" : "Mark Complete",
-                		wantItem.isComplete() ? new Color(180, 180, 180) : UITheme.PRIMARY_LIGHT,
-                        Color.WHITE
-                );
-                completeBtn.setFont(UITheme.BODY_FONT.deriveFont(Font.PLAIN, 11f));
-                completeBtn.setEnabled(!wantItem.isComplete());
-                completeBtn.setFocusPainted(false);
-                completeBtn.setPreferredSize(buttonSize);
-                completeBtn.setMaximumSize(buttonSize);
-                completeBtn.setAlignmentX(Component.CENTER_ALIGNMENT);
-                completeBtn.addActionListener(e -> {
-                	wantItem.markComplete();
-                    profile.saveProfile(); // ✅ persist after marking complete
-                    refreshWantsContent(dialog, contentPanel);
-                });
-
-                // Delete Button
-                JButton deleteBtn = SharedUI.createRoundedButton(
-                        "🗑 Delete",
-                        new Color(200, 80, 80),
-                        Color.WHITE
-                );
-                deleteBtn.setFont(UITheme.BODY_FONT.deriveFont(Font.PLAIN, 11f));
-                deleteBtn.setFocusPainted(false);
-                deleteBtn.setPreferredSize(buttonSize);
-                deleteBtn.setMaximumSize(buttonSize);
-                deleteBtn.setAlignmentX(Component.CENTER_ALIGNMENT);
-                deleteBtn.addActionListener(e -> {
-                    int confirm = JOptionPane.showConfirmDialog(
-                            dialog,
-                            "Delete \"" + wantItem.getDescription() + "\"?",
-                            "Confirm Delete",
-                            JOptionPane.YES_NO_OPTION,
-                            JOptionPane.WARNING_MESSAGE
-                    );
-                    if (confirm == JOptionPane.YES_OPTION) {
-                        profile.removeWant(wantItem);
-                        refreshWantsContent(dialog, contentPanel);
-                    }
-                });
-
-                // Add both buttons with spacing
-                buttonsPanel.add(completeBtn);
-                buttonsPanel.add(Box.createRigidArea(new Dimension(0, 6)));
-                buttonsPanel.add(deleteBtn);
-
-                GridBagConstraints gbcRight = new GridBagConstraints();
-                gbcRight.gridx = 0;
-                gbcRight.gridy = 0;
-                gbcRight.anchor = GridBagConstraints.CENTER;
-                rightPanel.add(buttonsPanel, gbcRight);
-
-                // --- Assemble card ---
-                card.add(infoPanel, BorderLayout.CENTER);
-                card.add(rightPanel, BorderLayout.EAST);
-
-                gbc.gridy = listPanel.getComponentCount();
-                listPanel.add(card, gbc);
-            } // End of for-loop
-
-            gbc.weighty = 1;
-            listPanel.add(Box.createVerticalGlue(), gbc);
-
-            // --- Scroll Pane Setup ---
-            JScrollPane scroll = new JScrollPane(listPanel);
-            scroll.setVerticalScrollBarPolicy(ScrollPaneConstants.VERTICAL_SCROLLBAR_AS_NEEDED);
-            scroll.setHorizontalScrollBarPolicy(ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
-            scroll.setBorder(BorderFactory.createEmptyBorder()); 
-            scroll.setOpaque(true);
-            scroll.getViewport().setOpaque(true);
-            scroll.setBackground(UITheme.BACKGROUND);
-            scroll.getViewport().setBackground(UITheme.BACKGROUND);
-            scroll.getVerticalScrollBar().setUnitIncrement(16);
-            scroll.getVerticalScrollBar().setPreferredSize(new Dimension(12, 0));
-
-            contentPanel.setBorder(BorderFactory.createEmptyBorder(12, 12, 12, 0)); 
-            contentPanel.add(scroll, BorderLayout.CENTER);
+            // --- Wants List (virtualized: only visible cards are painted) ---
+            if (wantsView == null) {
+                wantsView = new TaskListView<>(profile::getWantColumns, false,
+                        item -> {
+                            profile.markWantComplete(item); // Persist completion state
+                            refreshWantsContent();
+                        },
+                        item -> {
+                            int confirm = JOptionPane.showConfirmDialog(
+                                    screen,
+                                    "Delete \"" + item.getDescription() + "\"?",
+                                    "Confirm Delete",
+                                    JOptionPane.YES_NO_OPTION,
+                                    JOptionPane.WARNING_MESSAGE
+                            );
+                            if (confirm == JOptionPane.YES_OPTION) {
+                                profile.removeWant(item);
+                                refreshWantsContent();
+                            }
+                        });
+                wantsScroll = wantsView.createScrollPane();
+            }
+            wantsView.reload();
+
+            contentPanel.setBorder(BorderFactory.createEmptyBorder(12, 12, 12, 0));
+            contentPanel.add(wantsScroll, BorderLayout.CENTER);
         }
 
         contentPanel.revalidate();
         contentPanel.repaint();
+        event.finish(empty ? null : wantsView, true);
     } // End of method refreshWantsContent
+
+
+    // -------------------------------------------------------------------------
+    // NAVIGATION
+    // -------------------------------------------------------------------------
+
+    /** @return the root panel of this screen */
+    @Override
+    public JComponent getComponent() {
+        return screen;
+    } // End of method getComponent
+
+    /** Re-reads the Wants after the profile changed on another screen. */
+    @Override
+    public void refresh() {
+        refreshWantsContent();
+    } // End of method refresh
 } // End of class WantsUI
\ No newline at end of file
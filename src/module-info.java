@@ -6,4 +6,5 @@
  */
 module EconoMeProject {
 	requires java.desktop; 	// For Swing and AWT
+	requires jdk.jfr; 		// For Flight Recorder events
 }
\ No newline at end of file